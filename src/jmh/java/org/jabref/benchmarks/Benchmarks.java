@@ -3,18 +3,30 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.Globals;
+import org.jabref.logic.bibtex.comparator.BibEntrySorter;
+import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
+import org.jabref.logic.bibtex.comparator.FieldComparator;
+import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
+import org.jabref.logic.bst.BstProgram;
+import org.jabref.logic.bst.VM;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.SearchIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -22,6 +34,8 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.groups.GroupHierarchyType;
@@ -33,6 +47,7 @@ import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -47,6 +62,8 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private String unicodeConversionString;
+    private int noteCounter;
 
     @Setup
     public void init() throws Exception {
@@ -54,15 +71,7 @@ public class Benchmarks {
 
         Random randomizer = new Random();
         for (int i = 0; i < 1000; i++) {
-            BibEntry entry = new BibEntry();
-            entry.setCitationKey("id" + i);
-            entry.setField(StandardField.TITLE, "This is my title " + i);
-            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
-            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
-            entry.setField(StandardField.KEYWORDS, "testkeyword");
-            entry.setField(StandardField.YEAR, "1" + i);
-            entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
-            database.insertEntry(entry);
+            database.insertEntry(createEntry(i, randomizer));
         }
 
         bibtexString = getOutputWriter().toString();
@@ -70,6 +79,8 @@ public class Benchmarks {
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        unicodeConversionString = "Österreich – “Mönch” and Ærø: a\u0301 study of ∑ and α in H₂O, 2×10³ µm";
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -104,6 +115,33 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    /**
+     * Same query as {@link #search()}, but answered using the inverted index
+     */
+    @Benchmark
+    public List<BibEntry> indexedSearch(SearchIndexState state) {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", false, false);
+        return state.searchIndex.search(searchQuery);
+    }
+
+    @Benchmark
+    public List<BibEntry> indexedAdvancedSearch(SearchIndexState state) {
+        SearchQuery searchQuery = new SearchQuery("title = \"my title\" and author = lastnamea and journal != \"Journal Title 500\"", false, false);
+        return state.searchIndex.search(searchQuery);
+    }
+
+    @Benchmark
+    public List<BibEntry> advancedSearch() {
+        SearchQuery searchQuery = new SearchQuery("title = \"my title\" and author = lastnamea and journal != \"Journal Title 500\"", false, false);
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> parallelAdvancedSearch() {
+        SearchQuery searchQuery = new SearchQuery("title = \"my title\" and author = lastnamea and journal != \"Journal Title 500\"", false, false);
+        return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -127,12 +165,185 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    @Benchmark
+    public String unicodeToLatexConversion() {
+        UnicodeToLatexFormatter f = new UnicodeToLatexFormatter();
+        return f.format(unicodeConversionString);
+    }
+
     @Benchmark
     public boolean keywordGroupContains() {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false, ',', false);
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public Optional<BibEntry> citationKeyLookupByScan(CitationKeyLookupState state) {
+        // Baseline: the linear scan used before the citation key index was introduced
+        for (BibEntry entry : state.database.getEntries()) {
+            if (state.keyToLookUp.equals(entry.getCitationKey().orElse(null))) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<BibEntry> citationKeyLookupByIndex(CitationKeyLookupState state) {
+        return state.database.getEntryByCitationKey(state.keyToLookUp);
+    }
+
+    @Benchmark
+    public boolean duplicateCitationKeyCheck(CitationKeyLookupState state) {
+        return state.database.isDuplicateCitationKeyExisting(state.keyToLookUp);
+    }
+
+    /**
+     * Measures creating and inserting entries, which includes registering the change listeners of the database.
+     * Run with {@code -prof gc} to see the allocated heap per operation.
+     */
+    @Benchmark
+    public BibDatabase createDatabase() {
+        BibDatabase newDatabase = new BibDatabase();
+        for (int i = 0; i < 10000; i++) {
+            newDatabase.insertEntry(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "Title " + i));
+        }
+        return newDatabase;
+    }
+
+    /**
+     * Measures the dispatching of change events to the database, as done by bulk operations like cleanups
+     */
+    @Benchmark
+    public int setFieldOfAllEntries() {
+        int changes = 0;
+        String note = "note " + (noteCounter++);
+        for (BibEntry entry : database.getEntries()) {
+            if (entry.setField(StandardField.NOTE, note).isPresent()) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Renders the library with a .bst style by interpreting the parse tree
+     */
+    @Benchmark
+    public String bstRenderingByVM(BstState state) {
+        return state.vm.run(database.getEntries());
+    }
+
+    /**
+     * Renders the library with the same .bst style compiled into closures
+     */
+    @Benchmark
+    public String bstRenderingByCompiledProgram(BstState state) {
+        return state.program.run(database.getEntries());
+    }
+
+    /**
+     * Sorts the library in the save order by comparing the entries directly, which looks up the sort keys of both
+     * entries on every comparison
+     */
+    @Benchmark
+    public List<BibEntry> saveOrderSortByComparators(SaveOrderState state) {
+        List<BibEntry> sorted = new ArrayList<>(database.getEntries());
+        sorted.sort(new FieldComparatorStack<>(state.comparators));
+        return sorted;
+    }
+
+    /**
+     * Sorts the library in the save order with the sort keys looked up once per entry in parallel. After the first
+     * iteration, the keys are taken from the cache.
+     */
+    @Benchmark
+    public List<BibEntry> saveOrderSortBySortKeys(SaveOrderState state) {
+        return new BibEntrySorter(state.comparators).sort(database.getEntries());
+    }
+
+    private static BibEntry createEntry(int i, Random randomizer) {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("id" + i);
+        entry.setField(StandardField.TITLE, "This is my title " + i);
+        entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+        entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+        entry.setField(StandardField.KEYWORDS, "testkeyword");
+        entry.setField(StandardField.YEAR, "1" + i);
+        entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
+        return entry;
+    }
+
+    /**
+     * Library with a search index. Separate from the main library, because maintaining the index would distort the
+     * benchmarks changing entries.
+     */
+    @State(Scope.Benchmark)
+    public static class SearchIndexState {
+
+        private final BibDatabase database = new BibDatabase();
+        private SearchIndex searchIndex;
+
+        @Setup
+        public void init() {
+            Random randomizer = new Random();
+            for (int i = 0; i < 1000; i++) {
+                database.insertEntry(createEntry(i, randomizer));
+            }
+            searchIndex = new SearchIndex(database);
+            // build the index outside of the measurement
+            searchIndex.search(new SearchQuery("Journal", false, false));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CitationKeyLookupState {
+
+        @Param({"10000", "100000"})
+        public int numberOfEntries;
+
+        private final BibDatabase database = new BibDatabase();
+        private String keyToLookUp;
+
+        @Setup
+        public void init() {
+            for (int i = 0; i < numberOfEntries; i++) {
+                database.insertEntry(new BibEntry().withCitationKey("key" + i));
+            }
+            // Worst case for the scan: the key of the last entry
+            keyToLookUp = "key" + (numberOfEntries - 1);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SaveOrderState {
+
+        // the comparators BibDatabaseWriter uses for the save order "author, year descending, title"
+        private final List<Comparator<BibEntry>> comparators = List.of(
+                new CrossRefEntryComparator(),
+                new FieldComparator(StandardField.AUTHOR),
+                new FieldComparator(new OrFields(StandardField.YEAR), true),
+                new FieldComparator(StandardField.TITLE),
+                new FieldComparator(InternalField.KEY_FIELD));
+    }
+
+    @State(Scope.Benchmark)
+    public static class BstState {
+
+        // abbrv.bst is plain.bst with abbreviated first names
+        private static final Path STYLE = Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst");
+
+        private VM vm;
+        private BstProgram program;
+
+        @Setup
+        public void init() throws Exception {
+            // Both are created once, so that only the execution of the style is measured
+            vm = new VM(STYLE.toFile());
+            program = BstProgram.parse(STYLE);
+        }
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
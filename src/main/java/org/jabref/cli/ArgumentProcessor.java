@@ -321,7 +321,7 @@ public class ArgumentProcessor {
                 boolean bibExtension = aLeftOver.toLowerCase(Locale.ENGLISH).endsWith("bib");
                 ParserResult pr = new ParserResult();
                 if (bibExtension) {
-                    pr = OpenDatabase.loadDatabase(aLeftOver, Globals.prefs.getImportFormatPreferences(), Globals.prefs.getTimestampPreferences(), Globals.getFileUpdateMonitor());
+                    pr = OpenDatabase.loadDatabase(aLeftOver, Globals.prefs.getImportFormatPreferences(), Globals.prefs.getTimestampPreferences(), Globals.getFileUpdateMonitor(), Globals.AUX_KEY_CACHE);
                 }
 
                 if (!bibExtension || (pr.isEmpty())) {
@@ -500,7 +500,8 @@ public class ArgumentProcessor {
                     parserResult.getDatabaseContext(),
                     Globals.prefs.getFilePreferences(),
                     Globals.prefs.getAutoLinkPreferences(),
-                    ExternalFileTypes.getInstance());
+                    ExternalFileTypes.getInstance(),
+                    Globals.getFileIndexes());
             util.linkAssociatedFiles(database.getEntries(), new NamedCompound(""));
         }
     }
@@ -512,9 +513,7 @@ public class ArgumentProcessor {
             LOGGER.info(Localization.lang("Regenerating citation keys according to metadata"));
 
             CitationKeyGenerator keyGenerator = new CitationKeyGenerator(parserResult.getDatabaseContext(), Globals.prefs.getCitationKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
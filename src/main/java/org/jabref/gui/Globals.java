@@ -7,19 +7,25 @@ import java.util.UUID;
 import javafx.stage.Screen;
 
 import org.jabref.architecture.AllowedToUseAwt;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.keyboard.KeyBindingRepository;
 import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.pdf.CachingAnnotationImporter;
+import org.jabref.logic.pdf.PdfAnnotationImporter;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.io.FileIndexes;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -52,6 +58,9 @@ public class Globals {
     public static final ImportFormatReader IMPORT_FORMAT_READER = new ImportFormatReader();
     public static final TaskExecutor TASK_EXECUTOR = new DefaultTaskExecutor(stateManager);
 
+    // Shared by the TeX groups of all libraries, so that an AUX file used by several groups is only read once
+    public static final AuxKeyCache AUX_KEY_CACHE = new AuxKeyCache();
+
     /**
      * Each test case initializes this field if required
      */
@@ -83,6 +92,11 @@ public class Globals {
     private static DefaultFileUpdateMonitor fileUpdateMonitor;
     private static TelemetryClient telemetryClient;
 
+    // Shared by all libraries, as the on-disk tier can only be opened once
+    private static CachingAnnotationImporter annotationImporter;
+
+    private static FileIndexes fileIndexes;
+
     private Globals() {
     }
 
@@ -101,6 +115,25 @@ public class Globals {
         return clipBoardManager;
     }
 
+    public static synchronized CachingAnnotationImporter getAnnotationImporter() {
+        if (annotationImporter == null) {
+            annotationImporter = new CachingAnnotationImporter(
+                    new PdfAnnotationImporter(),
+                    CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES,
+                    Optional.of(JabRefDesktop.getNativeDesktop().getCacheDirectory().resolve("annotations.mv")));
+        }
+        return annotationImporter;
+    }
+
+    public static synchronized FileIndexes getFileIndexes() {
+        if (fileIndexes == null) {
+            // Without a running monitor, the indexes check the modification times of the directories instead
+            FileUpdateMonitor monitor = fileUpdateMonitor == null ? new DummyFileUpdateMonitor() : fileUpdateMonitor;
+            fileIndexes = new FileIndexes(monitor);
+        }
+        return fileIndexes;
+    }
+
     // Background tasks
     public static void startBackgroundTasks() {
         Globals.fileUpdateMonitor = new DefaultFileUpdateMonitor();
@@ -149,6 +182,11 @@ public class Globals {
     public static void stopBackgroundTasks() {
         stopTelemetryClient();
         Unirest.shutDown();
+        synchronized (Globals.class) {
+            if (annotationImporter != null) {
+                annotationImporter.close();
+            }
+        }
     }
 
     public static Optional<TelemetryClient> getTelemetryClient() {
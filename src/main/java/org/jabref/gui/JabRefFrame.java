@@ -408,6 +408,7 @@ public class JabRefFrame extends BorderPane {
 
         WaitForSaveFinishedDialog waitForSaveFinishedDialog = new WaitForSaveFinishedDialog(dialogService);
         waitForSaveFinishedDialog.showAndWait(getLibraryTabs());
+        getLibraryTabs().forEach(LibraryTab::cleanUp);
 
         // Good bye!
         tearDownJabRef(filenames);
@@ -1151,6 +1152,9 @@ public class JabRefFrame extends BorderPane {
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             libraryTab.cleanUp();
             tabbedPane.getTabs().remove(libraryTab);
+            Globals.getFileIndexes().retainDirectories(getLibraryTabs().stream()
+                                                                       .flatMap(tab -> tab.getBibDatabaseContext().getFileDirectories(prefs.getFilePreferences()).stream())
+                                                                       .collect(Collectors.toSet()));
         });
     }
 
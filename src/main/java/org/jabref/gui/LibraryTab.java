@@ -1,6 +1,7 @@
 package org.jabref.gui;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -25,6 +26,7 @@ import org.jabref.gui.autocompleter.PersonNameSuggestionProvider;
 import org.jabref.gui.autocompleter.SuggestionProviders;
 import org.jabref.gui.collab.DatabaseChangeMonitor;
 import org.jabref.gui.collab.DatabaseChangePane;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.dialogs.AutosaveUiManager;
 import org.jabref.gui.entryeditor.EntryEditor;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
@@ -63,6 +65,7 @@ import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.hash.Hashing;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.Subscription;
 import org.slf4j.Logger;
@@ -116,10 +119,10 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getMetaData().registerListener(this);
 
         this.sidePaneManager = frame.getSidePaneManager();
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, Globals.stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, Globals.stateManager, Globals.TASK_EXECUTOR);
 
-        citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
+        citationStyleCache = createCitationStyleCache(bibDatabaseContext);
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences(), Globals.getAnnotationImporter());
 
         setupMainPanel();
         setupAutoCompletion();
@@ -214,9 +217,9 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, Globals.stateManager);
-        citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, Globals.stateManager, Globals.TASK_EXECUTOR);
+        citationStyleCache = createCitationStyleCache(bibDatabaseContext);
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences(), Globals.getAnnotationImporter());
 
         setupMainPanel();
         setupAutoCompletion();
@@ -667,11 +670,26 @@ public class LibraryTab extends Tab {
         }
     }
 
+    /**
+     * Creates the cache of the rendered previews of the given library. The previews of a saved library are kept on
+     * disk in a file of the user cache directory, so that they do not have to be rendered again after a restart.
+     */
+    private CitationStyleCache createCitationStyleCache(BibDatabaseContext databaseContext) {
+        int cacheSize = preferencesService.getPreviewPreferences().getCitationCacheSize();
+        Optional<Path> cacheFile = databaseContext.getDatabasePath().map(databasePath -> {
+            String fileName = Hashing.sha256().hashString(databasePath.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8) + ".mv";
+            return JabRefDesktop.getNativeDesktop().getCacheDirectory().resolve("citations").resolve(fileName);
+        });
+        return new CitationStyleCache(databaseContext, cacheSize, cacheFile);
+    }
+
     /**
      * Perform necessary cleanup when this BasePanel is closed.
      */
     public void cleanUp() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
+        tableModel.unregisterSearchIndex();
+        citationStyleCache.close();
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext);
     }
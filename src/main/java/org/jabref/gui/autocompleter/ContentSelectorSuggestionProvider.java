@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Enriches a suggestion provider by a given set of content selector values.
  */
@@ -20,6 +22,12 @@ public class ContentSelectorSuggestionProvider extends StringSuggestionProvider
         this.contentSelectorValues = contentSelectorValues;
     }
 
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return Stream.concat(contentSelectorValues.stream().filter(value -> isMatch(value, request)),
+                suggestionProvider.getMatches(request));
+    }
+
     @Override
     public Stream<String> getSource() {
         return Stream.concat(contentSelectorValues.stream(), suggestionProvider.getSource());
@@ -23,7 +23,7 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(Collections.singletonList(Objects.requireNonNull(field)), database);
@@ -33,7 +33,12 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = SuggestionIndex.forPersonNames(fields, database);
+    }
+
+    PersonNameSuggestionProvider(Collection<Field> fields, SuggestionIndex<Author> index) {
+        this.fields = Objects.requireNonNull(fields);
+        this.index = index;
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -53,7 +58,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     @Override
     protected Comparator<Author> getComparator() {
-        return Comparator.comparing(Author::getNameForAlphabetization);
+        return index.byFrequency().thenComparing(Author::getNameForAlphabetization);
     }
 
     @Override
@@ -61,10 +66,13 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getLastFirst(false), request.getUserText());
     }
 
+    @Override
+    protected Stream<Author> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.getMatches(request.getUserText());
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getCandidates();
     }
 }
@@ -0,0 +1,295 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the suggestion candidates of some fields of all entries of a library. The candidates are sorted by their
+ * case-folded text, so that the candidates starting with the text typed by the user are looked up in time
+ * proportional to their number. The texts containing the typed text elsewhere are found through an index of their
+ * n-grams (up to {@link #GRAM_LENGTH} characters). Each candidate is stored once, together with the number of its
+ * occurrences, which ranks the matches.
+ *
+ * @param <T> Type of suggestions
+ * @implNote The index is built on the first lookup and then maintained from the change events of the library.
+ */
+class SuggestionIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+    private final Collection<Field> fields;
+    private final Function<BibEntry, Stream<T>> candidateExtractor;
+    private final Function<T, String> textExtractor;
+
+    // case-folded text -> candidates having this text -> number of occurrences
+    private final NavigableMap<String, Map<T, Integer>> candidates = new ConcurrentSkipListMap<>();
+    private final Map<BibEntry, List<T>> candidatesOfEntry = new IdentityHashMap<>();
+    // n-gram of at most GRAM_LENGTH characters -> case-folded texts containing it
+    private final Map<String, Set<String>> textsOfGram = new ConcurrentHashMap<>();
+    private volatile boolean built;
+
+    /**
+     * @param fields             the fields the candidates are taken from
+     * @param candidateExtractor determines the candidates of an entry
+     * @param textExtractor      determines the text of a candidate which is matched against the text typed by the user
+     */
+    SuggestionIndex(BibDatabase database, Collection<Field> fields, Function<BibEntry, Stream<T>> candidateExtractor, Function<T, String> textExtractor) {
+        this.database = Objects.requireNonNull(database);
+        this.fields = Objects.requireNonNull(fields);
+        this.candidateExtractor = candidateExtractor;
+        this.textExtractor = textExtractor;
+        database.registerListener(this);
+    }
+
+    /**
+     * Indexes the words of the given field
+     */
+    static SuggestionIndex<String> forWords(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database, List.of(field), entry -> entry.getFieldAsWords(field).stream(), Function.identity());
+    }
+
+    /**
+     * Indexes the full content of the given field
+     */
+    static SuggestionIndex<String> forValues(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database, List.of(field), entry -> entry.getField(field).stream(), Function.identity());
+    }
+
+    /**
+     * Indexes the persons of the given fields. The persons are matched by their "last, first" name.
+     */
+    static SuggestionIndex<Author> forPersonNames(Collection<Field> fields, BibDatabase database) {
+        return new SuggestionIndex<>(database, fields,
+                entry -> fields.stream()
+                               .flatMap(field -> entry.getField(field).stream())
+                               .map(AuthorList::parse)
+                               .flatMap(authors -> authors.getAuthors().stream()),
+                author -> author.getLastFirst(false));
+    }
+
+    /**
+     * Returns the candidates whose text contains the given text, ignoring case (as done by
+     * {@link org.jabref.model.strings.StringUtil#containsIgnoreCase(String, String)}). The candidates starting with the
+     * text come first. Both groups are ranked by the number of occurrences of the candidates, then by their text. The
+     * other candidates are only looked up if the stream is consumed further.
+     */
+    Stream<T> getMatches(String text) {
+        ensureBuilt();
+        String foldedText = fold(text);
+        List<String> prefixTexts = candidates.tailMap(foldedText).keySet().stream()
+                                             .takeWhile(key -> key.startsWith(foldedText))
+                                             .collect(Collectors.toList());
+        Stream<T> otherMatches = Stream.of(foldedText)
+                                       .flatMap(key -> rankByFrequency(getTextsContaining(key).stream()
+                                                                                              .filter(candidateText -> !candidateText.startsWith(key))
+                                                                                              .sorted()
+                                                                                              .collect(Collectors.toList())));
+        return Stream.concat(rankByFrequency(prefixTexts), otherMatches);
+    }
+
+    /**
+     * Returns the number of occurrences of the given candidate in the library
+     */
+    int getFrequency(T candidate) {
+        Map<T, Integer> candidatesWithText = candidates.get(fold(textExtractor.apply(candidate)));
+        if (candidatesWithText == null) {
+            return 0;
+        }
+        return candidatesWithText.getOrDefault(candidate, 0);
+    }
+
+    /**
+     * Returns a comparator putting the most frequent candidates first
+     */
+    Comparator<T> byFrequency() {
+        return Comparator.comparingInt(this::getFrequency).reversed();
+    }
+
+    /**
+     * Returns the candidates of the given texts, the most frequent first. Candidates with the same frequency keep the
+     * order of the texts.
+     */
+    private Stream<T> rankByFrequency(List<String> texts) {
+        List<Map.Entry<T, Integer>> rankedCandidates = new ArrayList<>();
+        for (String candidateText : texts) {
+            Map<T, Integer> candidatesWithText = candidates.get(candidateText);
+            if (candidatesWithText != null) {
+                candidatesWithText.forEach((candidate, count) -> rankedCandidates.add(Map.entry(candidate, count)));
+            }
+        }
+        rankedCandidates.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+        return rankedCandidates.stream().map(Map.Entry::getKey);
+    }
+
+    /**
+     * Returns the case-folded texts of the candidates containing the given case-folded text
+     */
+    private Set<String> getTextsContaining(String foldedText) {
+        if (foldedText.length() <= GRAM_LENGTH) {
+            return textsOfGram.getOrDefault(foldedText, Collections.emptySet());
+        }
+
+        // Check only the texts containing the rarest n-gram of the text
+        Set<String> rarestGramTexts = null;
+        for (int start = 0; start + GRAM_LENGTH <= foldedText.length(); start++) {
+            Set<String> texts = textsOfGram.get(foldedText.substring(start, start + GRAM_LENGTH));
+            if (texts == null) {
+                return Collections.emptySet();
+            }
+            if ((rarestGramTexts == null) || (texts.size() < rarestGramTexts.size())) {
+                rarestGramTexts = texts;
+            }
+        }
+        return rarestGramTexts.stream()
+                              .filter(candidateText -> candidateText.contains(foldedText))
+                              .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns all candidates, each one once
+     */
+    Stream<T> getCandidates() {
+        ensureBuilt();
+        return candidates.values().stream().flatMap(map -> map.keySet().stream());
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (!built) {
+                database.getEntries().forEach(this::addToIndex);
+                built = true;
+            }
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        updateIndex(event.getBibEntries(), true);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        updateIndex(event.getBibEntries(), false);
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        if ((event instanceof FieldChangedEvent) && !fields.contains(((FieldChangedEvent) event).getField())) {
+            return;
+        }
+        updateIndex(List.of(event.getBibEntry()), true);
+    }
+
+    private synchronized void updateIndex(Collection<BibEntry> entries, boolean index) {
+        if (!built) {
+            // the index is built from the current entries on the first lookup
+            return;
+        }
+        for (BibEntry entry : entries) {
+            removeFromIndex(entry);
+            if (index) {
+                addToIndex(entry);
+            }
+        }
+    }
+
+    private void addToIndex(BibEntry entry) {
+        List<T> candidatesToAdd = candidateExtractor.apply(entry).collect(Collectors.toList());
+        if (candidatesToAdd.isEmpty()) {
+            return;
+        }
+        candidatesOfEntry.put(entry, candidatesToAdd);
+        for (T candidate : candidatesToAdd) {
+            candidates.computeIfAbsent(fold(textExtractor.apply(candidate)), key -> {
+                addGrams(key);
+                return new ConcurrentHashMap<>();
+            }).merge(candidate, 1, Integer::sum);
+        }
+    }
+
+    private void removeFromIndex(BibEntry entry) {
+        List<T> candidatesToRemove = candidatesOfEntry.remove(entry);
+        if (candidatesToRemove == null) {
+            return;
+        }
+        for (T candidate : candidatesToRemove) {
+            String key = fold(textExtractor.apply(candidate));
+            Map<T, Integer> candidatesWithText = candidates.get(key);
+            candidatesWithText.computeIfPresent(candidate, (value, count) -> count == 1 ? null : count - 1);
+            if (candidatesWithText.isEmpty()) {
+                candidates.remove(key);
+                removeGrams(key);
+            }
+        }
+    }
+
+    private void addGrams(String text) {
+        for (String gram : getGrams(text)) {
+            textsOfGram.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(text);
+        }
+    }
+
+    private void removeGrams(String text) {
+        for (String gram : getGrams(text)) {
+            textsOfGram.computeIfPresent(gram, (key, texts) -> {
+                texts.remove(text);
+                return texts.isEmpty() ? null : texts;
+            });
+        }
+    }
+
+    /**
+     * Returns all substrings of the given text with at most {@link #GRAM_LENGTH} characters
+     */
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < text.length(); start++) {
+            for (int end = start + 1; (end <= start + GRAM_LENGTH) && (end <= text.length()); end++) {
+                grams.add(text.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Folds the case of each character as done by {@link String#regionMatches(boolean, int, String, int, int)}, so that
+     * a folded text contains another folded text iff the text contains the other one ignoring case.
+     */
+    static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
@@ -46,13 +46,12 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return getMatches(request).map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                                      .distinct()
+                                      .limit(10)
+                                      .map(Equivalence.Wrapper::get)
+                                      .sorted(comparator)
+                                      .collect(Collectors.toList());
         } else {
             return Collections.emptyList();
         }
@@ -80,5 +79,16 @@ public abstract class SuggestionProvider<T> {
      */
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
+    /**
+     * Get the candidates matching the given request. Only the first distinct matches are used as suggestions, so the
+     * stream should be lazy.
+     * <p>
+     * Providers which can look up the matches directly (e.g., in a {@link SuggestionIndex}) override this method
+     * instead of filtering the whole source.
+     */
+    protected Stream<T> getMatches(ISuggestionRequest request) {
+        return getSource().filter(candidate -> isMatch(candidate, request));
+    }
+
     public abstract Stream<T> getSource();
 }
@@ -113,10 +113,11 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
+                        List<String> newKeys = keyGenerator.generateKeys(entries);
                         int entriesDone = 0;
                         for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
+                            entry.setCitationKey(newKeys.get(entriesDone))
+                                 .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
                             entriesDone++;
                             int finalEntriesDone = entriesDone;
                             DefaultTaskExecutor.runInJavaFXThread(() -> {
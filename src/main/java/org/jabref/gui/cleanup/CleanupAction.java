@@ -2,6 +2,7 @@ package org.jabref.gui.cleanup;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.Globals;
@@ -12,7 +13,9 @@ import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.cleanup.CleanupPreset;
+import org.jabref.logic.cleanup.CleanupResult;
 import org.jabref.logic.cleanup.CleanupWorker;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.FieldChange;
@@ -81,30 +84,31 @@ public class CleanupAction extends SimpleCommand {
 
             preferences.setCleanupPreset(preset);
 
-            BackgroundTask.wrap(() -> cleanup(stateManager.getActiveDatabase().get(), preset))
-                          .onSuccess(result -> showResults())
-                          .executeWith(Globals.TASK_EXECUTOR);
+            List<BibEntry> entries = List.copyOf(stateManager.getSelectedEntries());
+            BackgroundTask<CleanupResult> cleanupTask = new BackgroundTask<>() {
+                @Override
+                protected CleanupResult call() {
+                    return cleanup(stateManager.getActiveDatabase().get(), preset, entries,
+                            (entriesDone, entriesCount) -> DefaultTaskExecutor.runInJavaFXThread(() -> {
+                                updateProgress(entriesDone, entriesCount);
+                                updateMessage(Localization.lang("%0/%1 entries", entriesDone, entriesCount));
+                            }));
+                }
+            };
+            cleanupTask.withInitialMessage(Localization.lang("Cleanup entries"))
+                       .onSuccess(result -> {
+                           registerUndo(result.getChanges());
+                           showResults();
+                           if (result.hasFailures()) {
+                               dialogService.showWarningDialogAndWait(Localization.lang("Cleanup entries"),
+                                       Localization.lang("Could not clean up %0 entries. See the log for details.", Integer.toString(result.getFailedEntries().size())));
+                           }
+                       })
+                       .onFailure(exception -> dialogService.showErrorDialogAndWait(Localization.lang("Cleanup entries"), exception))
+                       .executeWith(Globals.TASK_EXECUTOR);
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreset preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getCleanupPreferences(Globals.journalAbbreviationRepository),
-                preferences.getTimestampPreferences());
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -124,20 +128,29 @@ public class CleanupAction extends SimpleCommand {
         }
     }
 
-    private void cleanup(BibDatabaseContext databaseContext, CleanupPreset cleanupPreset) {
+    private CleanupResult cleanup(BibDatabaseContext databaseContext, CleanupPreset cleanupPreset, List<BibEntry> entries, BiConsumer<Integer, Integer> progressListener) {
         preferences.setCleanupPreset(cleanupPreset);
 
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getCleanupPreferences(Globals.journalAbbreviationRepository),
+                preferences.getTimestampPreferences());
 
-            doCleanup(databaseContext, cleanupPreset, entry, ce);
+        return cleaner.cleanup(cleanupPreset, entries, progressListener);
+    }
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                frame.getUndoManager().addEdit(ce);
-            }
+    /**
+     * Registers the undo action of the given changes. This includes the changes made to entries whose cleanup failed.
+     */
+    private void registerUndo(List<FieldChange> changes) {
+        NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entries"));
+        for (FieldChange change : changes) {
+            ce.addEdit(new UndoableFieldChange(change));
+        }
+        ce.end();
+        if (ce.hasEdits()) {
+            modifiedEntriesCount = (int) changes.stream().map(FieldChange::getEntry).distinct().count();
+            frame.getUndoManager().addEdit(ce);
         }
     }
 }
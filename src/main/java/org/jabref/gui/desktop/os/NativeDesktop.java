@@ -36,4 +36,18 @@ public interface NativeDesktop {
     default Path getUserDirectory() {
         return Path.of(System.getProperty("user.home"));
     }
+
+    /**
+     * Returns the directory where JabRef stores data which can be recomputed, e.g., parsed file annotations.
+     * Follows the XDG base directory specification by default.
+     *
+     * @return the path to the cache directory of JabRef. The directory does not need to exist.
+     */
+    default Path getCacheDirectory() {
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+        if ((cacheHome != null) && !cacheHome.isBlank()) {
+            return Path.of(cacheHome, "jabref");
+        }
+        return getUserDirectory().resolve(".cache").resolve("jabref");
+    }
 }
@@ -51,4 +51,9 @@ public class OSX implements NativeDesktop {
     public Path getApplicationDirectory() {
         return Path.of("/Applications");
     }
+
+    @Override
+    public Path getCacheDirectory() {
+        return getUserDirectory().resolve("Library").resolve("Caches").resolve("org.jabref");
+    }
 }
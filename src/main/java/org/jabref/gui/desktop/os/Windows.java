@@ -68,6 +68,16 @@ public class Windows implements NativeDesktop {
         return getUserDirectory();
     }
 
+    @Override
+    public Path getCacheDirectory() {
+        String localAppData = System.getenv("LOCALAPPDATA");
+
+        if (localAppData != null) {
+            return Path.of(localAppData, "JabRef", "cache");
+        }
+        return NativeDesktop.super.getCacheDirectory();
+    }
+
     @Override
     public void openFileWithApplication(String filePath, String application) throws IOException {
         new ProcessBuilder(Path.of(application).toString(), Path.of(filePath).toString()).start();
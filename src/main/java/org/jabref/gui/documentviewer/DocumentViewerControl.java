@@ -3,6 +3,7 @@ package org.jabref.gui.documentviewer;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Future;
 
 import javafx.animation.FadeTransition;
 import javafx.beans.property.DoubleProperty;
@@ -140,6 +141,7 @@ public class DocumentViewerControl extends StackPane {
         private final StackPane imageHolder;
         private final Rectangle background;
         private DocumentPageViewModel page;
+        private Future<Image> renderTask;
 
         public DocumentViewerPage(DocumentPageViewModel initialPage) {
             page = initialPage;
@@ -163,7 +165,7 @@ public class DocumentViewerControl extends StackPane {
                         progress.setVisible(false);
                         background.setVisible(false);
                     });
-            taskExecutor.execute(generateImage);
+            renderTask = taskExecutor.execute(generateImage);
 
             imageHolder.getChildren().setAll(background, progress, imageView);
         }
@@ -190,6 +192,9 @@ public class DocumentViewerControl extends StackPane {
         public void updateItem(DocumentPageViewModel page) {
             this.page = page;
 
+            // The previous page is no longer displayed by this cell, so there is no need to finish rendering it
+            renderTask.cancel(false);
+
             // First hide old page and show background instead (recalculate size of background to make sure its correct)
             background.setWidth(getDesiredWidth());
             background.setHeight(getDesiredHeight());
@@ -207,7 +212,7 @@ public class DocumentViewerControl extends StackPane {
                         fadeIn.setToValue(1);
                         fadeIn.play();
                     });
-            taskExecutor.execute(generateImage);
+            renderTask = taskExecutor.execute(generateImage);
         }
 
         private Image renderPage(DocumentPageViewModel page) {
@@ -0,0 +1,188 @@
+package org.jabref.gui.documentviewer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import org.jabref.architecture.AllowedToUseAwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Renders the pages of a pdf document and keeps the most recently rendered pages in memory.
+ * <p>
+ * Pages are rendered directly at the requested size. After a page is requested, the following pages are rendered in
+ * the background, so that they are available when the user scrolls down. Pending prefetches of pages far away from
+ * the last requested page are cancelled.
+ */
+@AllowedToUseAwt("Requires AWT due to PDFBox")
+class PdfDocumentRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfDocumentRenderer.class);
+
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+    private static final int PREFETCHED_PAGES = 2;
+
+    /**
+     * Shared by all documents; one thread suffices as the pages of a document can only be rendered one at a time
+     */
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "PDF page prefetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PDDocument document;
+    // PDFBox does not support rendering pages of the same document concurrently, thus all access is synchronized on it
+    private final PDFRenderer renderer;
+    private final Cache<RenderedPageKey, Image> renderedPages = CacheBuilder.newBuilder()
+                                                                          .maximumWeight(MAX_CACHED_BYTES)
+                                                                          .weigher((RenderedPageKey key, Image image) -> 4 * key.width * key.height)
+                                                                          .build();
+    private final Map<RenderedPageKey, Future<?>> prefetches = new ConcurrentHashMap<>();
+
+    PdfDocumentRenderer(PDDocument document) {
+        this.document = Objects.requireNonNull(document);
+        this.renderer = new PDFRenderer(document);
+    }
+
+    /**
+     * Returns the image of the given page in the given size and prefetches the following pages in the same size.
+     *
+     * @param pageIndex the zero-based index of the page
+     * @return the image, or null if the page could not be rendered
+     */
+    Image render(int pageIndex, int width, int height) {
+        RenderedPageKey key = new RenderedPageKey(pageIndex, width, height);
+        cancelDistantPrefetches(pageIndex);
+        try {
+            Image image = renderedPages.get(key, () -> renderPage(key));
+            prefetchFollowingPages(key);
+            return image;
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not render page {}", pageIndex + 1, e.getCause());
+            return null;
+        }
+    }
+
+    private void prefetchFollowingPages(RenderedPageKey key) {
+        int lastPage = key.pageIndex;
+        synchronized (renderer) {
+            PDPage page = document.getPage(key.pageIndex);
+            // Pages with a different format are displayed in a different size, which is not known here
+            while ((lastPage < key.pageIndex + PREFETCHED_PAGES) && (lastPage + 1 < document.getNumberOfPages())
+                    && hasSameFormat(page, document.getPage(lastPage + 1))) {
+                lastPage++;
+            }
+        }
+
+        for (int pageIndex = key.pageIndex + 1; pageIndex <= lastPage; pageIndex++) {
+            RenderedPageKey prefetchKey = new RenderedPageKey(pageIndex, key.width, key.height);
+            if (renderedPages.getIfPresent(prefetchKey) != null) {
+                continue;
+            }
+            prefetches.compute(prefetchKey, (newKey, prefetch) -> ((prefetch != null) && !prefetch.isDone())
+                    ? prefetch
+                    : PREFETCH_EXECUTOR.submit(() -> prefetch(newKey)));
+        }
+    }
+
+    private void prefetch(RenderedPageKey key) {
+        try {
+            renderedPages.get(key, () -> renderPage(key));
+        } catch (ExecutionException e) {
+            LOGGER.debug("Could not prefetch page {}", key.pageIndex + 1, e.getCause());
+        }
+    }
+
+    private void cancelDistantPrefetches(int pageIndex) {
+        prefetches.forEach((key, prefetch) -> {
+            if ((key.pageIndex < pageIndex - PREFETCHED_PAGES) || (key.pageIndex > pageIndex + PREFETCHED_PAGES)) {
+                prefetch.cancel(false);
+                prefetches.remove(key, prefetch);
+            }
+        });
+    }
+
+    private Image renderPage(RenderedPageKey key) throws IOException {
+        BufferedImage image;
+        synchronized (renderer) {
+            PDPage page = document.getPage(key.pageIndex);
+            PDRectangle cropBox = page.getCropBox();
+            float pageWidth = (page.getRotation() % 180 == 0) ? cropBox.getWidth() : cropBox.getHeight();
+            image = renderer.renderImage(key.pageIndex, key.width / pageWidth, ImageType.RGB);
+        }
+        return toFXImage(image);
+    }
+
+    /**
+     * Copies the pixels of the given RGB image directly into a JavaFX image
+     */
+    private static Image toFXImage(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        for (int i = 0; i < pixels.length; i++) {
+            // RGB images have no alpha channel, make them opaque
+            pixels[i] |= 0xFF000000;
+        }
+        WritableImage fxImage = new WritableImage(width, height);
+        fxImage.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return fxImage;
+    }
+
+    private static boolean hasSameFormat(PDPage page, PDPage otherPage) {
+        return (page.getRotation() == otherPage.getRotation())
+                && (page.getCropBox().getWidth() == otherPage.getCropBox().getWidth())
+                && (page.getCropBox().getHeight() == otherPage.getCropBox().getHeight());
+    }
+
+    private static class RenderedPageKey {
+
+        private final int pageIndex;
+        private final int width;
+        private final int height;
+
+        RenderedPageKey(int pageIndex, int width, int height) {
+            this.pageIndex = pageIndex;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            RenderedPageKey other = (RenderedPageKey) o;
+            return (pageIndex == other.pageIndex) && (width == other.width) && (height == other.height);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pageIndex, width, height);
+        }
+    }
+}
@@ -13,9 +13,11 @@ import org.apache.pdfbox.pdmodel.PDPageTree;
 public class PdfDocumentViewModel extends DocumentViewModel {
 
     private final PDDocument document;
+    private final PdfDocumentRenderer renderer;
 
     public PdfDocumentViewModel(PDDocument document) {
         this.document = Objects.requireNonNull(document);
+        this.renderer = new PdfDocumentRenderer(document);
         this.maxPagesProperty().set(document.getNumberOfPages());
     }
 
@@ -26,7 +28,7 @@ public class PdfDocumentViewModel extends DocumentViewModel {
         List<PdfDocumentPageViewModel> pdfPages = new ArrayList<>();
         // There is apparently no neat way to get the page number from a PDPage...thus this old-style for loop
         for (int i = 0; i < pages.getCount(); i++) {
-            pdfPages.add(new PdfDocumentPageViewModel(pages.get(i), i, document));
+            pdfPages.add(new PdfDocumentPageViewModel(pages.get(i), i, renderer));
         }
         return FXCollections.observableArrayList(pdfPages);
     }
@@ -1,7 +1,6 @@
 package org.jabref.gui.duplicationFinder;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +28,7 @@ import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.logic.database.DuplicateBlockingIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -48,6 +48,9 @@ public class DuplicateSearch extends SimpleCommand {
     private final SimpleStringProperty duplicateCountObservable = new SimpleStringProperty();
     private final SimpleStringProperty duplicateTotal = new SimpleStringProperty();
     private final SimpleIntegerProperty duplicateProgress = new SimpleIntegerProperty(0);
+    private final AtomicInteger checkedPairs = new AtomicInteger();
+    // The progress of the search itself, i.e., the number of checked candidate pairs out of all candidate pairs
+    private final SimpleStringProperty searchProgress = new SimpleStringProperty("");
     private final DialogService dialogService;
     private final StateManager stateManager;
 
@@ -69,6 +72,8 @@ public class DuplicateSearch extends SimpleCommand {
         libraryAnalyzed.set(false);
         autoRemoveExactDuplicates.set(false);
         duplicateCount.set(0);
+        checkedPairs.set(0);
+        searchProgress.set("");
 
         if (entries.size() < 2) {
             return;
@@ -82,23 +87,45 @@ public class DuplicateSearch extends SimpleCommand {
                       .executeWith(Globals.TASK_EXECUTOR);
     }
 
+    /**
+     * Checks all pairs of entries sharing a block of the {@link DuplicateBlockingIndex}. The pairs are checked in
+     * parallel. Each found duplicate is handed over to {@link #verifyDuplicates()} immediately.
+     */
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; (i < (entries.size() - 1)); i++) {
-            for (int j = i + 1; (j < entries.size()); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
+        Thread searchThread = Thread.currentThread();
+        List<List<BibEntry>> candidatePairs = new DuplicateBlockingIndex(entries).getCandidatePairs();
+        DuplicateCheck duplicateCheck = new DuplicateCheck(Globals.entryTypesManager);
+        int totalPairs = candidatePairs.size();
+        // Update the progress about a hundred times instead of for each pair
+        int progressStep = Math.max(1, totalPairs / 100);
+        updateSearchProgress(0, totalPairs);
+
+        candidatePairs.parallelStream()
+                      // the workers of the pool cannot see the interruption of the search thread otherwise
+                      .filter(pair -> !searchThread.isInterrupted())
+                      .filter(pair -> {
+                          boolean isDuplicate = duplicateCheck.isDuplicate(pair.get(0), pair.get(1), databaseMode);
+                          int checked = checkedPairs.incrementAndGet();
+                          if (((checked % progressStep) == 0) || (checked == totalPairs)) {
+                              updateSearchProgress(checked, totalPairs);
+                          }
+                          return isDuplicate;
+                      })
+                      .forEach(this::reportDuplicate);
+
+        if (!searchThread.isInterrupted()) {
+            libraryAnalyzed.set(true);
+        }
+    }
 
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
+    private void updateSearchProgress(int checked, int totalPairs) {
+        DefaultTaskExecutor.runInJavaFXThread(() ->
+                searchProgress.set(Localization.lang("%0/%1 candidate pairs checked", checked, totalPairs)));
+    }
 
-                if (new DuplicateCheck(Globals.entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
-        }
-        libraryAnalyzed.set(true);
+    private synchronized void reportDuplicate(List<BibEntry> pair) {
+        duplicates.add(pair);
+        duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
     }
 
     private DuplicateSearchResult verifyDuplicates() {
@@ -144,7 +171,8 @@ public class DuplicateSearch extends SimpleCommand {
     private void askResolveStrategy(DuplicateSearchResult result, BibEntry first, BibEntry second, DuplicateResolverType resolverType) {
         DuplicateResolverDialog dialog = new DuplicateResolverDialog(first, second, resolverType, frame.getCurrentLibraryTab().getBibDatabaseContext(), stateManager);
 
-        dialog.titleProperty().bind(Bindings.concat(dialog.getTitle()).concat(" (").concat(duplicateProgress.getValue()).concat("/").concat(duplicateTotal).concat(")"));
+        dialog.titleProperty().bind(Bindings.concat(dialog.getTitle()).concat(" (").concat(duplicateProgress.getValue()).concat("/").concat(duplicateTotal)
+                                            .concat(", ").concat(searchProgress).concat(")"));
 
         DuplicateResolverResult resolverResult = dialogService.showCustomDialogAndWait(dialog)
                                                               .orElse(DuplicateResolverResult.BREAK);
@@ -14,6 +14,7 @@ import org.jabref.gui.autocompleter.SuggestionProviders;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -28,6 +29,7 @@ public class DeprecatedFieldsTab extends FieldsEditorTab {
     private final BibEntryTypesManager entryTypesManager;
 
     public DeprecatedFieldsTab(BibDatabaseContext databaseContext,
+                               CitationStyleCache citationStyleCache,
                                SuggestionProviders suggestionProviders,
                                UndoManager undoManager,
                                DialogService dialogService,
@@ -37,7 +39,7 @@ public class DeprecatedFieldsTab extends FieldsEditorTab {
                                ExternalFileTypes externalFileTypes,
                                TaskExecutor taskExecutor,
                                JournalAbbreviationRepository journalAbbreviationRepository) {
-        super(false, databaseContext, suggestionProviders, undoManager, dialogService, preferences, stateManager, externalFileTypes, taskExecutor, journalAbbreviationRepository);
+        super(false, databaseContext, citationStyleCache, suggestionProviders, undoManager, dialogService, preferences, stateManager, externalFileTypes, taskExecutor, journalAbbreviationRepository);
         this.entryTypesManager = entryTypesManager;
 
         setText(Localization.lang("Deprecated fields"));
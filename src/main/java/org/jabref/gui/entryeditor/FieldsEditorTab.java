@@ -32,6 +32,7 @@ import org.jabref.gui.fieldeditors.FieldEditors;
 import org.jabref.gui.fieldeditors.FieldNameLabel;
 import org.jabref.gui.preview.PreviewPanel;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -45,6 +46,7 @@ abstract class FieldsEditorTab extends EntryEditorTab {
     protected final BibDatabaseContext databaseContext;
     private final Map<Field, FieldEditorFX> editors = new LinkedHashMap<>();
     private final boolean isCompressed;
+    private final CitationStyleCache citationStyleCache;
     private final SuggestionProviders suggestionProviders;
     private final DialogService dialogService;
     private final PreferencesService preferences;
@@ -59,6 +61,7 @@ abstract class FieldsEditorTab extends EntryEditorTab {
 
     public FieldsEditorTab(boolean compressed,
                            BibDatabaseContext databaseContext,
+                           CitationStyleCache citationStyleCache,
                            SuggestionProviders suggestionProviders,
                            UndoManager undoManager,
                            DialogService dialogService,
@@ -69,6 +72,7 @@ abstract class FieldsEditorTab extends EntryEditorTab {
                            JournalAbbreviationRepository journalAbbreviationRepository) {
         this.isCompressed = compressed;
         this.databaseContext = Objects.requireNonNull(databaseContext);
+        this.citationStyleCache = Objects.requireNonNull(citationStyleCache);
         this.suggestionProviders = Objects.requireNonNull(suggestionProviders);
         this.undoManager = Objects.requireNonNull(undoManager);
         this.dialogService = Objects.requireNonNull(dialogService);
@@ -229,7 +233,7 @@ abstract class FieldsEditorTab extends EntryEditorTab {
 
             SplitPane container = new SplitPane(scrollPane);
             if (!preferences.getPreviewPreferences().showPreviewAsExtraTab()) {
-                previewPanel = new PreviewPanel(databaseContext, dialogService, externalFileTypes, preferences.getKeyBindingRepository(), preferences, stateManager);
+                previewPanel = new PreviewPanel(databaseContext, citationStyleCache, dialogService, externalFileTypes, preferences.getKeyBindingRepository(), preferences, stateManager);
                 container.getItems().add(previewPanel);
             }
 
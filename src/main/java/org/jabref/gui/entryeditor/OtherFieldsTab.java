@@ -17,6 +17,7 @@ import org.jabref.gui.autocompleter.SuggestionProviders;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -34,6 +35,7 @@ public class OtherFieldsTab extends FieldsEditorTab {
     private final BibEntryTypesManager entryTypesManager;
 
     public OtherFieldsTab(BibDatabaseContext databaseContext,
+                          CitationStyleCache citationStyleCache,
                           SuggestionProviders suggestionProviders,
                           UndoManager undoManager,
                           DialogService dialogService,
@@ -45,6 +47,7 @@ public class OtherFieldsTab extends FieldsEditorTab {
                           JournalAbbreviationRepository journalAbbreviationRepository) {
         super(false,
                 databaseContext,
+                citationStyleCache,
                 suggestionProviders,
                 undoManager,
                 dialogService,
@@ -5,6 +5,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.preview.PreviewPanel;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -13,17 +14,20 @@ import org.jabref.preferences.PreferencesService;
 public class PreviewTab extends EntryEditorTab {
     private final DialogService dialogService;
     private final BibDatabaseContext databaseContext;
+    private final CitationStyleCache citationStyleCache;
     private final PreferencesService preferences;
     private final StateManager stateManager;
     private final ExternalFileTypes externalFileTypes;
     private PreviewPanel previewPanel;
 
     public PreviewTab(BibDatabaseContext databaseContext,
+                      CitationStyleCache citationStyleCache,
                       DialogService dialogService,
                       PreferencesService preferences,
                       StateManager stateManager,
                       ExternalFileTypes externalFileTypes) {
         this.databaseContext = databaseContext;
+        this.citationStyleCache = citationStyleCache;
         this.dialogService = dialogService;
         this.preferences = preferences;
         this.stateManager = stateManager;
@@ -55,7 +59,7 @@ public class PreviewTab extends EntryEditorTab {
     @Override
     protected void bindToEntry(BibEntry entry) {
         if (previewPanel == null) {
-            previewPanel = new PreviewPanel(databaseContext, dialogService, externalFileTypes, preferences.getKeyBindingRepository(), preferences, stateManager);
+            previewPanel = new PreviewPanel(databaseContext, citationStyleCache, dialogService, externalFileTypes, preferences.getKeyBindingRepository(), preferences, stateManager);
             setContent(previewPanel);
         }
 
@@ -14,6 +14,7 @@ import org.jabref.gui.autocompleter.SuggestionProviders;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -30,6 +31,7 @@ public class RequiredFieldsTab extends FieldsEditorTab {
     private final BibEntryTypesManager entryTypesManager;
 
     public RequiredFieldsTab(BibDatabaseContext databaseContext,
+                             CitationStyleCache citationStyleCache,
                              SuggestionProviders suggestionProviders,
                              UndoManager undoManager,
                              DialogService dialogService,
@@ -39,7 +41,7 @@ public class RequiredFieldsTab extends FieldsEditorTab {
                              ExternalFileTypes externalFileTypes,
                              TaskExecutor taskExecutor,
                              JournalAbbreviationRepository journalAbbreviationRepository) {
-        super(false, databaseContext, suggestionProviders, undoManager, dialogService,
+        super(false, databaseContext, citationStyleCache, suggestionProviders, undoManager, dialogService,
                 preferences, stateManager, externalFileTypes, taskExecutor, journalAbbreviationRepository);
         this.entryTypesManager = entryTypesManager;
 
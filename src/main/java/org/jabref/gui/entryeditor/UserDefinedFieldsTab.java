@@ -11,6 +11,7 @@ import org.jabref.gui.autocompleter.SuggestionProviders;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -24,6 +25,7 @@ public class UserDefinedFieldsTab extends FieldsEditorTab {
     public UserDefinedFieldsTab(String name,
                                 Set<Field> fields,
                                 BibDatabaseContext databaseContext,
+                                CitationStyleCache citationStyleCache,
                                 SuggestionProviders suggestionProviders,
                                 UndoManager undoManager,
                                 DialogService dialogService,
@@ -33,7 +35,7 @@ public class UserDefinedFieldsTab extends FieldsEditorTab {
                                 ExternalFileTypes externalFileTypes,
                                 TaskExecutor taskExecutor,
                                 JournalAbbreviationRepository journalAbbreviationRepository) {
-        super(false, databaseContext, suggestionProviders, undoManager, dialogService, preferences, stateManager, externalFileTypes, taskExecutor, journalAbbreviationRepository);
+        super(false, databaseContext, citationStyleCache, suggestionProviders, undoManager, dialogService, preferences, stateManager, externalFileTypes, taskExecutor, journalAbbreviationRepository);
 
         this.fields = new LinkedHashSet<>(fields);
 
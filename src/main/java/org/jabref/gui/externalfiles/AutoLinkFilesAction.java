@@ -7,6 +7,7 @@ import javax.swing.undo.UndoManager;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.Globals;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
@@ -52,7 +53,8 @@ public class AutoLinkFilesAction extends SimpleCommand {
                 database,
                 preferences.getFilePreferences(),
                 preferences.getAutoLinkPreferences(),
-                ExternalFileTypes.getInstance());
+                ExternalFileTypes.getInstance(),
+                Globals.getFileIndexes());
         final NamedCompound nc = new NamedCompound(Localization.lang("Automatically set file links"));
 
         Task<AutoSetFileLinksUtil.LinkFilesResult> linkFilesTask = new Task<>() {
@@ -7,15 +7,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.FileNodeViewModel;
+import org.jabref.logic.util.io.FileIndex;
+import org.jabref.logic.util.io.FileIndexes;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.preferences.FilePreferences;
@@ -34,18 +34,25 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     private final Filter<Path> fileFilter;
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final FileIndexes fileIndexes;
 
-    public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+    public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, BibDatabaseContext databaseContext, FilePreferences filePreferences, FileIndexes fileIndexes) {
         this.directory = directory;
         this.fileFilter = fileFilter;
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.fileIndexes = fileIndexes;
     }
 
     @Override
     protected FileNodeViewModel call() throws IOException {
+        // Return null if the directory is not valid.
+        if ((directory == null) || !Files.isDirectory(directory)) {
+            throw new IOException(String.format("Invalid directory for searching: %s", directory));
+        }
+
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
-        return searchDirectory(directory, unlinkedPDFFileFilter);
+        return searchDirectory(directory, unlinkedPDFFileFilter, fileIndexes.getIndex(directory));
     }
 
     /**
@@ -60,32 +67,36 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * <br>
      * For ensuring the capability to cancel the work of this recursive method, the first position in the integer array
      * 'state' must be set to 1, to keep the recursion running. When the states value changes, the method will resolve
-     * its recursion and return what it has saved so far.
-     *
-     * @throws IOException if directory is not a directory or empty
+     * its recursion and return what it has saved so far. <br>
+     * <br>
+     * The directories are not read from disk, but looked up in the given {@link FileIndex}.
      */
-    private FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter fileFilter) throws IOException {
-        // Return null if the directory is not valid.
-        if ((directory == null) || !Files.isDirectory(directory)) {
-            throw new IOException(String.format("Invalid directory for searching: %s", directory));
-        }
-
+    private FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter fileFilter, FileIndex fileIndex) {
         FileNodeViewModel parent = new FileNodeViewModel(directory);
-        Map<Boolean, List<Path>> fileListPartition;
 
-        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, fileFilter).spliterator(), false)) {
-            fileListPartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+        Optional<List<Path>> indexedSubDirectories = fileIndex.getSubdirectories(directory);
+        Optional<List<Path>> indexedFiles = fileIndex.getFiles(directory);
+        if (indexedSubDirectories.isEmpty() || indexedFiles.isEmpty()) {
+            // The directory could not be read (the index logged the reason) or was deleted in the meantime
+            return parent;
+        }
+
+        List<Path> files = new ArrayList<>();
+        try {
+            for (Path file : indexedFiles.get()) {
+                if (fileFilter.accept(file)) {
+                    files.add(file);
+                }
+            }
         } catch (IOException e) {
             LOGGER.error(String.format("%s while searching files: %s", e.getClass().getName(), e.getMessage()));
             return parent;
         }
 
-        List<Path> subDirectories = fileListPartition.get(true);
-        List<Path> files = new ArrayList<>(fileListPartition.get(false));
         int fileCount = 0;
 
-        for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, fileFilter);
+        for (Path subDirectory : indexedSubDirectories.get()) {
+            FileNodeViewModel subRoot = searchDirectory(subDirectory, fileFilter, fileIndex);
 
             if (!subRoot.getChildren().isEmpty()) {
                 fileCount += subRoot.getFileCount();
@@ -27,12 +27,10 @@ import org.jabref.gui.Globals;
 import org.jabref.gui.help.HelpAction;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.util.FileDialogConfiguration;
-import org.jabref.logic.auxparser.DefaultAuxParser;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.util.io.FileUtil;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.FieldFactory;
@@ -341,7 +339,7 @@ public class GroupDialogViewModel {
                         groupName,
                         groupHierarchySelectedProperty.getValue(),
                         Path.of(texGroupFilePathProperty.getValue().trim()),
-                        new DefaultAuxParser(new BibDatabase()),
+                        Globals.AUX_KEY_CACHE,
                         Globals.getFileUpdateMonitor(),
                         currentDatabase.getMetaData());
             }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.DialogService;
@@ -58,29 +59,34 @@ public class ImportAction {
      */
     public void automatedImport(List<String> filenames) {
         List<Path> files = filenames.stream().map(Path::of).collect(Collectors.toList());
-        BackgroundTask<ParserResult> task = BackgroundTask.wrap(() -> {
-            List<ImportFormatReader.UnknownFormatImport> imports = doImport(files);
-            // Ok, done. Then try to gather in all we have found. Since we might
-            // have found
-            // one or more bibtex results, it's best to gather them in a
-            // BibDatabase.
-            ParserResult bibtexResult = mergeImportResults(imports);
-
-            // TODO: show parserwarnings, if any (not here)
-            // for (ImportFormatReader.UnknownFormatImport p : imports) {
-            //    ParserResultWarningDialog.showParserResultWarningDialog(p.parserResult, frame);
-            // }
-            if (bibtexResult.isEmpty()) {
-                if (importError == null) {
-                    // TODO: No control flow using exceptions
-                    throw new JabRefException(Localization.lang("No entries found. Please make sure you are using the correct import filter."));
-                } else {
-                    throw importError;
+        BackgroundTask<ParserResult> task = new BackgroundTask<>() {
+            @Override
+            protected ParserResult call() throws Exception {
+                List<ImportFormatReader.UnknownFormatImport> imports = doImport(files,
+                        entriesRead -> DefaultTaskExecutor.runInJavaFXThread(() ->
+                                updateMessage(Localization.lang("%0 entries read", entriesRead))));
+                // Ok, done. Then try to gather in all we have found. Since we might
+                // have found
+                // one or more bibtex results, it's best to gather them in a
+                // BibDatabase.
+                ParserResult bibtexResult = mergeImportResults(imports);
+
+                // TODO: show parserwarnings, if any (not here)
+                // for (ImportFormatReader.UnknownFormatImport p : imports) {
+                //    ParserResultWarningDialog.showParserResultWarningDialog(p.parserResult, frame);
+                // }
+                if (bibtexResult.isEmpty()) {
+                    if (importError == null) {
+                        // TODO: No control flow using exceptions
+                        throw new JabRefException(Localization.lang("No entries found. Please make sure you are using the correct import filter."));
+                    } else {
+                        throw importError;
+                    }
                 }
-            }
 
-            return bibtexResult;
-        });
+                return bibtexResult;
+            }
+        };
 
         if (openInNew) {
             task.onSuccess(parserResult -> {
@@ -101,7 +107,11 @@ public class ImportAction {
         }
     }
 
-    private List<ImportFormatReader.UnknownFormatImport> doImport(List<Path> files) {
+    /**
+     * @param progressListener is called with the number of entries read so far from the current file, if the importer
+     *                         reads the file record by record
+     */
+    private List<ImportFormatReader.UnknownFormatImport> doImport(List<Path> files, IntConsumer progressListener) {
         // We import all files and collect their results:
         List<ImportFormatReader.UnknownFormatImport> imports = new ArrayList<>();
         for (Path filename : files) {
@@ -114,7 +124,7 @@ public class ImportAction {
                 } else {
                     DefaultTaskExecutor.runInJavaFXThread(() -> frame.getDialogService().notify(Localization.lang("Importing in %0 format", importer.get().getName()) + "..."));
                     // Specific importer:
-                    ParserResult pr = importer.get().importDatabase(filename, Globals.prefs.getDefaultEncoding());
+                    ParserResult pr = importer.get().importDatabase(filename, Globals.prefs.getDefaultEncoding(), progressListener);
                     imports.add(new ImportFormatReader.UnknownFormatImport(importer.get().getName(), pr));
                 }
             } catch (ImportException | IOException e) {
@@ -84,6 +84,7 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
         downloadLinkedOnlineFiles.setSelected(preferences.getFilePreferences().shouldDownloadLinkedFiles());
 
         setResultConverter(button -> {
+            viewModel.close();
             if (button == importButton) {
                 viewModel.importEntries(entriesListView.getCheckModel().getCheckedItems(), downloadLinkedOnlineFiles.isSelected());
             } else {
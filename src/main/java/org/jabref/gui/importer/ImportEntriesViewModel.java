@@ -9,6 +9,7 @@ import javax.swing.undo.UndoManager;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.AbstractViewModel;
@@ -22,17 +23,22 @@ import org.jabref.gui.fieldeditors.LinkedFileViewModel;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.database.DatabaseMerger;
+import org.jabref.logic.database.DuplicateBlockingIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.FilePreferences;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +58,11 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final PreferencesService preferences;
     private final BibEntryTypesManager entryTypesManager;
 
+    // Built on demand, as the duplicate checks run in background tasks. The library index is then kept up to date from
+    // the change events of the library, as the library may be edited while the dialog is open.
+    private DuplicateBlockingIndex libraryIndex;
+    private DuplicateBlockingIndex importIndex;
+
     /**
      * @param databaseContext the database to import into
      * @param task            the task executed for parsing the selected files(s).
@@ -74,8 +85,10 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.entryTypesManager = entryTypesManager;
         this.fileUpdateMonitor = fileUpdateMonitor;
         this.entries = FXCollections.observableArrayList();
+        this.entries.addListener((ListChangeListener<BibEntry>) change -> invalidateImportIndex());
         this.message = new SimpleStringProperty();
         this.message.bind(task.messageProperty());
+        databaseContext.getDatabase().registerListener(this);
 
         task.onSuccess(parserResult -> {
             // store the complete parser result (to import groups, ... later on)
@@ -103,7 +116,55 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     public boolean hasDuplicate(BibEntry entry) {
         return findInternalDuplicate(entry).isPresent() ||
                 new DuplicateCheck(entryTypesManager)
-                .containsDuplicate(databaseContext.getDatabase(), entry, databaseContext.getMode()).isPresent();
+                .containsDuplicate(getLibraryIndex(), entry, databaseContext.getMode()).isPresent();
+    }
+
+    private synchronized DuplicateBlockingIndex getLibraryIndex() {
+        if (libraryIndex == null) {
+            libraryIndex = new DuplicateBlockingIndex(databaseContext.getDatabase().getEntries());
+        }
+        return libraryIndex;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (libraryIndex != null) {
+            event.getBibEntries().forEach(libraryIndex::add);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (libraryIndex != null) {
+            event.getBibEntries().forEach(libraryIndex::remove);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        if (libraryIndex != null) {
+            // the blocks of an entry are computed when it is added
+            libraryIndex.remove(event.getBibEntry());
+            libraryIndex.add(event.getBibEntry());
+        }
+    }
+
+    /**
+     * Stops keeping the duplicate index up to date with the library. To be called when the dialog is closed.
+     */
+    public void close() {
+        databaseContext.getDatabase().unregisterListener(this);
+    }
+
+    private synchronized DuplicateBlockingIndex getImportIndex() {
+        if (importIndex == null) {
+            importIndex = new DuplicateBlockingIndex(List.copyOf(entries));
+        }
+        return importIndex;
+    }
+
+    private synchronized void invalidateImportIndex() {
+        importIndex = null;
     }
 
     /**
@@ -188,7 +249,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
      * @return A possible duplicate, if any, or null if none were found.
      */
     private Optional<BibEntry> findInternalDuplicate(BibEntry entry) {
-        for (BibEntry othEntry : entries) {
+        for (BibEntry othEntry : getImportIndex().getCandidates(entry)) {
             if (othEntry.equals(entry)) {
                 continue; // Don't compare the entry to itself
             }
@@ -201,7 +262,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
 
     public void resolveDuplicate(BibEntry entry) {
         // First, try to find duplicate in the existing library
-        Optional<BibEntry> other = new DuplicateCheck(entryTypesManager).containsDuplicate(databaseContext.getDatabase(), entry, databaseContext.getMode());
+        Optional<BibEntry> other = new DuplicateCheck(entryTypesManager).containsDuplicate(getLibraryIndex(), entry, databaseContext.getMode());
         if (other.isPresent()) {
             DuplicateResolverDialog dialog = new DuplicateResolverDialog(other.get(),
                     entry, DuplicateResolverDialog.DuplicateResolverType.INSPECTION, databaseContext, stateManager);
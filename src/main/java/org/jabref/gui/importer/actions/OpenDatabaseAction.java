@@ -184,7 +184,7 @@ public class OpenDatabaseAction extends SimpleCommand {
         }
 
         ParserResult result = OpenDatabase.loadDatabase(fileToLoad.toString(),
-                Globals.prefs.getImportFormatPreferences(), Globals.prefs.getTimestampPreferences(), Globals.getFileUpdateMonitor());
+                Globals.prefs.getImportFormatPreferences(), Globals.prefs.getTimestampPreferences(), Globals.getFileUpdateMonitor(), Globals.AUX_KEY_CACHE);
 
         if (result.getDatabase().isShared()) {
             try {
@@ -1,21 +1,18 @@
 package org.jabref.gui.maintable;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import javafx.beans.Observable;
-import javafx.beans.binding.Binding;
-import javafx.beans.binding.Bindings;
 import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
 
 import org.jabref.gui.specialfields.SpecialFieldValueViewModel;
-import org.jabref.gui.util.uithreadaware.UiThreadBinding;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -27,57 +24,54 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.GroupTreeNode;
 
-import com.tobiasdiez.easybind.EasyBind;
-import com.tobiasdiez.easybind.EasyBinding;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
 
+/**
+ * The view model of a row of the main table.
+ *
+ * @implNote The values of the columns are only computed when they are requested, i.e., for the rows which are displayed
+ * or sorted, and then cached. The cached values do not listen to the entry themselves, as this would register listeners
+ * for every entry of the library. Instead, {@link MainTableDataModel} invalidates them when the entry, the groups or the
+ * field formatter change, which notifies the cells displaying them.
+ */
 public class BibEntryTableViewModel {
     private final BibEntry entry;
+    private final BibDatabaseContext bibDatabaseContext;
     private final ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter;
-    private final Map<OrFields, ObservableValue<String>> fieldValues = new HashMap<>();
-    private final Map<SpecialField, OptionalBinding<SpecialFieldValueViewModel>> specialFieldValues = new HashMap<>();
-    private final EasyBinding<List<LinkedFile>> linkedFiles;
-    private final EasyBinding<Map<Field, String>> linkedIdentifiers;
-    private final Binding<List<AbstractGroup>> matchedGroups;
+
+    // All values are created on first access
+    private final Map<OrFields, CachedValue<String>> fieldValues = new HashMap<>();
+    private final Map<SpecialField, CachedValue<Optional<SpecialFieldValueViewModel>>> specialFieldValues = new HashMap<>();
+    private CachedValue<List<LinkedFile>> linkedFiles;
+    private CachedValue<Map<Field, String>> linkedIdentifiers;
+    private CachedValue<List<AbstractGroup>> matchedGroups;
 
     public BibEntryTableViewModel(BibEntry entry, BibDatabaseContext bibDatabaseContext, ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter) {
         this.entry = entry;
+        this.bibDatabaseContext = bibDatabaseContext;
         this.fieldValueFormatter = fieldValueFormatter;
-
-        this.linkedFiles = getField(StandardField.FILE).map(FileFieldParser::parse).orElse(Collections.emptyList());
-        this.linkedIdentifiers = createLinkedIdentifiersBinding(entry);
-        this.matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
     }
 
-    private static EasyBinding<Map<Field, String>> createLinkedIdentifiersBinding(BibEntry entry) {
-        return EasyBind.combine(
-                entry.getFieldBinding(StandardField.URL),
-                entry.getFieldBinding(StandardField.DOI),
-                entry.getFieldBinding(StandardField.URI),
-                entry.getFieldBinding(StandardField.EPRINT),
-                (url, doi, uri, eprint) -> {
-                    Map<Field, String> identifiers = new HashMap<>();
-                    url.ifPresent(value -> identifiers.put(StandardField.URL, value));
-                    doi.ifPresent(value -> identifiers.put(StandardField.DOI, value));
-                    uri.ifPresent(value -> identifiers.put(StandardField.URI, value));
-                    eprint.ifPresent(value -> identifiers.put(StandardField.EPRINT, value));
-                    return identifiers;
-                });
+    private Map<Field, String> getLinkedIdentifiersValue() {
+        Map<Field, String> identifiers = new HashMap<>();
+        entry.getField(StandardField.URL).ifPresent(value -> identifiers.put(StandardField.URL, value));
+        entry.getField(StandardField.DOI).ifPresent(value -> identifiers.put(StandardField.DOI, value));
+        entry.getField(StandardField.URI).ifPresent(value -> identifiers.put(StandardField.URI, value));
+        entry.getField(StandardField.EPRINT).ifPresent(value -> identifiers.put(StandardField.EPRINT, value));
+        return identifiers;
     }
 
     public BibEntry getEntry() {
         return entry;
     }
 
-    private static Binding<List<AbstractGroup>> createMatchedGroupsBinding(BibDatabaseContext database, BibEntry entry) {
-        return new UiThreadBinding<>(EasyBind.combine(entry.getFieldBinding(StandardField.GROUPS), database.getMetaData().groupsBinding(),
-                (a, b) ->
-                        database.getMetaData().getGroups().map(groupTreeNode ->
-                                groupTreeNode.getMatchingGroups(entry).stream()
-                                             .map(GroupTreeNode::getGroup)
-                                             .filter(Predicate.not(Predicate.isEqual(groupTreeNode.getGroup())))
-                                             .collect(Collectors.toList()))
-                                .orElse(Collections.emptyList())));
+    private List<AbstractGroup> getMatchedGroupsValue() {
+        return bibDatabaseContext.getMetaData().getGroups().map(groupTreeNode ->
+                groupTreeNode.getMatchingGroups(entry).stream()
+                             .map(GroupTreeNode::getGroup)
+                             .filter(Predicate.not(Predicate.isEqual(groupTreeNode.getGroup())))
+                             .collect(Collectors.toList()))
+                                 .orElse(Collections.emptyList());
     }
 
     public OptionalBinding<String> getField(Field field) {
@@ -85,41 +79,95 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<List<LinkedFile>> getLinkedFiles() {
+        if (linkedFiles == null) {
+            linkedFiles = new CachedValue<>(() -> entry.getField(StandardField.FILE).map(FileFieldParser::parse).orElse(Collections.emptyList()));
+        }
         return linkedFiles;
     }
 
     public ObservableValue<Map<Field, String>> getLinkedIdentifiers() {
+        if (linkedIdentifiers == null) {
+            linkedIdentifiers = new CachedValue<>(this::getLinkedIdentifiersValue);
+        }
         return linkedIdentifiers;
     }
 
     public ObservableValue<List<AbstractGroup>> getMatchedGroups() {
+        if (matchedGroups == null) {
+            matchedGroups = new CachedValue<>(this::getMatchedGroupsValue);
+        }
         return matchedGroups;
     }
 
     public ObservableValue<Optional<SpecialFieldValueViewModel>> getSpecialField(SpecialField field) {
-        OptionalBinding<SpecialFieldValueViewModel> value = specialFieldValues.get(field);
-        if (value != null) {
-            return value;
-        } else {
-            value = getField(field).flatMap(fieldValue -> field.parseValue(fieldValue).map(SpecialFieldValueViewModel::new));
-            specialFieldValues.put(field, value);
-            return value;
-        }
+        return specialFieldValues.computeIfAbsent(field, key -> new CachedValue<>(() ->
+                entry.getField(field).flatMap(field::parseValue).map(SpecialFieldValueViewModel::new)));
     }
 
     public ObservableValue<String> getFields(OrFields fields) {
-        ObservableValue<String> value = fieldValues.get(fields);
+        return fieldValues.computeIfAbsent(fields, key -> new CachedValue<>(() ->
+                fieldValueFormatter.getValue().formatFieldsValues(fields, entry)));
+    }
+
+    /**
+     * Recomputes all values on their next access. To be called when the entry changed.
+     */
+    void invalidateValues() {
+        fieldValues.values().forEach(CachedValue::invalidate);
+        specialFieldValues.values().forEach(CachedValue::invalidate);
+        invalidate(linkedFiles);
+        invalidate(linkedIdentifiers);
+        invalidateMatchedGroups();
+    }
+
+    /**
+     * Recomputes the formatted field values on their next access. To be called when the field formatter changed.
+     */
+    void invalidateFieldValues() {
+        fieldValues.values().forEach(CachedValue::invalidate);
+    }
+
+    /**
+     * Recomputes the matched groups on their next access. To be called when the groups changed.
+     */
+    void invalidateMatchedGroups() {
+        invalidate(matchedGroups);
+    }
+
+    private static void invalidate(CachedValue<?> value) {
         if (value != null) {
-            return value;
+            value.invalidate();
         }
+    }
+
+    /**
+     * A value which is computed on first access and kept until it is invalidated. Only accessed on the JavaFX thread.
+     */
+    private static class CachedValue<T> extends ObservableValueBase<T> {
 
-        ArrayList<Observable> observables = new ArrayList<>(List.of(entry.getObservables()));
-        observables.add(fieldValueFormatter);
+        private final Supplier<T> computation;
+        private T value;
+        private boolean valid;
 
-        value = Bindings.createStringBinding(() ->
-                        fieldValueFormatter.getValue().formatFieldsValues(fields, entry),
-                observables.toArray(Observable[]::new));
-        fieldValues.put(fields, value);
-        return value;
+        CachedValue(Supplier<T> computation) {
+            this.computation = computation;
+        }
+
+        @Override
+        public T getValue() {
+            if (!valid) {
+                value = computation.get();
+                valid = true;
+            }
+            return value;
+        }
+
+        void invalidate() {
+            if (valid) {
+                valid = false;
+                value = null;
+                fireValueChangedEvent();
+            }
+        }
     }
 }
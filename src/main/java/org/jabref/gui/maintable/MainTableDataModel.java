@@ -1,20 +1,36 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.search.SearchIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -24,52 +40,175 @@ import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the entries shown in the main table, i.e., the entries matching the active groups and the active search query.
+ *
+ * @implNote If the groups or the query change, all entries are matched in a background task in parallel. Entries which
+ * cannot match the query according to the {@link SearchIndex} are skipped. The table keeps showing the previous result
+ * until the new result is published in one go. Afterwards, the result is maintained
+ * incrementally: only entries which are added or changed are matched again (on the JavaFX thread).
+ */
 public class MainTableDataModel {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MainTableDataModel.class);
+
+    private final ObservableList<BibEntryTableViewModel> entriesViewModel;
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final GroupViewMode groupViewMode;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final PreferencesService preferencesService;
     private final BibDatabaseContext bibDatabaseContext;
+    private final TaskExecutor taskExecutor;
+    private final ObservableList<BibEntry> allEntries;
+    private final OptionalObjectProperty<SearchQuery> activeSearchQuery;
+    private final SearchIndex searchIndex;
+
+    // The following fields are only accessed on the JavaFX thread
+    private Map<BibEntry, Boolean> matchResults = new IdentityHashMap<>();
+    private final Set<BibEntry> changedDuringMatching = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean matchingRunning;
 
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    // Incremented for each new matcher, used to discard the results of outdated background tasks
+    private volatile int matcherGeneration;
+
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.preferencesService = preferencesService;
         this.bibDatabaseContext = context;
+        this.taskExecutor = taskExecutor;
+        this.activeSearchQuery = stateManager.activeSearchQueryProperty();
+        this.searchIndex = new SearchIndex(context.getDatabase());
         this.fieldValueFormatter = new SimpleObjectProperty<>(
                 new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
+        groupViewMode = preferencesService.getGroupViewMode();
 
-        ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
-        ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
+        allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
+        // The view models are cheap, their values are only computed for the rows which are displayed or sorted
+        entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
+        entriesViewModel.addListener(this::invalidateChangedValues);
+        context.getMetaData().groupsBinding().addListener(this::invalidateMatchedGroups);
 
+        // Registered before the filtered list is created, so that outdated results are dropped before the filtered list re-evaluates the changed entries
+        entriesViewModel.addListener(this::invalidateMatchResults);
         entriesFiltered = new FilteredList<>(entriesViewModel);
-        entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), (groups, query) -> entry -> isMatched(groups, query, entry))
-        );
+
+        EasyBind.subscribe(
+                EasyBind.combine(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), this::createMatcher),
+                this::updateMatchResults);
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
         stateManager.setActiveSearchResultSize(context, resultSize);
         // We need to wrap the list since otherwise sorting in the table does not work
         entriesSorted = new SortedList<>(entriesFiltered);
-        groupViewMode = preferencesService.getGroupViewMode();
+    }
+
+    private void invalidateChangedValues(ListChangeListener.Change<? extends BibEntryTableViewModel> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (BibEntryTableViewModel viewModel : change.getList().subList(change.getFrom(), change.getTo())) {
+                    viewModel.invalidateValues();
+                }
+            }
+        }
+    }
 
+    private void invalidateMatchedGroups(Observable groupsBinding) {
+        DefaultTaskExecutor.runInJavaFXThread(() -> {
+            // Validate the binding again, so that it reports the next change
+            ((ObservableValue<?>) groupsBinding).getValue();
+            entriesViewModel.forEach(BibEntryTableViewModel::invalidateMatchedGroups);
+        });
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    private void invalidateMatchResults(ListChangeListener.Change<? extends BibEntryTableViewModel> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (BibEntryTableViewModel viewModel : change.getList().subList(change.getFrom(), change.getTo())) {
+                    invalidateMatchResult(viewModel.getEntry());
+                }
+            } else {
+                for (BibEntryTableViewModel viewModel : change.getRemoved()) {
+                    invalidateMatchResult(viewModel.getEntry());
+                }
+                for (BibEntryTableViewModel viewModel : change.getAddedSubList()) {
+                    invalidateMatchResult(viewModel.getEntry());
+                }
+            }
+        }
     }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
-                    .orElse(true);
+    private void invalidateMatchResult(BibEntry entry) {
+        matchResults.remove(entry);
+        if (matchingRunning) {
+            changedDuringMatching.add(entry);
+        }
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private void updateMatchResults(Predicate<BibEntry> matcher) {
+        int generation = ++matcherGeneration;
+        changedDuringMatching.clear();
+
+        if (allEntries.isEmpty()) {
+            matchingRunning = false;
+            publishMatchResults(new IdentityHashMap<>(), matcher);
+            return;
+        }
+
+        matchingRunning = true;
+        List<BibEntry> entriesToMatch = new ArrayList<>(allEntries);
+        Optional<SearchQuery> query = activeSearchQuery.get();
+        BackgroundTask.wrap(() -> {
+                          Optional<Set<BibEntry>> candidates = query.flatMap(searchIndex::getCandidates);
+                          return entriesToMatch.parallelStream()
+                                               // Skip the remaining work if the matcher is already outdated
+                                               .filter(entry -> generation == matcherGeneration)
+                                               .collect(Collectors.toMap(
+                                                       Function.identity(),
+                                                       entry -> candidates.map(set -> set.contains(entry)).orElse(true) && matcher.test(entry),
+                                                       (first, second) -> first,
+                                                       IdentityHashMap::new));
+                      })
+                      .onSuccess(results -> {
+                          if (generation != matcherGeneration) {
+                              return;
+                          }
+                          matchingRunning = false;
+                          // Entries changed in the meantime may have been matched with their old content
+                          changedDuringMatching.forEach(results::remove);
+                          changedDuringMatching.clear();
+                          publishMatchResults(results, matcher);
+                      })
+                      .onFailure(exception -> {
+                          LOGGER.error("Could not match entries in the background", exception);
+                          if (generation != matcherGeneration) {
+                              return;
+                          }
+                          matchingRunning = false;
+                          changedDuringMatching.clear();
+                          // Without results, all entries are matched on demand
+                          publishMatchResults(new IdentityHashMap<>(), matcher);
+                      })
+                      .executeWith(taskExecutor);
+    }
+
+    /**
+     * Shows the given result in the table. Setting a new predicate lets the filtered list re-evaluate all entries in a
+     * single pass, which is cheap, because the results are looked up. Entries without a result are matched on demand.
+     */
+    private void publishMatchResults(Map<BibEntry, Boolean> results, Predicate<BibEntry> matcher) {
+        matchResults = results;
+        entriesFiltered.setPredicate(viewModel -> results.computeIfAbsent(viewModel.getEntry(), matcher::test));
+    }
+
+    private Predicate<BibEntry> createMatcher(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query) {
+        // The group matcher is built once per change of the selected groups and not once per entry
+        Optional<MatcherSet> groupMatcher = createGroupMatcher(groups);
+        return entry -> groupMatcher.map(matcher -> matcher.isMatch(entry)).orElse(true)
+                && query.map(searchQuery -> searchQuery.isMatch(entry)).orElse(true);
     }
 
     private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
@@ -92,5 +231,13 @@ public class MainTableDataModel {
 
     public void refresh() {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(preferencesService, bibDatabaseContext));
+        entriesViewModel.forEach(BibEntryTableViewModel::invalidateFieldValues);
+    }
+
+    /**
+     * Releases the search index, which listens to the changes of the library. To be called when the library is closed.
+     */
+    public void unregisterSearchIndex() {
+        searchIndex.close();
     }
 }
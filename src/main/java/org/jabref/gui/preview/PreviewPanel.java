@@ -23,6 +23,7 @@ import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.keyboard.KeyBindingRepository;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
@@ -46,6 +47,7 @@ public class PreviewPanel extends VBox {
     private BibEntry entry;
 
     public PreviewPanel(BibDatabaseContext database,
+                        CitationStyleCache citationStyleCache,
                         DialogService dialogService,
                         ExternalFileTypes externalFileTypes,
                         KeyBindingRepository keyBindingRepository,
@@ -58,7 +60,7 @@ public class PreviewPanel extends VBox {
         fileLinker = new ExternalFilesEntryLinker(externalFileTypes, preferences.getFilePreferences(), database);
 
         PreviewPreferences previewPreferences = preferences.getPreviewPreferences();
-        previewView = new PreviewViewer(database, dialogService, stateManager);
+        previewView = new PreviewViewer(database, Optional.of(citationStyleCache), dialogService, stateManager);
         previewView.setLayout(previewPreferences.getCurrentPreviewStyle());
         previewView.setContextMenu(createPopupMenu());
         previewView.setTheme(this.preferences.getTheme());
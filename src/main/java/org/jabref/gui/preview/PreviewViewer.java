@@ -20,6 +20,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.Theme;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
@@ -106,6 +107,7 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
     private Optional<Pattern> searchHighlightPattern = Optional.empty();
 
     private final BibDatabaseContext database;
+    private final Optional<CitationStyleCache> citationStyleCache;
     private boolean registered;
 
     private final ChangeListener<Optional<SearchQuery>> listener = (queryObservable, queryOldValue, queryNewValue) -> {
@@ -117,7 +119,16 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
      * @param database Used for resolving strings and pdf directories for links.
      */
     public PreviewViewer(BibDatabaseContext database, DialogService dialogService, StateManager stateManager) {
+        this(database, Optional.empty(), dialogService, stateManager);
+    }
+
+    /**
+     * @param database           Used for resolving strings and pdf directories for links.
+     * @param citationStyleCache Used for rendering the previews, if present. Must belong to the given database.
+     */
+    public PreviewViewer(BibDatabaseContext database, Optional<CitationStyleCache> citationStyleCache, DialogService dialogService, StateManager stateManager) {
         this.database = Objects.requireNonNull(database);
+        this.citationStyleCache = Objects.requireNonNull(citationStyleCache);
         this.dialogService = dialogService;
         this.clipBoardManager = Globals.getClipboardManager();
 
@@ -199,7 +210,7 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
         ExporterFactory.entryNumber = 1; // Set entry number in case that is included in the preview layout.
 
         BackgroundTask
-                .wrap(() -> layout.generatePreview(entry.get(), database.getDatabase()))
+                .wrap(() -> generatePreview(layout, entry.get()))
                 .onRunning(() -> setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + layout.getDisplayName() + " ..." + "</i>"))
                 .onSuccess(this::setPreviewText)
                 .onFailure(exception -> {
@@ -209,6 +220,11 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
                 .executeWith(taskExecutor);
     }
 
+    private String generatePreview(PreviewLayout previewLayout, BibEntry previewedEntry) {
+        return citationStyleCache.map(cache -> cache.getCitationFor(previewLayout, previewedEntry))
+                                 .orElseGet(() -> previewLayout.generatePreview(previewedEntry, database.getDatabase()));
+    }
+
     private void setPreviewText(String text) {
         String myText = "<html>" + JS_HIGHLIGHT_FUNCTION + "<body id=\"previewBody\"><div id=\"content\">" + text + "</div></body></html>";
         previewView.getEngine().setJavaScriptEnabled(true);
@@ -8,6 +8,8 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -18,6 +20,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +35,7 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
     private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    private final Multimap<Path, FileUpdateListener> directoryListeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create());
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
     private Optional<JabRefException> filesystemMonitorFailure;
@@ -52,16 +56,22 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
 
                 for (WatchEvent<?> event : key.pollEvents()) {
                     WatchEvent.Kind<?> kind = event.kind();
+                    Path directory = (Path) key.watchable();
 
                     if (kind == StandardWatchEventKinds.OVERFLOW) {
+                        // Events got lost, so the content of the directory may have changed in any way
+                        notifyAboutDirectoryChange(directory);
                         Thread.yield();
                         continue;
                     } else if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
                         // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
+                        Path path = directory.resolve(ev.context());
                         notifyAboutChange(path);
+                        notifyAboutDirectoryChange(directory);
+                    } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                        notifyAboutDirectoryChange(directory);
                     }
                     key.reset();
                 }
@@ -83,19 +93,41 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         listeners.get(path).forEach(FileUpdateListener::fileUpdated);
     }
 
+    private void notifyAboutDirectoryChange(Path directory) {
+        List<FileUpdateListener> listenersOfDirectory;
+        synchronized (directoryListeners) {
+            listenersOfDirectory = new ArrayList<>(directoryListeners.get(directory));
+        }
+        listenersOfDirectory.forEach(FileUpdateListener::fileUpdated);
+    }
+
     @Override
     public void addListenerForFile(Path file, FileUpdateListener listener) throws IOException {
         if (isActive()) {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
-            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            register(directory);
             listeners.put(file, listener);
         }
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+        if (isActive()) {
+            register(directory);
+            directoryListeners.put(directory, listener);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        // Registering a directory again replaces the kinds of watched events, so always register for all of them
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
         listeners.remove(path, listener);
+        directoryListeners.remove(path, listener);
     }
 
     @Override
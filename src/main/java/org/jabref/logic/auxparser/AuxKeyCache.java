@@ -0,0 +1,239 @@
+package org.jabref.logic.auxparser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.collect.MapMaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the citation keys used in AUX files, shared by all users of the same AUX file (e.g., several TeX groups).
+ * The application holds one instance, which is passed to the TeX groups when they are created.
+ * <p>
+ * Each AUX file is parsed on its own and only re-read if it changed, so that a change of one chapter of a large
+ * project does not re-read the other chapters. The files included with <code>\@input</code> are parsed in parallel.
+ * If an AUX file is watched, all listeners of the AUX files including it are notified when it changes.
+ * <p>
+ * The nested AUX files are resolved relative to the directory of the including root file, as done by
+ * {@link DefaultAuxParser}.
+ */
+public class AuxKeyCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuxKeyCache.class);
+
+    private final Map<Path, AuxFile> parsedFiles = new ConcurrentHashMap<>();
+    // root file -> all files read for it during the last lookup
+    private final Map<Path, Set<Path>> includedFiles = new ConcurrentHashMap<>();
+    // root file -> listeners, held weakly and compared by identity
+    private final Map<Path, Set<FileUpdateListener>> listeners = new ConcurrentHashMap<>();
+    // root file -> monitor watching its files
+    private final Map<Path, FileUpdateMonitor> monitors = new ConcurrentHashMap<>();
+    // file -> listener registered at the file monitor
+    private final Map<Path, FileUpdateListener> watchedFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the citation keys used in the given AUX file and in all AUX files included by it.
+     */
+    public Set<String> getKeys(Path auxFile) {
+        Path root = normalize(auxFile);
+        Path rootDirectory = root.getParent();
+
+        Set<String> keys = new HashSet<>();
+        Set<Path> visitedFiles = new LinkedHashSet<>();
+        List<Path> currentFiles = List.of(root);
+        while (!currentFiles.isEmpty()) {
+            visitedFiles.addAll(currentFiles);
+            List<AuxFile> auxFiles = currentFiles.parallelStream()
+                                                 .map(this::getAuxFile)
+                                                 .collect(Collectors.toList());
+
+            List<Path> nextFiles = new ArrayList<>();
+            for (AuxFile file : auxFiles) {
+                keys.addAll(file.keys);
+                for (String input : file.inputs) {
+                    Path inputFile = normalize(rootDirectory == null ? Path.of(input) : rootDirectory.resolve(input));
+                    if (!visitedFiles.contains(inputFile) && !nextFiles.contains(inputFile)) {
+                        nextFiles.add(inputFile);
+                    }
+                }
+            }
+            currentFiles = nextFiles;
+        }
+
+        includedFiles.put(root, Set.copyOf(visitedFiles));
+        FileUpdateMonitor monitor = monitors.get(root);
+        if (monitor != null) {
+            watchFiles(visitedFiles, monitor);
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Registers the given listener to be notified whenever the given AUX file or one of the files included by it
+     * changes (as long as it is watched). The listener is only held weakly.
+     */
+    public void addListener(Path auxFile, FileUpdateListener listener) {
+        listeners.computeIfAbsent(normalize(auxFile), key -> Collections.newSetFromMap(new MapMaker().weakKeys().makeMap()))
+                 .add(listener);
+    }
+
+    /**
+     * Watches the given AUX file and the files included by it for changes.
+     *
+     * @throws IOException if the AUX file does not exist
+     */
+    public void watch(Path auxFile, FileUpdateMonitor monitor) throws IOException {
+        Path root = normalize(auxFile);
+        if (!watchedFiles.containsKey(root)) {
+            FileUpdateListener fileListener = () -> fileUpdated(root);
+            monitor.addListenerForFile(root, fileListener);
+            watchedFiles.put(root, fileListener);
+        }
+        monitors.put(root, monitor);
+        watchFiles(includedFiles.getOrDefault(root, Set.of()), monitor);
+    }
+
+    private void watchFiles(Set<Path> files, FileUpdateMonitor monitor) {
+        for (Path file : files) {
+            if (watchedFiles.containsKey(file)) {
+                continue;
+            }
+            FileUpdateListener fileListener = () -> fileUpdated(file);
+            try {
+                monitor.addListenerForFile(file, fileListener);
+                watchedFiles.put(file, fileListener);
+            } catch (IOException e) {
+                LOGGER.debug("Cannot watch included AUX file {}", file, e);
+            }
+        }
+    }
+
+    private void fileUpdated(Path file) {
+        parsedFiles.remove(file);
+        includedFiles.forEach((root, files) -> {
+            if (files.contains(file)) {
+                listeners.getOrDefault(root, Set.of()).forEach(FileUpdateListener::fileUpdated);
+            }
+        });
+    }
+
+    private AuxFile getAuxFile(Path file) {
+        Optional<FileStamp> stamp = FileStamp.of(file);
+        if (stamp.isEmpty()) {
+            LOGGER.warn("Cannot locate AUX file {}", file);
+            parsedFiles.remove(file);
+            return AuxFile.EMPTY;
+        }
+
+        AuxFile cachedFile = parsedFiles.get(file);
+        if ((cachedFile != null) && cachedFile.stamp.equals(stamp.get())) {
+            return cachedFile;
+        }
+
+        AuxFile parsedFile = parse(file, stamp.get());
+        parsedFiles.put(file, parsedFile);
+        return parsedFile;
+    }
+
+    private static AuxFile parse(Path file, FileStamp stamp) {
+        Set<String> keys = new HashSet<>();
+        List<String> inputs = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher citeMatcher = DefaultAuxParser.CITE_PATTERN.matcher(line);
+                while (citeMatcher.find()) {
+                    for (String key : citeMatcher.group(2).split(",")) {
+                        keys.add(key.trim());
+                    }
+                }
+                Matcher inputMatcher = DefaultAuxParser.INPUT_PATTERN.matcher(line);
+                while (inputMatcher.find()) {
+                    inputs.add(inputMatcher.group(1));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Problem reading AUX file {}", file, e);
+        }
+        return new AuxFile(stamp, keys, inputs);
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private static class AuxFile {
+
+        private static final AuxFile EMPTY = new AuxFile(null, Set.of(), List.of());
+
+        private final FileStamp stamp;
+        private final Set<String> keys;
+        private final List<String> inputs;
+
+        AuxFile(FileStamp stamp, Set<String> keys, List<String> inputs) {
+            this.stamp = stamp;
+            this.keys = keys;
+            this.inputs = inputs;
+        }
+    }
+
+    /**
+     * Modification time and size of a file, which are used to detect changes of files which are not watched
+     */
+    private static class FileStamp {
+
+        private final FileTime lastModified;
+        private final long size;
+
+        FileStamp(FileTime lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static Optional<FileStamp> of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return Optional.of(new FileStamp(attributes.lastModifiedTime(), attributes.size()));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            FileStamp other = (FileStamp) o;
+            return (size == other.size) && Objects.equals(lastModified, other.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size);
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 public class BibDatabaseDiff {
 
@@ -40,80 +46,37 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of both databases in several passes, each only looking at the entries not matched before:
+     * <ol>
+     *     <li>Unchanged entries, found by their parsed serialization. This avoids looking at the fields of entries whose
+     *     text did not change.</li>
+     *     <li>Entries with the same fields, found by hashing the fields.</li>
+     *     <li>Changed entries which kept their citation key.</li>
+     *     <li>Changed entries which are similar enough according to {@link DuplicateCheck#compareEntriesStrictly}.
+     *     Only this pass compares all remaining pairs of entries, which is done in parallel.</li>
+     * </ol>
+     * The differences are reported in the order of the original entries, followed by the added entries.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
-        List<BibEntryDiff> differences = new ArrayList<>();
-
-        // Create pointers that are incremented as the entries of each base are used in
-        // successive order from the beginning. Entries "further down" in the new database
-        // can also be matched.
-        int positionNew = 0;
-
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
-
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
-        for (BibEntry originalEntry : originalEntries) {
-            // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
-            }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
-            }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
-        }
-
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
-
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = -1;
-            if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
-                        }
-                    }
-                }
-            }
-
-            if (bestMatch > MATCH_THRESHOLD) {
-                used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
+        EntryMatching matching = new EntryMatching(originalEntries, newEntries);
+        matching.matchExactly(BibDatabaseDiff::getUnchangedSerialization);
+        matching.matchExactly(entry -> Optional.of(new HashMap<>(entry.getFieldMap())));
+        matching.matchByCitationKey();
+        matching.matchBySimilarity();
 
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
-            } else {
-                differences.add(new BibEntryDiff(originalEntry, null));
+        List<BibEntryDiff> differences = new ArrayList<>();
+        for (int i = 0; i < originalEntries.size(); i++) {
+            if (matching.changedMatches.containsKey(i)) {
+                differences.add(new BibEntryDiff(originalEntries.get(i), newEntries.get(matching.changedMatches.get(i))));
+            } else if (!matching.originalMatched[i]) {
+                differences.add(new BibEntryDiff(originalEntries.get(i), null));
             }
         }
 
         // Finally, look if there are still untouched entries in the new database. These may have been added.
         for (int i = 0; i < newEntries.size(); i++) {
-            if (!used.contains(i)) {
+            if (!matching.newMatched[i]) {
                 differences.add(new BibEntryDiff(null, newEntries.get(i)));
             }
         }
@@ -121,6 +84,16 @@ public class BibDatabaseDiff {
         return differences;
     }
 
+    /**
+     * The parsed serialization is only meaningful if the entry was not changed after parsing it
+     */
+    private static Optional<String> getUnchangedSerialization(BibEntry entry) {
+        if (entry.hasChanged() || StringUtil.isBlank(entry.getParsedSerialization())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getParsedSerialization());
+    }
+
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
         return new BibDatabaseDiff(base, changed);
     }
@@ -140,4 +113,149 @@ public class BibDatabaseDiff {
     public List<BibEntryDiff> getEntryDifferences() {
         return entryDiffs;
     }
+
+    private static class EntryMatching {
+
+        private final List<BibEntry> originalEntries;
+        private final List<BibEntry> newEntries;
+        private final boolean[] originalMatched;
+        private final boolean[] newMatched;
+
+        // Maps the position of a changed original entry to the position of its new version
+        private final Map<Integer, Integer> changedMatches = new HashMap<>();
+
+        EntryMatching(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
+            this.originalEntries = originalEntries;
+            this.newEntries = newEntries;
+            this.originalMatched = new boolean[originalEntries.size()];
+            this.newMatched = new boolean[newEntries.size()];
+        }
+
+        /**
+         * Matches entries with equal keys. If several new entries have the same key, they are matched in order.
+         */
+        void matchExactly(Function<BibEntry, Optional<?>> getKey) {
+            Map<Object, Deque<Integer>> unmatchedNewEntries = new HashMap<>();
+            for (int i = 0; i < newEntries.size(); i++) {
+                if (!newMatched[i]) {
+                    int position = i;
+                    getKey.apply(newEntries.get(i))
+                          .ifPresent(key -> unmatchedNewEntries.computeIfAbsent(key, k -> new ArrayDeque<>()).add(position));
+                }
+            }
+
+            for (int i = 0; i < originalEntries.size(); i++) {
+                if (originalMatched[i]) {
+                    continue;
+                }
+                Optional<Integer> match = getKey.apply(originalEntries.get(i))
+                                                .map(unmatchedNewEntries::get)
+                                                .map(Deque::poll);
+                if (match.isPresent()) {
+                    originalMatched[i] = true;
+                    newMatched[match.get()] = true;
+                }
+            }
+        }
+
+        void matchByCitationKey() {
+            Map<String, List<Integer>> unmatchedNewEntries = new HashMap<>();
+            for (int i = 0; i < newEntries.size(); i++) {
+                if (!newMatched[i]) {
+                    int position = i;
+                    newEntries.get(i).getCitationKey()
+                              .ifPresent(key -> unmatchedNewEntries.computeIfAbsent(key, k -> new ArrayList<>()).add(position));
+                }
+            }
+
+            for (int i = 0; i < originalEntries.size(); i++) {
+                if (originalMatched[i]) {
+                    continue;
+                }
+                BibEntry originalEntry = originalEntries.get(i);
+                List<Integer> candidates = originalEntry.getCitationKey()
+                                                        .map(unmatchedNewEntries::get)
+                                                        .orElse(Collections.emptyList());
+
+                // If the key is not unique, choose the most similar entry
+                double bestMatch = -1;
+                int bestMatchIndex = -1;
+                for (int candidate : candidates) {
+                    if (!newMatched[candidate]) {
+                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(candidate));
+                        if (score > bestMatch) {
+                            bestMatch = score;
+                            bestMatchIndex = candidate;
+                        }
+                    }
+                }
+                if (bestMatchIndex >= 0) {
+                    match(i, bestMatchIndex);
+                }
+            }
+        }
+
+        void matchBySimilarity() {
+            List<Integer> unmatchedOriginalEntries = getUnmatched(originalMatched);
+            List<Integer> unmatchedNewEntries = getUnmatched(newMatched);
+            if (unmatchedOriginalEntries.isEmpty() || unmatchedNewEntries.isEmpty()) {
+                return;
+            }
+
+            // Scoring is the expensive part, thus it is done in parallel. The assignment is done afterwards in the
+            // order of the original entries, so that the result does not depend on the scheduling.
+            Map<Integer, List<ScoredCandidate>> candidates = unmatchedOriginalEntries
+                    .parallelStream()
+                    .collect(Collectors.toMap(Function.identity(), i -> scoreCandidates(originalEntries.get(i), unmatchedNewEntries)));
+
+            for (int i : unmatchedOriginalEntries) {
+                candidates.get(i).stream()
+                          .filter(candidate -> !newMatched[candidate.position])
+                          .findFirst()
+                          .ifPresent(candidate -> match(i, candidate.position));
+            }
+        }
+
+        /**
+         * Returns the entries scoring above the match threshold, the best match first
+         */
+        private List<ScoredCandidate> scoreCandidates(BibEntry originalEntry, List<Integer> unmatchedNewEntries) {
+            List<ScoredCandidate> candidates = new ArrayList<>();
+            for (int position : unmatchedNewEntries) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(position));
+                if (score > MATCH_THRESHOLD) {
+                    candidates.add(new ScoredCandidate(position, score));
+                }
+            }
+            candidates.sort(Comparator.comparingDouble((ScoredCandidate candidate) -> candidate.score).reversed()
+                                      .thenComparingInt(candidate -> candidate.position));
+            return candidates;
+        }
+
+        private void match(int originalPosition, int newPosition) {
+            originalMatched[originalPosition] = true;
+            newMatched[newPosition] = true;
+            changedMatches.put(originalPosition, newPosition);
+        }
+
+        private static List<Integer> getUnmatched(boolean[] matched) {
+            List<Integer> unmatched = new ArrayList<>();
+            for (int i = 0; i < matched.length; i++) {
+                if (!matched[i]) {
+                    unmatched.add(i);
+                }
+            }
+            return unmatched;
+        }
+    }
+
+    private static class ScoredCandidate {
+        private final int position;
+        private final double score;
+
+        ScoredCandidate(int position, double score) {
+            this.position = position;
+            this.score = score;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Sorts entries in the same order as a {@link FieldComparatorStack} of the given comparators, but normalizes the
+ * compared values of each entry only once instead of on every comparison.
+ * <p>
+ * The sort keys of all {@link FieldComparator}s are computed for all entries in parallel before sorting. Other
+ * comparators are applied to the entries directly. The sort is stable.
+ */
+public class BibEntrySorter {
+
+    private final List<? extends Comparator<BibEntry>> comparators;
+
+    public BibEntrySorter(List<? extends Comparator<BibEntry>> comparators) {
+        this.comparators = comparators;
+    }
+
+    /**
+     * Returns a sorted copy of the given entries
+     */
+    public List<BibEntry> sort(List<BibEntry> entries) {
+        KeyedEntry[] keyedEntries = entries.parallelStream()
+                                           .map(this::createKeyedEntry)
+                                           .toArray(KeyedEntry[]::new);
+        Arrays.parallelSort(keyedEntries, this::compare);
+        return Arrays.stream(keyedEntries)
+                     .map(keyedEntry -> keyedEntry.entry)
+                     .collect(Collectors.toList());
+    }
+
+    private KeyedEntry createKeyedEntry(BibEntry entry) {
+        FieldComparator.SortKey[] keys = new FieldComparator.SortKey[comparators.size()];
+        for (int i = 0; i < keys.length; i++) {
+            if (comparators.get(i) instanceof FieldComparator) {
+                keys[i] = ((FieldComparator) comparators.get(i)).getSortKey(entry);
+            }
+        }
+        return new KeyedEntry(entry, keys);
+    }
+
+    private int compare(KeyedEntry e1, KeyedEntry e2) {
+        for (int i = 0; i < e1.keys.length; i++) {
+            Comparator<BibEntry> comparator = comparators.get(i);
+            int result = (comparator instanceof FieldComparator)
+                    ? ((FieldComparator) comparator).compare(e1.keys[i], e2.keys[i])
+                    : comparator.compare(e1.entry, e2.entry);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static class KeyedEntry {
+
+        private final BibEntry entry;
+        // the key of each field comparator, null for other comparators
+        private final FieldComparator.SortKey[] keys;
+
+        KeyedEntry(BibEntry entry, FieldComparator.SortKey[] keys) {
+            this.entry = entry;
+            this.keys = keys;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -18,12 +22,18 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.SaveOrderConfig;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.collect.MapMaker;
+
 /**
  * A comparator for BibEntry fields
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
     private static final Collator COLLATOR = getCollator();
+    // Collators synchronize all operations, thus each thread computing sort keys gets its own one
+    private static final ThreadLocal<Collator> COLLATORS = ThreadLocal.withInitial(() -> (Collator) COLLATOR.clone());
+    // entry -> compared fields -> key, entries are held weakly and compared by identity
+    private static final Map<BibEntry, Map<OrFields, SortKey>> SORT_KEYS = new MapMaker().weakKeys().makeMap();
 
     enum FieldType {
         NAME, TYPE, YEAR, MONTH, OTHER
@@ -73,6 +83,9 @@ public class FieldComparator implements Comparator<BibEntry> {
     }
 
     private String getFieldValue(BibEntry entry) {
+        if (fieldType == FieldType.TYPE) {
+            return entry.getType().getDisplayName();
+        }
         for (Field aField : fields) {
             Optional<String> o = entry.getFieldOrAliasLatexFree(aField);
             if (o.isPresent()) {
@@ -84,56 +97,79 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+        return compare(getSortKey(e1), getSortKey(e2));
+    }
 
-        if (fieldType == FieldType.TYPE) {
-            // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
-        } else {
-            // If the field is author or editor, we rearrange names so they are
-            // sorted according to last name.
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+    /**
+     * Returns the normalized value of the compared field of the given entry, which can be compared with
+     * {@link #compare(SortKey, SortKey)} without normalizing the value again. The key is cached for the entry as long as
+     * the value of the field does not change.
+     * <p>
+     * This method is thread-safe, so that the keys of several entries can be computed in parallel.
+     */
+    public SortKey getSortKey(BibEntry entry) {
+        String value = getFieldValue(entry);
+        Map<OrFields, SortKey> entryKeys = SORT_KEYS.computeIfAbsent(entry, key -> new ConcurrentHashMap<>());
+        SortKey sortKey = entryKeys.get(fields);
+        if ((sortKey == null) || !Objects.equals(sortKey.value, value)) {
+            sortKey = createSortKey(value);
+            entryKeys.put(fields, sortKey);
+        }
+        return sortKey;
+    }
+
+    private SortKey createSortKey(String value) {
+        if (value == null) {
+            return SortKey.MISSING;
         }
 
+        if (fieldType == FieldType.YEAR) {
+            return new SortKey(value, StringUtil.intValueOfOptional(value).orElse(0));
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(value, Month.parse(value).map(Month::getNumber).orElse(-1));
+        }
+
+        // If the field is author or editor, we rearrange names so they are
+        // sorted according to last name.
+        String normalizedValue = (fieldType == FieldType.NAME) ? AuthorList.fixAuthorForAlphabetization(value) : value;
+        if (isNumeric) {
+            Optional<Integer> number = StringUtil.intValueOfOptional(normalizedValue);
+            if (number.isPresent()) {
+                return new SortKey(value, number.get());
+            }
+        }
+        return new SortKey(value, COLLATORS.get().getCollationKey(normalizedValue.toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Compares two keys created by {@link #getSortKey(BibEntry)} of this comparator. The result is the same as comparing
+     * the entries the keys were created for.
+     */
+    public int compare(SortKey k1, SortKey k2) {
         // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
+        if ((k1.value == null) && (k2.value == null)) {
             return 0;
-        } else if (f1 == null) {
+        } else if (k1.value == null) {
             return multiplier;
-        } else if (f2 == null) {
+        } else if (k2.value == null) {
             return -multiplier;
         }
 
-        // Now we know that both f1 and f2 are != null
-        if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
-        } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
-        } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+        // Years and months are always compared as numbers
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(k1.number, k2.number) * multiplier;
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
+            boolean isNumber1 = k1.collationKey == null;
+            boolean isNumber2 = k2.collationKey == null;
+            if (isNumber1 && isNumber2) {
+                return Integer.compare(k1.number, k2.number) * multiplier;
+            } else if (isNumber1) {
                 // The first one was parsable, but not the second one.
                 // This means we consider one < two
                 return -1 * multiplier;
-            } else if (i2.isPresent()) {
+            } else if (isNumber2) {
                 // The second one was parsable, but not the first one.
                 // This means we consider one > two
                 return multiplier;
@@ -141,8 +177,32 @@ public class FieldComparator implements Comparator<BibEntry> {
             // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return k1.collationKey.compareTo(k2.collationKey) * multiplier;
+    }
+
+    /**
+     * The value of a field of an entry, prepared for comparison: either a number or a collation key of the lower-cased
+     * value
+     */
+    public static final class SortKey {
+
+        private static final SortKey MISSING = new SortKey(null, 0);
+
+        // the value the key was created from, used to detect changes of the field
+        private final String value;
+        private final int number;
+        private final CollationKey collationKey;
+
+        private SortKey(String value, int number) {
+            this.value = value;
+            this.number = number;
+            this.collationKey = null;
+        }
+
+        private SortKey(String value, CollationKey collationKey) {
+            this.value = value;
+            this.number = 0;
+            this.collationKey = collationKey;
+        }
     }
 }
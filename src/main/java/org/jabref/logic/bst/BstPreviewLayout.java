@@ -23,7 +23,7 @@ public class BstPreviewLayout implements PreviewLayout {
 
     private final String name;
 
-    private VM vm;
+    private BstProgram program;
     private String error;
 
     public BstPreviewLayout(Path path) {
@@ -34,7 +34,7 @@ public class BstPreviewLayout implements PreviewLayout {
             return;
         }
         try {
-            vm = new VM(path.toFile());
+            program = BstProgram.parse(path);
         } catch (Exception e) {
             LOGGER.error("Could not read {}.", path.toAbsolutePath(), e);
             error = Localization.lang("Error opening file '%0'.", path.toString());
@@ -49,7 +49,7 @@ public class BstPreviewLayout implements PreviewLayout {
         // ensure that the entry is of BibTeX format (and do not modify the original entry)
         BibEntry entry = (BibEntry) originalEntry.clone();
         new ConvertToBibtexCleanup().cleanup(entry);
-        String result = vm.run(List.of(entry));
+        String result = program.run(List.of(entry));
         // Remove all comments
         result = result.replaceAll("%.*", "");
         // Remove all LaTeX comments
@@ -0,0 +1,779 @@
+package org.jabref.logic.bst;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.logic.bibtex.FieldWriterPreferences;
+import org.jabref.logic.bst.BibtexCaseChanger.FORMAT_MODE;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+import org.antlr.runtime.ANTLRFileStream;
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.tree.CommonTree;
+import org.antlr.runtime.tree.Tree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A .bst file compiled for repeated execution. It produces the same output as the {@link VM}, but is much faster.
+ * <p>
+ * The {@link VM} walks the parse tree on each function call and looks up each identifier by its name in several maps.
+ * Here, the parse tree is compiled once into a tree of closures: each identifier is resolved to a slot of the variable
+ * arrays or of the function table, and all literals are parsed in advance. The literal stack is unsynchronized and keeps
+ * integers unboxed.
+ * <p>
+ * All state of a run is kept separately from the compiled program, thus a program can be run any number of times (even
+ * concurrently) without parsing the .bst file again.
+ * <p>
+ * In contrast to the {@link VM}, all variables declared anywhere in the file are known from the start of the
+ * execution.
+ */
+public class BstProgram {
+
+    private static final int FALSE = 0;
+
+    private static final int TRUE = 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BstProgram.class);
+
+    private static final Map<String, Operation> BUILT_IN_FUNCTIONS = createBuiltInFunctions();
+
+    private final String location;
+
+    // The slots of all identifiers, by name
+    private final Map<String, Integer> fields = new LinkedHashMap<>();
+    private final Map<String, Integer> entryIntegers = new HashMap<>();
+    private final Map<String, Integer> entryStrings = new HashMap<>();
+    private final Map<String, Integer> globalIntegers = new HashMap<>();
+    private final Map<String, Integer> globalStrings = new HashMap<>();
+    private final Map<String, Integer> functions = new HashMap<>();
+
+    private final List<Command> commands = new ArrayList<>();
+    private final Field[] fieldsToRead;
+    private final Operation[] initialFunctions;
+    private final int sortKeySlot;
+    private final int[] maxIntegerSlots;
+
+    // Identifiers which are only known when running the program (the entry types used by call.type$)
+    private final Map<String, Operation> operationsByName = new ConcurrentHashMap<>();
+
+    private BstProgram(CommonTree tree, String location) {
+        this.location = location;
+
+        declareIdentifiers(tree);
+        sortKeySlot = entryStrings.get("sort.key$");
+        maxIntegerSlots = new int[] {globalIntegers.get("entry.max$"), globalIntegers.get("global.max$")};
+        fieldsToRead = fields.keySet().stream().map(FieldFactory::parseField).toArray(Field[]::new);
+        initialFunctions = new Operation[functions.size()];
+        BUILT_IN_FUNCTIONS.forEach((name, function) -> initialFunctions[functions.get(name)] = function);
+
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            compileCommand(tree.getChild(i));
+        }
+    }
+
+    public static BstProgram parse(Path file) throws RecognitionException, IOException {
+        return new BstProgram(VM.charStream2CommonTree(new ANTLRFileStream(file.toString())), file + ":");
+    }
+
+    public static BstProgram parse(String bst) throws RecognitionException {
+        return new BstProgram(VM.charStream2CommonTree(new ANTLRStringStream(bst)), "");
+    }
+
+    public String run(BibDatabase database) {
+        return run(database.getEntries(), null, database.getPreamble().orElse(""));
+    }
+
+    public String run(Collection<BibEntry> bibEntries) {
+        return run(bibEntries, null);
+    }
+
+    /**
+     * Transforms the given list of BibEntries to a rendered list of references using the compiled bst file
+     *
+     * @param bibEntries  list of entries to convert
+     * @param bibDatabase (may be null) the bibDatabase used for resolving strings / crossref
+     * @return list of references in plain text form
+     */
+    public String run(Collection<BibEntry> bibEntries, BibDatabase bibDatabase) {
+        return run(bibEntries, bibDatabase, "");
+    }
+
+    private String run(Collection<BibEntry> bibEntries, BibDatabase bibDatabase, String preamble) {
+        Objects.requireNonNull(bibEntries);
+
+        Execution execution = new Execution(bibEntries, bibDatabase, preamble);
+        for (Command command : commands) {
+            command.execute(execution);
+        }
+        return execution.bbl.toString();
+    }
+
+    /**
+     * Assigns a slot to each identifier declared in the file, before any function is compiled
+     */
+    private void declareIdentifiers(CommonTree tree) {
+        BUILT_IN_FUNCTIONS.keySet().forEach(name -> declare(functions, name));
+        declare(globalIntegers, "entry.max$");
+        declare(globalIntegers, "global.max$");
+
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            Tree child = tree.getChild(i);
+            switch (child.getType()) {
+                case BstParser.ENTRY -> {
+                    declareAll(fields, child.getChild(0));
+                    declareAll(entryIntegers, child.getChild(1));
+                    declareAll(entryStrings, child.getChild(2));
+                }
+                case BstParser.INTEGERS -> declareAll(globalIntegers, child.getChild(0));
+                case BstParser.STRINGS -> declareAll(globalStrings, child.getChild(0));
+                case BstParser.FUNCTION, BstParser.MACRO -> declare(functions, child.getChild(0).getText());
+                default -> {
+                    // no declaration
+                }
+            }
+        }
+
+        declare(entryStrings, "sort.key$");
+        declare(fields, StandardField.CROSSREF.getName());
+    }
+
+    private static void declareAll(Map<String, Integer> slots, Tree names) {
+        for (int i = 0; i < names.getChildCount(); i++) {
+            declare(slots, names.getChild(i).getText());
+        }
+    }
+
+    private static void declare(Map<String, Integer> slots, String name) {
+        slots.putIfAbsent(name, slots.size());
+    }
+
+    private void compileCommand(Tree child) {
+        switch (child.getType()) {
+            case BstParser.FUNCTION -> {
+                int slot = functions.get(child.getChild(0).getText());
+                Block body = compileBlock(child.getChild(1));
+                commands.add(execution -> execution.functions[slot] = body);
+            }
+            case BstParser.MACRO -> {
+                int slot = functions.get(child.getChild(0).getText());
+                String replacement = child.getChild(1).getText();
+                Operation macro = (execution, context) -> execution.stack.push(replacement);
+                commands.add(execution -> execution.functions[slot] = macro);
+            }
+            case BstParser.EXECUTE -> {
+                Operation operation = resolve(child.getChild(0).getText());
+                commands.add(execution -> operation.execute(execution, null));
+            }
+            case BstParser.ITERATE -> {
+                Operation function = callFunction(child.getChild(0).getText());
+                commands.add(execution -> {
+                    for (EntryState entry : execution.entries) {
+                        function.execute(execution, entry);
+                    }
+                });
+            }
+            case BstParser.REVERSE -> {
+                Operation function = callFunction(child.getChild(0).getText());
+                commands.add(execution -> {
+                    for (int i = execution.entries.size() - 1; i >= 0; i--) {
+                        function.execute(execution, execution.entries.get(i));
+                    }
+                });
+            }
+            case BstParser.SORT -> commands.add(execution -> execution.entries.sort(Comparator.comparing(entry -> entry.strings[sortKeySlot])));
+            case BstParser.READ -> commands.add(this::read);
+            case BstParser.ENTRY, BstParser.INTEGERS, BstParser.STRINGS -> {
+                // already declared
+            }
+            default -> LOGGER.info("Unknown type: {}", child.getType());
+        }
+    }
+
+    private Block compileBlock(Tree tree) {
+        Operation[] operations = new Operation[tree.getChildCount()];
+        int[] lines = new int[tree.getChildCount()];
+
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            Tree child = tree.getChild(i);
+            lines[i] = child.getLine();
+            switch (child.getType()) {
+                case BstParser.STRING -> {
+                    String text = child.getText();
+                    String value = text.substring(1, text.length() - 1);
+                    operations[i] = (execution, context) -> execution.stack.push(value);
+                }
+                case BstParser.INTEGER -> {
+                    int value = Integer.parseInt(child.getText().substring(1));
+                    operations[i] = (execution, context) -> execution.stack.push(value);
+                }
+                case BstParser.QUOTED -> {
+                    Reference reference = reference(child.getText().substring(1));
+                    operations[i] = (execution, context) -> execution.stack.push(reference);
+                }
+                case BstParser.STACK -> {
+                    Block block = compileBlock(child);
+                    operations[i] = (execution, context) -> execution.stack.push(block);
+                }
+                default -> operations[i] = resolve(child.getText());
+            }
+        }
+        return new Block(operations, lines);
+    }
+
+    /**
+     * Resolves an identifier in the same order as the {@link VM}: entry variables (if there is an entry), global
+     * variables, functions.
+     */
+    private Operation resolve(String name) {
+        Operation global = resolveGlobal(name);
+
+        Integer slot = fields.get(name);
+        if (slot != null) {
+            int field = slot;
+            return (execution, context) -> {
+                if (context == null) {
+                    global.execute(execution, null);
+                } else {
+                    execution.stack.push(context.fields[field]);
+                }
+            };
+        }
+        slot = entryStrings.get(name);
+        if (slot != null) {
+            int string = slot;
+            return (execution, context) -> {
+                if (context == null) {
+                    global.execute(execution, null);
+                } else {
+                    execution.stack.push(context.strings[string]);
+                }
+            };
+        }
+        slot = entryIntegers.get(name);
+        if (slot != null) {
+            int integer = slot;
+            return (execution, context) -> {
+                if (context == null) {
+                    global.execute(execution, null);
+                } else {
+                    execution.stack.push(context.integers[integer]);
+                }
+            };
+        }
+        return global;
+    }
+
+    private Operation resolveGlobal(String name) {
+        Integer slot = globalStrings.get(name);
+        if (slot != null) {
+            int string = slot;
+            return (execution, context) -> execution.stack.push(execution.globalStrings[string]);
+        }
+        slot = globalIntegers.get(name);
+        if (slot != null) {
+            int integer = slot;
+            return (execution, context) -> execution.stack.push(execution.globalIntegers[integer]);
+        }
+        return callFunction(name);
+    }
+
+    private Operation callFunction(String name) {
+        Integer slot = functions.get(name);
+        if (slot == null) {
+            return (execution, context) -> {
+                throw new VMException("No matching identifier found: " + name);
+            };
+        }
+        int function = slot;
+        return (execution, context) -> {
+            Operation operation = execution.functions[function];
+            if (operation == null) {
+                throw new VMException("No matching identifier found: " + name);
+            }
+            operation.execute(execution, context);
+        };
+    }
+
+    private Reference reference(String name) {
+        return new Reference(resolve(name),
+                entryStrings.getOrDefault(name, -1),
+                globalStrings.getOrDefault(name, -1),
+                entryIntegers.getOrDefault(name, -1),
+                globalIntegers.getOrDefault(name, -1));
+    }
+
+    /**
+     * Dredges up from the database file the field values for each entry in the list. Missing fields are null.
+     */
+    private void read(Execution execution) {
+        FieldWriter fieldWriter = new FieldWriter(new FieldWriterPreferences());
+        for (EntryState entry : execution.entries) {
+            for (int i = 0; i < fieldsToRead.length; i++) {
+                entry.fields[i] = VM.readField(fieldWriter, entry.entry, fieldsToRead[i], execution.database);
+            }
+        }
+    }
+
+    private static void warn(String message) {
+        LOGGER.warn(message);
+    }
+
+    private static void requireOperands(Execution execution, int count, String operation) {
+        if (execution.stack.size() < count) {
+            throw new VMException("Not enough operands on stack for operation " + operation);
+        }
+    }
+
+    /**
+     * Executes a function literal (a quoted identifier or an inline block) popped from the stack
+     */
+    private static void executeFunctionLiteral(Object function, Execution execution, EntryState context) {
+        if (function instanceof Operation) {
+            ((Operation) function).execute(execution, context);
+        }
+    }
+
+    /**
+     * See {@link VM} for the documentation of the built-in functions
+     */
+    private static Map<String, Operation> createBuiltInFunctions() {
+        Map<String, Operation> builtIns = new HashMap<>(64);
+
+        builtIns.put(">", (execution, context) -> {
+            requireOperands(execution, 2, ">");
+            int second = execution.stack.popInteger("Can only compare two integers with >");
+            int first = execution.stack.popInteger("Can only compare two integers with >");
+            execution.stack.push(first > second ? TRUE : FALSE);
+        });
+
+        builtIns.put("<", (execution, context) -> {
+            requireOperands(execution, 2, "<");
+            int second = execution.stack.popInteger("Can only compare two integers with <");
+            int first = execution.stack.popInteger("Can only compare two integers with <");
+            execution.stack.push(first < second ? TRUE : FALSE);
+        });
+
+        builtIns.put("=", (execution, context) -> {
+            requireOperands(execution, 2, "=");
+            execution.stack.push(execution.stack.popAndCompareTopTwo() ? TRUE : FALSE);
+        });
+
+        builtIns.put("+", (execution, context) -> {
+            requireOperands(execution, 2, "+");
+            int second = execution.stack.popInteger("Can only add two integers with +");
+            int first = execution.stack.popInteger("Can only add two integers with +");
+            execution.stack.push(first + second);
+        });
+
+        builtIns.put("-", (execution, context) -> {
+            requireOperands(execution, 2, "-");
+            int second = execution.stack.popInteger("Can only subtract two integers with -");
+            int first = execution.stack.popInteger("Can only subtract two integers with -");
+            execution.stack.push(first - second);
+        });
+
+        builtIns.put("*", (execution, context) -> {
+            requireOperands(execution, 2, "*");
+            Object second = execution.stack.pop();
+            Object first = execution.stack.pop();
+            if (!(((first == null) || (first instanceof String)) && ((second == null) || (second instanceof String)))) {
+                throw new VMException("Can only concatenate two String with *");
+            }
+            execution.stack.push((first == null ? "" : (String) first) + (second == null ? "" : (String) second));
+        });
+
+        builtIns.put(":=", (execution, context) -> {
+            if (execution.stack.size() < 2) {
+                throw new VMException("Invalid call to operation :=");
+            }
+            Object target = execution.stack.pop();
+            if (!(target instanceof Reference)) {
+                throw new VMException("Invalid parameters");
+            }
+            Reference reference = (Reference) target;
+            if (execution.stack.isIntegerOnTop()) {
+                reference.assign(execution, context, execution.stack.popInteger("Invalid parameters"));
+            } else {
+                reference.assign(execution, context, execution.stack.popString("Invalid parameters"));
+            }
+        });
+
+        builtIns.put("add.period$", (execution, context) -> {
+            requireOperands(execution, 1, "add.period$");
+            execution.stack.push(VM.addPeriod(execution.stack.popString("Can only add a period to a string for add.period$")));
+        });
+
+        builtIns.put("call.type$", (execution, context) -> {
+            if (context == null) {
+                throw new VMException("Call.type$ can only be called from within a context (ITERATE or REVERSE).");
+            }
+            execution.resolve(context.entry.getType().getName()).execute(execution, context);
+        });
+
+        builtIns.put("change.case$", (execution, context) -> {
+            requireOperands(execution, 2, "change.case$");
+            Object format = execution.stack.pop();
+            if (!((format instanceof String) && (((String) format).length() == 1))) {
+                throw new VMException("A format string of length 1 is needed for change.case$");
+            }
+            String s = execution.stack.popString("A string is needed as second parameter for change.case$");
+            char formatChar = ((String) format).toLowerCase(Locale.ROOT).charAt(0);
+            execution.stack.push(BibtexCaseChanger.changeCase(s, FORMAT_MODE.getFormatModeForBSTFormat(formatChar)));
+        });
+
+        builtIns.put("chr.to.int$", (execution, context) -> {
+            requireOperands(execution, 1, "chr.to.int$");
+            Object o1 = execution.stack.pop();
+            if (!((o1 instanceof String) && (((String) o1).length() == 1))) {
+                throw new VMException("Can only perform chr.to.int$ on string with length 1");
+            }
+            execution.stack.push((int) ((String) o1).charAt(0));
+        });
+
+        builtIns.put("cite$", (execution, context) -> {
+            if (context == null) {
+                throw new VMException("Must have an entry to cite$");
+            }
+            execution.stack.push(context.entry.getCitationKey().orElse(null));
+        });
+
+        builtIns.put("duplicate$", (execution, context) -> {
+            requireOperands(execution, 1, "duplicate$");
+            execution.stack.duplicate();
+        });
+
+        builtIns.put("empty$", (execution, context) -> {
+            requireOperands(execution, 1, "empty$");
+            Object o1 = execution.stack.pop();
+            if (o1 == null) {
+                execution.stack.push(TRUE);
+                return;
+            }
+            if (!(o1 instanceof String)) {
+                throw new VMException("Operand does not match function empty$");
+            }
+            execution.stack.push(((String) o1).isBlank() ? TRUE : FALSE);
+        });
+
+        builtIns.put("format.name$", (execution, context) -> {
+            requireOperands(execution, 3, "format.name$");
+            Object format = execution.stack.pop();
+            Object index = execution.stack.pop();
+            Object names = execution.stack.pop();
+            if (!(format instanceof String) || !(index instanceof Integer) || !(names instanceof String)) {
+                execution.stack.push("");
+                return;
+            }
+            AuthorList authors = AuthorList.parse((String) names);
+            if ((Integer) index > authors.getNumberOfAuthors()) {
+                throw new VMException("Author Out of Bounds. Number " + index + " invalid for " + names);
+            }
+            Author author = authors.getAuthor((Integer) index - 1);
+            execution.stack.push(BibtexNameFormatter.formatName(author, (String) format, BstProgram::warn));
+        });
+
+        builtIns.put("if$", (execution, context) -> {
+            requireOperands(execution, 3, "if$");
+            Object elseBranch = execution.stack.pop();
+            Object thenBranch = execution.stack.pop();
+            int condition = execution.stack.popInteger("Expecting two functions and an integer for if$.");
+            executeFunctionLiteral(condition > 0 ? thenBranch : elseBranch, execution, context);
+        });
+
+        builtIns.put("int.to.chr$", (execution, context) -> {
+            requireOperands(execution, 1, "int.to.chr$");
+            int i = execution.stack.popInteger("Can only perform operation int.to.chr$ on an Integer");
+            execution.stack.push(String.valueOf((char) i));
+        });
+
+        builtIns.put("int.to.str$", (execution, context) -> {
+            requireOperands(execution, 1, "int.to.str$");
+            int i = execution.stack.popInteger("Can only transform an integer to an string using int.to.str$");
+            execution.stack.push(Integer.toString(i));
+        });
+
+        builtIns.put("missing$", (execution, context) -> {
+            requireOperands(execution, 1, "missing$");
+            Object o1 = execution.stack.pop();
+            if (o1 == null) {
+                execution.stack.push(TRUE);
+                return;
+            }
+            if (!(o1 instanceof String)) {
+                warn("Not a string or missing field in operation missing$");
+                execution.stack.push(TRUE);
+                return;
+            }
+            execution.stack.push(FALSE);
+        });
+
+        builtIns.put("newline$", (execution, context) -> execution.bbl.append('\n'));
+
+        builtIns.put("num.names$", (execution, context) -> {
+            requireOperands(execution, 1, "num.names$");
+            String names = execution.stack.popString("Need a string at the top of the stack for num.names$");
+            execution.stack.push(AuthorList.parse(names).getNumberOfAuthors());
+        });
+
+        builtIns.put("pop$", (execution, context) -> execution.stack.pop());
+
+        builtIns.put("preamble$", (execution, context) -> execution.stack.push(execution.preamble));
+
+        builtIns.put("purify$", (execution, context) -> {
+            requireOperands(execution, 1, "purify$");
+            Object o1 = execution.stack.pop();
+            if (!(o1 instanceof String)) {
+                warn("A string is needed for purify$");
+                execution.stack.push("");
+                return;
+            }
+            execution.stack.push(BibtexPurify.purify((String) o1, BstProgram::warn));
+        });
+
+        builtIns.put("quote$", (execution, context) -> execution.stack.push("\""));
+
+        builtIns.put("skip$", (execution, context) -> {
+            // Nothing to do
+        });
+
+        builtIns.put("stack$", (execution, context) -> {
+            while (!execution.stack.isEmpty()) {
+                LOGGER.debug("Stack entry {}", execution.stack.pop());
+            }
+        });
+
+        builtIns.put("substring$", (execution, context) -> {
+            requireOperands(execution, 3, "substring$");
+            int len = execution.stack.popInteger("Expecting two integers and a string for substring$");
+            int start = execution.stack.popInteger("Expecting two integers and a string for substring$");
+            String s = execution.stack.popString("Expecting two integers and a string for substring$");
+            execution.stack.push(VM.substring(s, start, len));
+        });
+
+        builtIns.put("swap$", (execution, context) -> {
+            requireOperands(execution, 2, "swap$");
+            execution.stack.swap();
+        });
+
+        builtIns.put("text.length$", (execution, context) -> {
+            requireOperands(execution, 1, "text.length$");
+            execution.stack.push(VM.textLength(execution.stack.popString("Can only perform operation on a string text.length$")));
+        });
+
+        builtIns.put("text.prefix$", (execution, context) -> {
+            requireOperands(execution, 2, "text.prefix$");
+            if (!execution.stack.isIntegerOnTop()) {
+                execution.stack.pop();
+                warn("An integer is needed as first parameter to text.prefix$");
+                execution.stack.push("");
+                return;
+            }
+            int numberOfChars = execution.stack.popInteger("An integer is needed as first parameter to text.prefix$");
+            Object o2 = execution.stack.pop();
+            if (!(o2 instanceof String)) {
+                warn("A string is needed as second parameter to text.prefix$");
+                execution.stack.push("");
+                return;
+            }
+            execution.stack.push(BibtexTextPrefix.textPrefix(numberOfChars, (String) o2, BstProgram::warn));
+        });
+
+        builtIns.put("top$", (execution, context) -> LOGGER.debug("Stack entry {}", execution.stack.pop()));
+
+        builtIns.put("type$", (execution, context) -> {
+            if (context == null) {
+                throw new VMException("type$ need a context.");
+            }
+            execution.stack.push(context.entry.getType().getName());
+        });
+
+        builtIns.put("warning$", (execution, context) -> LOGGER.warn("Warning (#" + (execution.warnings++) + "): " + execution.stack.pop()));
+
+        builtIns.put("while$", (execution, context) -> {
+            requireOperands(execution, 2, "while$");
+            Object body = execution.stack.pop();
+            Object condition = execution.stack.pop();
+            while (true) {
+                executeFunctionLiteral(condition, execution, context);
+                if (!execution.stack.isIntegerOnTop()) {
+                    throw new VMException("First parameter to while has to return an integer but was " + execution.stack.pop());
+                }
+                if (execution.stack.popInteger("") <= 0) {
+                    break;
+                }
+                executeFunctionLiteral(body, execution, context);
+            }
+        });
+
+        builtIns.put("width$", (execution, context) -> {
+            requireOperands(execution, 1, "width$");
+            Object o1 = execution.stack.pop();
+            if (!(o1 instanceof String)) {
+                warn("A string is needed for width$");
+                execution.stack.push(0);
+                return;
+            }
+            execution.stack.push(BibtexWidth.width((String) o1));
+        });
+
+        builtIns.put("write$", (execution, context) -> {
+            Object o1 = execution.stack.pop();
+            if ((o1 != null) && !(o1 instanceof String)) {
+                throw new VMException("Can only write a string with write$");
+            }
+            execution.bbl.append((String) o1);
+        });
+
+        return builtIns;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void execute(Execution execution, EntryState context);
+    }
+
+    @FunctionalInterface
+    private interface Command {
+        void execute(Execution execution);
+    }
+
+    /**
+     * A compiled function body or inline block (<code>{ ... }</code>)
+     */
+    private class Block implements Operation {
+
+        private final Operation[] operations;
+        // The source line of each operation, for error messages
+        private final int[] lines;
+
+        Block(Operation[] operations, int[] lines) {
+            this.operations = operations;
+            this.lines = lines;
+        }
+
+        @Override
+        public void execute(Execution execution, EntryState context) {
+            int i = 0;
+            try {
+                while (i < operations.length) {
+                    operations[i].execute(execution, context);
+                    i++;
+                }
+            } catch (VMException e) {
+                LOGGER.error("ERROR {} ({}{})", e.getMessage(), location, lines[i]);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * A quoted identifier, which is either assigned to (using :=) or executed (by if$ or while$)
+     */
+    private static class Reference implements Operation {
+
+        private final Operation operation;
+        private final int entryString;
+        private final int globalString;
+        private final int entryInteger;
+        private final int globalInteger;
+
+        Reference(Operation operation, int entryString, int globalString, int entryInteger, int globalInteger) {
+            this.operation = operation;
+            this.entryString = entryString;
+            this.globalString = globalString;
+            this.entryInteger = entryInteger;
+            this.globalInteger = globalInteger;
+        }
+
+        @Override
+        public void execute(Execution execution, EntryState context) {
+            operation.execute(execution, context);
+        }
+
+        void assign(Execution execution, EntryState context, String value) {
+            if ((context != null) && (entryString >= 0)) {
+                context.strings[entryString] = value;
+            } else if (globalString >= 0) {
+                execution.globalStrings[globalString] = value;
+            }
+        }
+
+        void assign(Execution execution, EntryState context, int value) {
+            if ((context != null) && (entryInteger >= 0)) {
+                context.integers[entryInteger] = value;
+            } else if (globalInteger >= 0) {
+                execution.globalIntegers[globalInteger] = value;
+            }
+        }
+    }
+
+    /**
+     * The variables of an entry
+     */
+    private static class EntryState {
+
+        private final BibEntry entry;
+        private final String[] fields;
+        private final String[] strings;
+        private final int[] integers;
+
+        EntryState(BibEntry entry, int numberOfFields, int numberOfStrings, int numberOfIntegers) {
+            this.entry = entry;
+            this.fields = new String[numberOfFields];
+            this.strings = new String[numberOfStrings];
+            this.integers = new int[numberOfIntegers];
+        }
+    }
+
+    /**
+     * The state of one run of the program
+     */
+    private class Execution {
+
+        private final BstStack stack = new BstStack();
+        private final StringBuilder bbl = new StringBuilder();
+        private final Operation[] functions = Arrays.copyOf(initialFunctions, initialFunctions.length);
+        private final String[] globalStrings = new String[BstProgram.this.globalStrings.size()];
+        private final int[] globalIntegers = new int[BstProgram.this.globalIntegers.size()];
+        private final List<EntryState> entries;
+        private final BibDatabase database;
+        private final String preamble;
+        private int warnings = 1;
+
+        Execution(Collection<BibEntry> bibEntries, BibDatabase database, String preamble) {
+            this.database = database;
+            this.preamble = preamble;
+            entries = new ArrayList<>(bibEntries.size());
+            for (BibEntry bibEntry : bibEntries) {
+                entries.add(new EntryState(bibEntry, fields.size(), entryStrings.size(), entryIntegers.size()));
+            }
+            for (int slot : maxIntegerSlots) {
+                globalIntegers[slot] = Integer.MAX_VALUE;
+            }
+        }
+
+        Operation resolve(String name) {
+            return operationsByName.computeIfAbsent(name, BstProgram.this::resolve);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.jabref.logic.bst;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The literal stack of a {@link BstProgram}. Unlike {@link java.util.Stack}, it is not synchronized, and integers are
+ * stored as primitives so that arithmetic and comparisons do not box.
+ * <p>
+ * Besides integers, the stack holds strings (null for missing fields) and function literals.
+ */
+class BstStack {
+
+    // Marks a slot of values which holds an integer (stored in the same slot of integers)
+    private static final Object INTEGER = new Object();
+
+    private Object[] values = new Object[64];
+    private int[] integers = new int[64];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isIntegerOnTop() {
+        return (size > 0) && (values[size - 1] == INTEGER);
+    }
+
+    void push(Object value) {
+        ensureCapacity();
+        values[size++] = value;
+    }
+
+    void push(int value) {
+        ensureCapacity();
+        values[size] = INTEGER;
+        integers[size++] = value;
+    }
+
+    /**
+     * Pops the top literal. Integers are returned boxed.
+     */
+    Object pop() {
+        requireNotEmpty();
+        size--;
+        Object value = values[size];
+        values[size] = null;
+        return value == INTEGER ? Integer.valueOf(integers[size]) : value;
+    }
+
+    /**
+     * Pops the top literal, which has to be an integer
+     *
+     * @param errorMessage the message of the exception thrown if the top literal is no integer
+     */
+    int popInteger(String errorMessage) {
+        if (!isIntegerOnTop()) {
+            throw new VMException(errorMessage);
+        }
+        size--;
+        values[size] = null;
+        return integers[size];
+    }
+
+    /**
+     * Pops the top literal, which has to be a (non-missing) string
+     *
+     * @param errorMessage the message of the exception thrown if the top literal is no string
+     */
+    String popString(String errorMessage) {
+        Object value = pop();
+        if (!(value instanceof String)) {
+            throw new VMException(errorMessage);
+        }
+        return (String) value;
+    }
+
+    /**
+     * Pops the top two literals and checks them for equality. Literals of different types are never equal.
+     */
+    boolean popAndCompareTopTwo() {
+        boolean firstIsInteger = isIntegerOnTop();
+        Object first = values[size - 1];
+        int firstInteger = integers[size - 1];
+        pop();
+        boolean secondIsInteger = isIntegerOnTop();
+        Object second = values[size - 1];
+        int secondInteger = integers[size - 1];
+        pop();
+
+        if (firstIsInteger || secondIsInteger) {
+            return firstIsInteger && secondIsInteger && (firstInteger == secondInteger);
+        }
+        return Objects.equals(first, second);
+    }
+
+    void duplicate() {
+        requireNotEmpty();
+        ensureCapacity();
+        values[size] = values[size - 1];
+        integers[size] = integers[size - 1];
+        size++;
+    }
+
+    void swap() {
+        Object value = values[size - 1];
+        values[size - 1] = values[size - 2];
+        values[size - 2] = value;
+        int integer = integers[size - 1];
+        integers[size - 1] = integers[size - 2];
+        integers[size - 2] = integer;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new VMException("The stack is empty");
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            integers = Arrays.copyOf(integers, size * 2);
+        }
+    }
+}
@@ -632,7 +632,13 @@ public class VM implements Warn {
             throw new VMException("Can only perform operation on a string text.length$");
         }
 
-        String s = (String) o1;
+        stack.push(textLength((String) o1));
+    }
+
+    /**
+     * Counts the text characters of the given string as done by text.length$
+     */
+    static int textLength(String s) {
         char[] c = s.toCharArray();
         int result = 0;
 
@@ -699,7 +705,7 @@ public class VM implements Warn {
                 result++;
             }
         }
-        stack.push(result);
+        return result;
     }
 
     private void whileFunction(BstEntry context) {
@@ -740,9 +746,16 @@ public class VM implements Warn {
             throw new VMException("Expecting two integers and a string for substring$");
         }
 
-        Integer len = (Integer) o1;
-        Integer start = (Integer) o2;
+        stack.push(substring((String) o3, (Integer) o2, (Integer) o1));
+    }
 
+    /**
+     * Computes the result of substring$
+     *
+     * @param start the 1-based start, counted from the end if negative
+     * @param len   the maximum length of the substring
+     */
+    static String substring(String s, int start, int len) {
         int lenI = len;
         int startI = start;
 
@@ -758,13 +771,11 @@ public class VM implements Warn {
             startI = -Integer.MIN_VALUE / 2;
         }
 
-        String s = (String) o3;
-
         if (startI < 0) {
             startI += s.length() + 1;
             startI = Math.max(1, (startI + 1) - lenI);
         }
-        stack.push(s.substring(startI - 1, Math.min((startI - 1) + lenI, s.length())));
+        return s.substring(startI - 1, Math.min((startI - 1) + lenI, s.length()));
     }
 
     private void addPeriodFunction() {
@@ -777,7 +788,14 @@ public class VM implements Warn {
             throw new VMException("Can only add a period to a string for add.period$");
         }
 
-        String s = (String) o1;
+        stack.push(addPeriod((String) o1));
+    }
+
+    /**
+     * Adds a period to the given string, unless the last non-brace character is a period, question mark or
+     * exclamation mark
+     */
+    static String addPeriod(String s) {
         Matcher m = ADD_PERIOD_PATTERN.matcher(s);
 
         if (m.find()) {
@@ -788,13 +806,13 @@ public class VM implements Warn {
             if (group2 != null) {
                 sb.append(m.group(2));
             }
-            stack.push(sb.toString());
+            return sb.toString();
         } else {
-            stack.push(s);
+            return s;
         }
     }
 
-    private static CommonTree charStream2CommonTree(CharStream bst) throws RecognitionException {
+    static CommonTree charStream2CommonTree(CharStream bst) throws RecognitionException {
         BstLexer lex = new BstLexer(bst);
         CommonTokenStream tokens = new CommonTokenStream(lex);
         BstParser parser = new BstParser(tokens);
@@ -931,30 +949,7 @@ public class VM implements Warn {
         for (BstEntry e : entries) {
             for (Map.Entry<String, String> mEntry : e.fields.entrySet()) {
                 Field field = FieldFactory.parseField(mEntry.getKey());
-                String fieldValue = e.entry.getResolvedFieldOrAlias(field, bibDatabase)
-                                           .map(content -> {
-                                               try {
-                                                   String result = fieldWriter.write(field, content);
-                                                   if (result.startsWith("{")) {
-                                                       // Strip enclosing {} from the output
-                                                       return result.substring(1, result.length() - 1);
-                                                   }
-                                                   if (field == StandardField.MONTH) {
-                                                       // We don't have the internal BibTeX strings at hand.
-                                                       // We nevertheless want to have the full month name.
-                                                       // Thus, we lookup the full month name here.
-                                                       return Month.parse(result)
-                                                                   .map(month -> month.getFullName())
-                                                                   .orElse(result);
-                                                   }
-                                                   return result;
-                                               } catch (InvalidFieldValueException invalidFieldValueException) {
-                                                   // in case there is something wrong with the content, just return the content itself
-                                                   return content;
-                                               }
-                                           })
-                                           .orElse(null);
-                mEntry.setValue(fieldValue);
+                mEntry.setValue(readField(fieldWriter, e.entry, field, bibDatabase));
             }
         }
 
@@ -965,6 +960,35 @@ public class VM implements Warn {
         }
     }
 
+    /**
+     * Returns the value of the given field as seen by the bst program, or null if the field is missing
+     */
+    static String readField(FieldWriter fieldWriter, BibEntry entry, Field field, BibDatabase bibDatabase) {
+        return entry.getResolvedFieldOrAlias(field, bibDatabase)
+                    .map(content -> {
+                        try {
+                            String result = fieldWriter.write(field, content);
+                            if (result.startsWith("{")) {
+                                // Strip enclosing {} from the output
+                                return result.substring(1, result.length() - 1);
+                            }
+                            if (field == StandardField.MONTH) {
+                                // We don't have the internal BibTeX strings at hand.
+                                // We nevertheless want to have the full month name.
+                                // Thus, we lookup the full month name here.
+                                return Month.parse(result)
+                                            .map(month -> month.getFullName())
+                                            .orElse(result);
+                            }
+                            return result;
+                        } catch (InvalidFieldValueException invalidFieldValueException) {
+                            // in case there is something wrong with the content, just return the content itself
+                            return content;
+                        }
+                    })
+                    .orElse(null);
+    }
+
     /**
      * Defines a string macro. It has two arguments; the first is the macro's name, which is treated like any other
      * variable or function name, and the second is its definition, which must be double-quote-delimited. You must have
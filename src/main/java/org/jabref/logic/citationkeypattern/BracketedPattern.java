@@ -217,29 +217,49 @@ public class BracketedPattern {
      */
     public static String expandBrackets(String pattern, Function<String, String> bracketContentHandler) {
         Objects.requireNonNull(pattern);
-        StringBuilder expandedPattern = new StringBuilder();
+        return compile(pattern).expand(bracketContentHandler);
+    }
+
+    /**
+     * Parses a pattern into its literal text and its bracketed expressions. Expanding the resulting
+     * {@link CompiledPattern} for many entries avoids tokenizing the pattern again for each entry.
+     *
+     * @param pattern The pattern to compile
+     * @return The compiled pattern. Not null.
+     */
+    public static CompiledPattern compile(String pattern) {
+        Objects.requireNonNull(pattern);
+        List<PatternPart> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
         StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
 
         while (parsedPattern.hasMoreTokens()) {
             String token = parsedPattern.nextToken();
             switch (token) {
-                case "\"" -> appendQuote(expandedPattern, parsedPattern);
+                case "\"" -> appendQuote(literal, parsedPattern);
                 case "[" -> {
                     String fieldMarker = contentBetweenBrackets(parsedPattern, pattern);
-                    expandedPattern.append(bracketContentHandler.apply(fieldMarker));
+                    if (literal.length() > 0) {
+                        parts.add(PatternPart.literal(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    parts.add(PatternPart.bracket(fieldMarker));
                 }
                 case "\\" -> {
                     if (parsedPattern.hasMoreTokens()) {
-                        expandedPattern.append(parsedPattern.nextToken());
+                        literal.append(parsedPattern.nextToken());
                     } else {
                         LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
                     }
                 }
-                default -> expandedPattern.append(token);
+                default -> literal.append(token);
             }
         }
+        if (literal.length() > 0) {
+            parts.add(PatternPart.literal(literal.toString()));
+        }
 
-        return expandedPattern.toString();
+        return new CompiledPattern(parts);
     }
 
     /**
@@ -1306,4 +1326,64 @@ public class BracketedPattern {
         }
         return nameParts;
     }
+
+    /**
+     * A pattern parsed by {@link BracketedPattern#compile(String)}. It is immutable and can be shared between threads.
+     */
+    public static class CompiledPattern {
+        private final List<PatternPart> parts;
+
+        private CompiledPattern(List<PatternPart> parts) {
+            this.parts = List.copyOf(parts);
+        }
+
+        /**
+         * @param bracketContentHandler A function taking the string representation of the content of a bracketed
+         *                              pattern and expanding it
+         * @return The expanded pattern. Not null.
+         */
+        public String expand(Function<String, String> bracketContentHandler) {
+            StringBuilder expandedPattern = new StringBuilder();
+            for (PatternPart part : parts) {
+                expandedPattern.append(part.isLiteral() ? part.text : bracketContentHandler.apply(part.text));
+            }
+            return expandedPattern.toString();
+        }
+
+        /**
+         * @param fieldAndModifiersHandler A function taking the field and modifiers of a bracketed pattern (as returned
+         *                                 by {@link BracketedPattern#parseFieldAndModifiers(String)}) and expanding it
+         * @return The expanded pattern. Not null.
+         */
+        public String expandFieldAndModifiers(Function<List<String>, String> fieldAndModifiersHandler) {
+            StringBuilder expandedPattern = new StringBuilder();
+            for (PatternPart part : parts) {
+                expandedPattern.append(part.isLiteral() ? part.text : fieldAndModifiersHandler.apply(part.fieldAndModifiers));
+            }
+            return expandedPattern.toString();
+        }
+    }
+
+    private static class PatternPart {
+        private final String text;
+        // null for literal text
+        private final List<String> fieldAndModifiers;
+
+        private PatternPart(String text, List<String> fieldAndModifiers) {
+            this.text = text;
+            this.fieldAndModifiers = fieldAndModifiers;
+        }
+
+        static PatternPart literal(String text) {
+            return new PatternPart(text, null);
+        }
+
+        static PatternPart bracket(String content) {
+            return new PatternPart(content, Collections.unmodifiableList(parseFieldAndModifiers(content)));
+        }
+
+        boolean isLiteral() {
+            return fieldAndModifiers == null;
+        }
+    }
 }
@@ -1,12 +1,21 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -34,6 +43,9 @@ public class CitationKeyGenerator extends BracketedPattern {
     private final BibDatabase database;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
     private final String unwantedCharacters;
+    private final Optional<Pattern> keyPatternRegex;
+    // Each pattern is compiled once and then used for all entries of the same type
+    private final Map<String, CompiledPattern> compiledPatterns = new ConcurrentHashMap<>();
 
     public CitationKeyGenerator(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this(bibDatabaseContext.getMetaData().getCiteKeyPattern(citationKeyPatternPreferences.getKeyPattern()),
@@ -46,6 +58,19 @@ public class CitationKeyGenerator extends BracketedPattern {
         this.database = Objects.requireNonNull(database);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
         this.unwantedCharacters = citationKeyPatternPreferences.getUnwantedCharacters();
+        this.keyPatternRegex = compileKeyPatternRegex(citationKeyPatternPreferences.getKeyPatternRegex());
+    }
+
+    private static Optional<Pattern> compileKeyPatternRegex(String regex) {
+        if ((regex == null) || regex.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Pattern.compile(regex));
+        } catch (PatternSyntaxException e) {
+            LOGGER.warn("There is a syntax error in the regular expression \"{}\" used to generate a citation key", regex, e);
+            return Optional.empty();
+        }
     }
 
     @Deprecated
@@ -123,6 +148,71 @@ public class CitationKeyGenerator extends BracketedPattern {
         return cleanKey(newKey, unwantedCharacters);
     }
 
+    /**
+     * Generates the citation keys of all given entries at once. This is much faster than calling
+     * {@link #generateKey(BibEntry)} for each entry: the patterns are expanded in parallel, and the uniqueness of the
+     * keys is checked against a registry of the keys in use.
+     * <p>
+     * The keys of all other entries of the database are considered to be in use. The current keys of the given entries
+     * are not, as they are replaced. Collisions between the new keys are resolved in the order of the given list, i.e.,
+     * the result does not depend on the order of the parallel expansion.
+     *
+     * @param entries the entries to generate keys for
+     * @return the new keys, in the order of the given entries
+     */
+    public List<String> generateKeys(List<BibEntry> entries) {
+        List<String> keysWithoutSuffix = entries.parallelStream()
+                                                .map(entry -> replaceWithRegex(createCitationKeyFromPattern(entry)))
+                                                .collect(Collectors.toList());
+
+        Set<BibEntry> regeneratedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        regeneratedEntries.addAll(entries);
+        Set<String> keysInUse = new HashSet<>();
+        for (BibEntry entry : database.getEntries()) {
+            if (!regeneratedEntries.contains(entry)) {
+                entry.getCitationKey().ifPresent(keysInUse::add);
+            }
+        }
+
+        // Remembers the next appendix to try for each key, so that the used appendices are not tried again
+        Map<String, Integer> nextAppendix = new HashMap<>();
+        List<String> keys = new ArrayList<>(entries.size());
+        for (String key : keysWithoutSuffix) {
+            String keyWithSuffix = appendLettersToKey(key, keysInUse, nextAppendix);
+            String cleanedKey = cleanKey(keyWithSuffix, unwantedCharacters);
+            // The uncleaned key is checked for collisions (as in generateKey), thus it is registered, too
+            keysInUse.add(keyWithSuffix);
+            keysInUse.add(cleanedKey);
+            keys.add(cleanedKey);
+        }
+        return keys;
+    }
+
+    private String appendLettersToKey(String key, Set<String> keysInUse, Map<String, Integer> nextAppendix) {
+        if (!isAlwaysAddLetter() && !keysInUse.contains(key)) {
+            return key;
+        }
+
+        int number = Math.max(getFirstAppendixNumber(), nextAppendix.getOrDefault(key, 0));
+        String moddedKey = key + getAppendix(number);
+        while (keysInUse.contains(moddedKey)) {
+            number++;
+            moddedKey = key + getAppendix(number);
+        }
+        nextAppendix.put(key, number + 1);
+        return moddedKey;
+    }
+
+    private boolean isAlwaysAddLetter() {
+        return citationKeyPatternPreferences.getKeySuffix() == CitationKeyPatternPreferences.KeySuffix.ALWAYS;
+    }
+
+    private int getFirstAppendixNumber() {
+        boolean firstLetterA = citationKeyPatternPreferences.getKeySuffix()
+                == CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A;
+        return !isAlwaysAddLetter() && !firstLetterA ? 1 : 0;
+    }
+
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
@@ -137,15 +227,11 @@ public class CitationKeyGenerator extends BracketedPattern {
             occurrences--; // No change, so we can accept one dupe.
         }
 
-        boolean alwaysAddLetter = citationKeyPatternPreferences.getKeySuffix()
-                == CitationKeyPatternPreferences.KeySuffix.ALWAYS;
+        boolean alwaysAddLetter = isAlwaysAddLetter();
 
         if (alwaysAddLetter || occurrences != 0) {
             // The key is already in use, so we must modify it.
-            boolean firstLetterA = citationKeyPatternPreferences.getKeySuffix()
-                    == CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A;
-
-            int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+            int number = getFirstAppendixNumber();
             String moddedKey;
 
             do {
@@ -172,16 +258,8 @@ public class CitationKeyGenerator extends BracketedPattern {
      */
     private String replaceWithRegex(String key) {
         // Remove Regular Expressions while generating Keys
-        String regex = citationKeyPatternPreferences.getKeyPatternRegex();
-        if ((regex != null) && !regex.trim().isEmpty()) {
-            String replacement = citationKeyPatternPreferences.getKeyPatternReplacement();
-            try {
-                key = key.replaceAll(regex, replacement);
-            } catch (PatternSyntaxException e) {
-                LOGGER.warn("There is a syntax error in the regular expression \"{}\" used to generate a citation key", regex, e);
-            }
-        }
-        return key;
+        return keyPatternRegex.map(regex -> regex.matcher(key).replaceAll(citationKeyPatternPreferences.getKeyPatternReplacement()))
+                              .orElse(key);
     }
 
     private String createCitationKeyFromPattern(BibEntry entry) {
@@ -192,7 +270,8 @@ public class CitationKeyGenerator extends BracketedPattern {
         if (citationKeyPattern.isEmpty()) {
             return "";
         }
-        return expandBrackets(citationKeyPattern.get(0), expandBracketContent(entry));
+        return compiledPatterns.computeIfAbsent(citationKeyPattern.get(0), BracketedPattern::compile)
+                               .expandFieldAndModifiers(fieldParts -> expandFieldAndModifiers(entry, fieldParts));
     }
 
     /**
@@ -202,21 +281,19 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a cleaned citation key for the given {@link BibEntry}
      */
     private Function<String, String> expandBracketContent(BibEntry entry) {
-        Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
-
-        return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
+        return (String bracket) -> expandFieldAndModifiers(entry, parseFieldAndModifiers(bracket));
+    }
 
-            expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database), unwantedCharacters);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(entry));
-            }
-            return cleanKey(expandedPattern, unwantedCharacters);
-        };
+    private String expandFieldAndModifiers(BibEntry entry, List<String> fieldParts) {
+        Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
+        String expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.get(0), keywordDelimiter, database), unwantedCharacters);
+        // check whether there is a modifier on the end such as
+        // ":lower":
+        if (fieldParts.size() > 1) {
+            // apply modifiers:
+            expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(entry));
+        }
+        return cleanKey(expandedPattern, unwantedCharacters);
     }
 
     /**
@@ -229,4 +306,19 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates citation keys for the given entries (see {@link #generateKeys(List)}), and sets the keys.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys (only for the entries whose key changed)
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        List<String> newKeys = generateKeys(entries);
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setCitationKey(newKeys.get(i)).ifPresent(changes::add);
+        }
+        return changes;
+    }
 }
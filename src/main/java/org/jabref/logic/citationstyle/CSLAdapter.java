@@ -31,11 +31,9 @@ import org.jbibtex.Key;
  * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
  * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
  * same style. Changing the output format is cheap.
- * @implNote The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTakk, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * @implNote The main CSL engine under the hood is not thread-safe. Therefore, {@link #makeBibliography} enforces
+ * synchronized calling. To render citations concurrently, use one instance per thread, e.g. by borrowing instances from
+ * a {@link CSLAdapterPool}.
  */
 public class CSLAdapter {
 
@@ -57,6 +55,13 @@ public class CSLAdapter {
         return Arrays.asList(bibliography.getEntries());
     }
 
+    /**
+     * Returns whether the CSL engine of this adapter has already been created for the given style
+     */
+    public synchronized boolean isInitializedWith(String style) {
+        return (cslInstance != null) && Objects.equals(this.style, style);
+    }
+
     /**
      * Initialized the static CSL instance if needed.
      *
@@ -0,0 +1,76 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of {@link CSLAdapter}s. The CSL engine is not thread-safe, thus each thread rendering citations
+ * borrows an adapter of its own.
+ *
+ * @implNote Adapters are created lazily, i.e., only if all existing adapters are in use, and the number of adapters is
+ * capped, because each one holds a complete JavaScript engine. An adapter keeps its CSL engine as long as the style does
+ * not change. Thus, the pool prefers handing out an idle adapter which already rendered the requested style. Changing
+ * the output format of an adapter is cheap.
+ */
+public class CSLAdapterPool {
+
+    /**
+     * Upper bound of the default pool size to limit the memory consumed by the JavaScript engines
+     */
+    private static final int MAX_DEFAULT_POOL_SIZE = 8;
+
+    private final int maxAdapters;
+
+    // most recently released adapters first
+    private final BlockingDeque<CSLAdapter> idleAdapters = new LinkedBlockingDeque<>();
+    private final AtomicInteger createdAdapters = new AtomicInteger();
+
+    public CSLAdapterPool() {
+        this(Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_POOL_SIZE));
+    }
+
+    public CSLAdapterPool(int maxAdapters) {
+        if (maxAdapters < 1) {
+            throw new IllegalArgumentException("The pool must be able to hold at least one adapter");
+        }
+        this.maxAdapters = maxAdapters;
+    }
+
+    /**
+     * Borrows an adapter for the given style. If all adapters are in use and no further adapter may be created, waits at
+     * most the given time for an adapter to be released. The adapter has to be given back using
+     * {@link #release(CSLAdapter)}.
+     *
+     * @return the adapter, or an empty optional if no adapter became available in time
+     */
+    public Optional<CSLAdapter> acquire(String style, long timeout, TimeUnit unit) throws InterruptedException {
+        for (CSLAdapter adapter : idleAdapters) {
+            // Another thread may have taken the adapter in the meantime
+            if (adapter.isInitializedWith(style) && idleAdapters.removeFirstOccurrence(adapter)) {
+                return Optional.of(adapter);
+            }
+        }
+
+        if (createdAdapters.getAndUpdate(created -> (created < maxAdapters) ? created + 1 : created) < maxAdapters) {
+            return Optional.of(new CSLAdapter());
+        }
+
+        // Reuse the least recently used adapter, its engine will be re-instantiated for the new style
+        return Optional.ofNullable(idleAdapters.pollLast(timeout, unit));
+    }
+
+    public void release(CSLAdapter adapter) {
+        idleAdapters.offerFirst(adapter);
+    }
+
+    public int getMaxAdapters() {
+        return maxAdapters;
+    }
+
+    int getNumberOfCreatedAdapters() {
+        return createdAdapters.get();
+    }
+}
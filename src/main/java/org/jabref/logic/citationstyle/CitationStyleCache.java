@@ -1,75 +1,195 @@
 package org.jabref.logic.citationstyle;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.jabref.logic.layout.TextBasedPreviewLayout;
 import org.jabref.logic.preview.PreviewLayout;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.event.EntryChangedEvent;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.eventbus.Subscribe;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Caches the generated Citations for quicker access
  * {@link CitationStyleGenerator} generates the citation with JavaScript which may take some time
+ * <p>
+ * The citations are keyed by a hash of the definition of the style and of the content of the entry, including resolved
+ * strings and the crossref'ed entry. Thus, a changed entry or style simply leads to a new key, switching back to a
+ * previously used style finds the old citations again, and the optional on-disk tier keeps the citations of unchanged
+ * entries across restarts.
  */
-public class CitationStyleCache {
+public class CitationStyleCache implements AutoCloseable {
 
-    private static final int CACHE_SIZE = 1024;
+    public static final int DEFAULT_CACHE_SIZE = 1024;
 
-    private PreviewLayout citationStyle;
-    private final LoadingCache<BibEntry, String> citationStyleCache;
+    private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleCache.class);
+    private static final String PERSISTENT_MAP_NAME = "citations";
+    // Only a few styles are used at once (the preview cycle)
+    private static final int STYLE_DIGEST_CACHE_SIZE = 16;
+
+    private final BibDatabaseContext database;
+    private final Cache<String, String> citationStyleCache;
+    // definition of the style -> its digest, so that large styles are not hashed on every lookup
+    private final Cache<String, String> styleDigests = CacheBuilder.newBuilder()
+                                                                   .maximumSize(STYLE_DIGEST_CACHE_SIZE)
+                                                                   .build();
+    private final Optional<MVStore> persistentStore;
+    private final Optional<MVMap<String, String>> persistentCitations;
+    private final AtomicLong persistentHits = new AtomicLong();
+
+    private volatile PreviewLayout citationStyle;
 
     public CitationStyleCache(BibDatabaseContext database) {
-        citationStyleCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, String>() {
-            @Override
-            public String load(BibEntry entry) {
-                if (citationStyle != null) {
-                    return citationStyle.generatePreview(entry, database.getDatabase());
-                } else {
-                    return "";
-                }
-            }
-        });
-        database.getDatabase().registerListener(new BibDatabaseEntryListener());
+        this(database, DEFAULT_CACHE_SIZE, Optional.empty());
     }
 
     /**
-     * Returns the citation for the given entry.
+     * @param cacheSize           the number of citations kept in memory
+     * @param persistentCacheFile the file of the on-disk tier. If empty or if the file cannot be opened, citations are
+     *                            only cached in memory.
      */
-    public String getCitationFor(BibEntry entry) {
-        return citationStyleCache.getUnchecked(entry);
+    public CitationStyleCache(BibDatabaseContext database, int cacheSize, Optional<Path> persistentCacheFile) {
+        this.database = Objects.requireNonNull(database);
+        this.persistentStore = persistentCacheFile.flatMap(CitationStyleCache::openStore);
+        this.persistentCitations = persistentStore.map(store -> store.<String, String>openMap(PERSISTENT_MAP_NAME));
+        this.citationStyleCache = CacheBuilder.newBuilder()
+                                              .maximumSize(cacheSize)
+                                              .recordStats()
+                                              .build();
     }
 
-    public void setCitationStyle(PreviewLayout citationStyle) {
-        Objects.requireNonNull(citationStyle);
-        if (!this.citationStyle.equals(citationStyle)) {
-            this.citationStyle = citationStyle;
-            this.citationStyleCache.invalidateAll();
+    private static Optional<MVStore> openStore(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            return Optional.of(new MVStore.Builder()
+                    .fileName(file.toAbsolutePath().toString())
+                    .compress()
+                    .open());
+        } catch (IOException | IllegalStateException e) {
+            // e.g., the file is locked by another instance of JabRef: we simply do without the on-disk tier
+            LOGGER.warn("Could not open citation cache {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the citation for the given entry in the style set by {@link #setCitationStyle(PreviewLayout)}.
+     */
+    public String getCitationFor(BibEntry entry) {
+        PreviewLayout style = citationStyle;
+        if (style == null) {
+            return "";
         }
+        return getCitationFor(style, entry);
     }
 
-    private class BibDatabaseEntryListener {
-        /**
-         * removes the outdated citation of the changed entry
-         */
-        @Subscribe
-        public void listen(EntryChangedEvent entryChangedEvent) {
-            citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
+    /**
+     * Returns the citation for the given entry in the given style.
+     */
+    public String getCitationFor(PreviewLayout style, BibEntry entry) {
+        String key = getKey(style, entry);
+        try {
+            return citationStyleCache.get(key, () -> loadCitation(key, style, entry));
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
         }
+    }
 
-        /**
-         * removes the citation of the removed entries as they are not needed anymore
-         */
-        @Subscribe
-        public void listen(EntriesRemovedEvent entriesRemovedEvent) {
-            for (BibEntry entry : entriesRemovedEvent.getBibEntries()) {
-                citationStyleCache.invalidate(entry);
+    private String loadCitation(String key, PreviewLayout style, BibEntry entry) {
+        if (persistentCitations.isPresent()) {
+            String persistedCitation = persistentCitations.get().get(key);
+            if (persistedCitation != null) {
+                persistentHits.incrementAndGet();
+                return persistedCitation;
             }
         }
+
+        String citation = style.generatePreview(entry, database.getDatabase());
+        persistentCitations.ifPresent(citations -> citations.put(key, citation));
+        return citation;
+    }
+
+    private String getKey(PreviewLayout style, BibEntry entry) {
+        String content = style.getClass().getName() + '\u0000' + getStyleDigest(style) + '\u0000' + getEntryContent(entry);
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Returns the digest of the definition of the given style. The digest is only computed once per definition. Later
+     * lookups get the same definition string from the style, whose hash code is cached by the string itself.
+     */
+    private String getStyleDigest(PreviewLayout style) {
+        String content = getStyleContent(style);
+        try {
+            return styleDigests.get(content, () -> Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString());
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * The names of the styles are not unique (e.g., the same for all customized layouts), thus the definition is used
+     */
+    private static String getStyleContent(PreviewLayout style) {
+        if (style instanceof CitationStylePreviewLayout) {
+            return ((CitationStylePreviewLayout) style).getSource();
+        } else if (style instanceof TextBasedPreviewLayout) {
+            return ((TextBasedPreviewLayout) style).getText();
+        } else {
+            return style.getName();
+        }
+    }
+
+    /**
+     * The content of the entry as seen by the style, i.e., with resolved strings and including the crossref'ed entry
+     */
+    private String getEntryContent(BibEntry entry) {
+        BibDatabase bibDatabase = database.getDatabase();
+        StringBuilder content = new StringBuilder(bibDatabase.resolveForStrings(entry.toString()));
+        bibDatabase.getReferencedEntry(entry)
+                   .ifPresent(parent -> content.append('\u0000').append(bibDatabase.resolveForStrings(parent.toString())));
+        return content.toString();
+    }
+
+    /**
+     * Sets the style used for subsequent calls of {@link #getCitationFor(BibEntry)}. The citations of other styles are
+     * kept, because the style is part of the cache key.
+     */
+    public void setCitationStyle(PreviewLayout citationStyle) {
+        this.citationStyle = Objects.requireNonNull(citationStyle);
+        getStyleDigest(citationStyle);
+    }
+
+    /**
+     * Returns hit and miss counts of the in-memory tier.
+     * Note that a miss in memory may still be a hit of the on-disk tier, see {@link #getPersistentHitCount()}.
+     */
+    public CacheStats getStatistics() {
+        return citationStyleCache.stats();
+    }
+
+    public long getPersistentHitCount() {
+        return persistentHits.get();
+    }
+
+    @Override
+    public void close() {
+        persistentStore.ifPresent(MVStore::close);
     }
 }
@@ -1,8 +1,12 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
@@ -18,7 +22,9 @@ import org.slf4j.LoggerFactory;
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool();
+    // Rendering a bibliography usually takes far less than a second
+    private static final long ADAPTER_TIMEOUT_SECONDS = 30;
 
     private CitationStyleGenerator() {
     }
@@ -56,8 +62,23 @@ public class CitationStyleGenerator {
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
+        Optional<CSLAdapter> borrowedAdapter;
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat);
+            borrowedAdapter = CSL_ADAPTER_POOL.acquire(style, ADAPTER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for a citation style engine", e);
+            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
+        }
+        if (borrowedAdapter.isEmpty()) {
+            LOGGER.warn("No citation style engine became available within {} seconds", ADAPTER_TIMEOUT_SECONDS);
+            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
+        }
+
+        CSLAdapter adapter = borrowedAdapter.get();
+
+        try {
+            return adapter.makeBibliography(bibEntries, style, outputFormat);
         } catch (IllegalArgumentException ignored) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", ignored);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -72,6 +93,31 @@ public class CitationStyleGenerator {
                     Localization.lang("Bad character inside entry") +
                     outputFormat.getLineSeparator() +
                     e.getLocalizedMessage());
+        } finally {
+            CSL_ADAPTER_POOL.release(adapter);
         }
     }
+
+    /**
+     * Generates the citation of each entry on its own, i.e., each entry is rendered as if it was the only entry of the
+     * bibliography (as done by the preview). In contrast to {@link #generateCitations}, the entries are split into
+     * batches, which are rendered in parallel by different citation style engines.
+     *
+     * @return the citations in the order of the given entries
+     * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     */
+    public static List<String> generateIndividualCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
+        int batchSize = Math.max(1, (bibEntries.size() + CSL_ADAPTER_POOL.getMaxAdapters() - 1) / CSL_ADAPTER_POOL.getMaxAdapters());
+        List<List<BibEntry>> batches = new ArrayList<>();
+        for (int start = 0; start < bibEntries.size(); start += batchSize) {
+            batches.add(bibEntries.subList(start, Math.min(start + batchSize, bibEntries.size())));
+        }
+
+        return batches.parallelStream()
+                      .map(batch -> batch.stream()
+                                         .map(entry -> generateCitation(entry, style, outputFormat))
+                                         .collect(Collectors.toList()))
+                      .flatMap(List::stream)
+                      .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,33 @@
+package org.jabref.logic.cleanup;
+
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The outcome of cleaning up several entries: the changes made to all entries, including the changes made to an entry
+ * before one of its cleanup jobs failed, and the entries for which a job failed.
+ */
+public class CleanupResult {
+
+    private final List<FieldChange> changes;
+    private final List<BibEntry> failedEntries;
+
+    public CleanupResult(List<FieldChange> changes, List<BibEntry> failedEntries) {
+        this.changes = changes;
+        this.failedEntries = failedEntries;
+    }
+
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+
+    public List<BibEntry> getFailedEntries() {
+        return failedEntries;
+    }
+
+    public boolean hasFailures() {
+        return !failedEntries.isEmpty();
+    }
+}
@@ -3,6 +3,14 @@ package org.jabref.logic.cleanup;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.FieldChange;
@@ -10,8 +18,18 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.FilePreferences;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class CleanupWorker {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanupWorker.class);
+
+    /**
+     * Maximal number of threads renaming and moving files at the same time
+     */
+    private static final int MAX_FILE_THREADS = 4;
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final TimestampPreferences timestampPreferences;
@@ -36,6 +54,86 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up all given entries. The cleanup jobs of the preset are created once and applied to each entry in the
+     * same order as by {@link #cleanup(CleanupPreset, BibEntry)}. The jobs not touching the file system run in
+     * parallel for several entries, the jobs renaming or moving files run in a small pool of threads.
+     * <p>
+     * A job failing for one entry does not stop the cleanup of the other entries. The remaining jobs of that entry are
+     * skipped, but the changes already made to it are part of the result, so that they can be undone.
+     *
+     * @param progressListener is called with the number of finished entries and the total number of entries each
+     *                         time an entry is finished (from any thread)
+     * @return the changes of all entries, in the order of the entries, and the entries for which a job failed
+     */
+    public CleanupResult cleanup(CleanupPreset preset, List<BibEntry> entries, BiConsumer<Integer, Integer> progressListener) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
+        List<CleanupPhase> phases = determineCleanupPhases(determineCleanupActions(preset));
+        boolean accessesFiles = phases.stream().anyMatch(phase -> phase.accessesFiles);
+        ExecutorService fileExecutor = accessesFiles
+                ? Executors.newFixedThreadPool(Math.min(MAX_FILE_THREADS, Runtime.getRuntime().availableProcessors()))
+                : null;
+
+        long start = System.nanoTime();
+        AtomicInteger entriesDone = new AtomicInteger();
+        try {
+            // The phases of an entry run one after another, so each entry needs no synchronized list of changes
+            List<List<FieldChange>> entryChanges = new ArrayList<>(entries.size());
+            List<CompletableFuture<Void>> results = new ArrayList<>(entries.size());
+            for (BibEntry entry : entries) {
+                List<FieldChange> changes = new ArrayList<>();
+                CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+                for (CleanupPhase phase : phases) {
+                    Executor executor = phase.accessesFiles ? fileExecutor : ForkJoinPool.commonPool();
+                    result = result.thenRunAsync(() -> phase.cleanup(entry, changes), executor);
+                }
+                entryChanges.add(changes);
+                results.add(result.whenComplete((ignored, exception) ->
+                        progressListener.accept(entriesDone.incrementAndGet(), entries.size())));
+            }
+
+            List<FieldChange> changes = new ArrayList<>();
+            List<BibEntry> failedEntries = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                try {
+                    results.get(i).join();
+                } catch (CompletionException exception) {
+                    LOGGER.error("Could not clean up entry {}", entries.get(i).getCitationKey().orElse(""), exception.getCause());
+                    failedEntries.add(entries.get(i));
+                }
+                // the future is completed, thus the changes of the entry are visible here
+                changes.addAll(entryChanges.get(i));
+            }
+
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            LOGGER.debug("Cleaned up {} entries in {} ms ({} entries/s)", entries.size(), elapsedMillis, (entries.size() * 1000L) / elapsedMillis);
+            return new CleanupResult(changes, failedEntries);
+        } finally {
+            if (fileExecutor != null) {
+                fileExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Groups consecutive jobs into phases which either all access files or all do not.
+     */
+    private static List<CleanupPhase> determineCleanupPhases(List<CleanupJob> jobs) {
+        List<CleanupPhase> phases = new ArrayList<>();
+        CleanupPhase currentPhase = null;
+        for (CleanupJob job : jobs) {
+            boolean accessesFiles = (job instanceof RenamePdfCleanup) || (job instanceof MoveFilesCleanup);
+            if ((currentPhase == null) || (currentPhase.accessesFiles != accessesFiles)) {
+                currentPhase = new CleanupPhase(accessesFiles);
+                phases.add(currentPhase);
+            }
+            currentPhase.jobs.add(job);
+        }
+        return phases;
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreset preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
@@ -82,4 +180,20 @@ public class CleanupWorker {
                 throw new UnsupportedOperationException(action.name());
         }
     }
+
+    private static class CleanupPhase {
+
+        private final boolean accessesFiles;
+        private final List<CleanupJob> jobs = new ArrayList<>();
+
+        CleanupPhase(boolean accessesFiles) {
+            this.accessesFiles = accessesFiles;
+        }
+
+        void cleanup(BibEntry entry, List<FieldChange> changes) {
+            for (CleanupJob job : jobs) {
+                changes.addAll(job.cleanup(entry));
+            }
+        }
+    }
 }
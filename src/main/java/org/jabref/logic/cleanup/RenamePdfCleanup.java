@@ -4,8 +4,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.externalfiles.LinkedFileHandler;
 import org.jabref.model.FieldChange;
@@ -25,6 +27,11 @@ public class RenamePdfCleanup implements CleanupJob {
     private final boolean onlyRelativePaths;
     private final FilePreferences filePreferences;
 
+    // The same job cleans up several entries in parallel, which may suggest the same name for files in one directory.
+    // Renames within one directory are thus done one after another, so that the existence check and the move of one
+    // rename do not interleave with another.
+    private final Map<Path, Object> directoryLocks = new ConcurrentHashMap<>();
+
     public RenamePdfCleanup(boolean onlyRelativePaths, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
         this.onlyRelativePaths = onlyRelativePaths;
@@ -41,9 +48,19 @@ public class RenamePdfCleanup implements CleanupJob {
                 continue;
             }
 
+            Optional<Path> directory = file.findIn(databaseContext, filePreferences).map(Path::getParent);
+            if (directory.isEmpty()) {
+                // the file does not exist, thus there is nothing to rename
+                continue;
+            }
+
             LinkedFileHandler fileHandler = new LinkedFileHandler(file, entry, databaseContext, filePreferences);
+            Object directoryLock = directoryLocks.computeIfAbsent(directory.get().toAbsolutePath().normalize(), key -> new Object());
             try {
-                boolean changedFile = fileHandler.renameToSuggestedName();
+                boolean changedFile;
+                synchronized (directoryLock) {
+                    changedFile = fileHandler.renameToSuggestedName();
+                }
                 if (changedFile) {
                     changed = true;
                 }
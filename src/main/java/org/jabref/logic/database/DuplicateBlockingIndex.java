@@ -0,0 +1,210 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Groups entries into blocks of possible duplicates, so that {@link DuplicateCheck#isDuplicate} only has to be called
+ * for pairs of entries sharing a block instead of for all pairs of entries.
+ * <p>
+ * An entry is put into the following blocks:
+ * <ul>
+ *     <li>one block per identifier (DOI, ePrint, PMID, ISBN), as entries with the same identifier are duplicates regardless of their type</li>
+ *     <li>several blocks derived from its title using locality-sensitive hashing (MinHash of the character trigrams of the title), so that entries with similar titles share a block with high probability</li>
+ *     <li>one block for the last name of the first author (or editor) and the year</li>
+ * </ul>
+ * The blocks not derived from identifiers include the entry type, because entries of different types are never
+ * considered duplicates. Entries without any of these data are put into one block per entry type.
+ * <p>
+ * The blocks are computed when an entry is added. Thus, changes of an entry after adding it are not reflected.
+ */
+public class DuplicateBlockingIndex {
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]");
+    private static final int SHINGLE_LENGTH = 3;
+
+    // The probability that two titles share at least one band is 1 - (1 - s^ROWS_PER_BAND)^BANDS for a Jaccard
+    // similarity s of their trigrams, i.e., about 97% for s = 0.7 and less than 1% for s = 0.2
+    private static final int BANDS = 20;
+    private static final int ROWS_PER_BAND = 5;
+    private static final long[] MIN_HASH_SEEDS = createSeeds(BANDS * ROWS_PER_BAND);
+
+    private final Map<String, List<BibEntry>> blocks = new HashMap<>();
+    private final Map<BibEntry, Set<String>> blocksOfEntry = new IdentityHashMap<>();
+    private final Map<BibEntry, Long> insertionOrder = new IdentityHashMap<>();
+    private long insertedEntries;
+
+    public DuplicateBlockingIndex() {
+    }
+
+    public DuplicateBlockingIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    public synchronized void add(BibEntry entry) {
+        if (blocksOfEntry.containsKey(entry)) {
+            return;
+        }
+        Set<String> keys = getBlockingKeys(entry);
+        blocksOfEntry.put(entry, keys);
+        insertionOrder.put(entry, insertedEntries++);
+        for (String key : keys) {
+            blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    public synchronized void remove(BibEntry entry) {
+        Set<String> keys = blocksOfEntry.remove(entry);
+        if (keys == null) {
+            return;
+        }
+        insertionOrder.remove(entry);
+        for (String key : keys) {
+            List<BibEntry> block = blocks.get(key);
+            block.removeIf(other -> other == entry);
+            if (block.isEmpty()) {
+                blocks.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the entries of the index which share a block with the given entry, i.e., all entries which may be a
+     * duplicate of it. The given entry itself is not returned. The entries are returned in the order they were added.
+     * The given entry does not need to be part of the index.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        Set<String> keys = Optional.ofNullable(blocksOfEntry.get(entry)).orElseGet(() -> getBlockingKeys(entry));
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String key : keys) {
+            candidates.addAll(blocks.getOrDefault(key, List.of()));
+        }
+        candidates.remove(entry);
+
+        List<BibEntry> result = new ArrayList<>(candidates);
+        result.sort(Comparator.comparing(insertionOrder::get));
+        return result;
+    }
+
+    /**
+     * Returns all pairs of entries sharing a block. Each pair is returned once, with the entry added first as first
+     * element. The pairs are ordered by their first and then by their second element.
+     */
+    public synchronized List<List<BibEntry>> getCandidatePairs() {
+        List<BibEntry> entries = new ArrayList<>(insertionOrder.keySet());
+        entries.sort(Comparator.comparing(insertionOrder::get));
+
+        List<List<BibEntry>> pairs = new ArrayList<>();
+        for (BibEntry first : entries) {
+            long firstPosition = insertionOrder.get(first);
+            for (BibEntry second : getCandidates(first)) {
+                if (insertionOrder.get(second) > firstPosition) {
+                    pairs.add(List.of(first, second));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ':' + value));
+        }
+        entry.getDOI().ifPresent(doi -> keys.add("doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        String type = entry.getType().getName().toLowerCase(Locale.ROOT);
+        entry.getLatexFreeField(StandardField.TITLE)
+             .map(title -> NON_ALPHANUMERIC.matcher(title.toLowerCase(Locale.ROOT)).replaceAll(""))
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> {
+                 long[] signature = getMinHashSignature(title);
+                 for (int band = 0; band < BANDS; band++) {
+                     StringBuilder key = new StringBuilder("title:").append(type).append(':').append(band);
+                     for (int row = 0; row < ROWS_PER_BAND; row++) {
+                         key.append(':').append(Long.toHexString(signature[(band * ROWS_PER_BAND) + row]));
+                     }
+                     keys.add(key.toString());
+                 }
+             });
+
+        Optional<String> firstAuthor = entry.getField(StandardField.AUTHOR)
+                                            .or(() -> entry.getField(StandardField.EDITOR))
+                                            .map(AuthorList::parse)
+                                            .filter(authors -> !authors.isEmpty())
+                                            .flatMap(authors -> authors.getAuthor(0).getLast())
+                                            .map(lastName -> lastName.toLowerCase(Locale.ROOT));
+        Optional<String> year = entry.getFieldOrAlias(StandardField.YEAR);
+        if (firstAuthor.isPresent() && year.isPresent()) {
+            keys.add("author:" + type + ':' + firstAuthor.get() + ':' + year.get().trim());
+        }
+
+        if (keys.isEmpty()) {
+            keys.add("type:" + type);
+        }
+        return keys;
+    }
+
+    private static long[] getMinHashSignature(String normalizedTitle) {
+        Set<String> shingles = new HashSet<>();
+        if (normalizedTitle.length() <= SHINGLE_LENGTH) {
+            shingles.add(normalizedTitle);
+        } else {
+            for (int i = 0; i <= (normalizedTitle.length() - SHINGLE_LENGTH); i++) {
+                shingles.add(normalizedTitle.substring(i, i + SHINGLE_LENGTH));
+            }
+        }
+
+        long[] signature = new long[MIN_HASH_SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long shingleHash = shingle.hashCode();
+            for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ MIN_HASH_SEEDS[i]));
+            }
+        }
+        return signature;
+    }
+
+    private static long[] createSeeds(int count) {
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = mix(i + 1);
+        }
+        return seeds;
+    }
+
+    /**
+     * The finalizer of MurmurHash3, spreads all bits of the input over the result
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -361,4 +361,19 @@ public class DuplicateCheck {
 
         return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
+
+    /**
+     * Same as {@link #containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}, but only compares the entry with the
+     * candidates determined by the given index. The entry itself is never reported as its own duplicate.
+     *
+     * @param index The index of the entries to search.
+     * @param entry The entry of which we are looking for duplicates.
+     * @return The first duplicate entry found (in the order of the index). Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateBlockingIndex index,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+
+        return index.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    }
 }
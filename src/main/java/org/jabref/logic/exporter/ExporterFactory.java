@@ -15,9 +15,10 @@ import org.jabref.logic.xmp.XmpPreferences;
 public class ExporterFactory {
 
     /**
-     * Global variable that is used for counting output entries when exporting:
+     * Global variable that is used as the entry number by layouts which are processed without an explicit entry number
+     * (e.g., previews). Exports pass the number of each entry to {@link org.jabref.logic.layout.Layout#doLayout(org.jabref.model.entry.BibEntry, org.jabref.model.database.BibDatabase, int)}.
      *
-     * @deprecated find a better way to do this
+     * @deprecated pass the entry number to the layout instead
      */
     @Deprecated public static int entryNumber;
 
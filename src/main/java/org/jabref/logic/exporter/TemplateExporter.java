@@ -6,14 +6,22 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
@@ -21,10 +29,13 @@ import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,15 +44,23 @@ import org.slf4j.LoggerFactory;
  */
 public class TemplateExporter extends Exporter {
 
-    private static final String BLANK_LINE_PATTERN = "\\r\\n|\\n";
+    private static final Pattern BLANK_LINE_PATTERN = Pattern.compile("\\r\\n|\\n");
     private static final String LAYOUT_PREFIX = "/resource/layout/";
     private static final String LAYOUT_EXTENSION = ".layout";
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    // Number of entries which are rendered before they are written
+    private static final int CHUNK_SIZE = 1000;
+    private static final int LAYOUT_CACHE_SIZE = 200;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    private static final Cache<LayoutKey, Optional<Layout>> LAYOUT_CACHE = CacheBuilder.newBuilder()
+                                                                                      .maximumSize(LAYOUT_CACHE_SIZE)
+                                                                                      .build();
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -149,28 +168,30 @@ public class TemplateExporter extends Exporter {
         return this;
     }
 
+    /**
+     * Returns the path of the given layout file, either within the classpath or, for custom exports, in the file system.
+     */
+    private String getLayoutPath(String filename) {
+        // If this is a custom export, just use the given filename:
+        if (customExport) {
+            return filename;
+        }
+        return LAYOUT_PREFIX + (directory == null ? "" : directory + '/') + filename;
+    }
+
     /**
      * This method should return a reader from which the given layout file can be read.
      * <p>
      * Subclasses of TemplateExporter are free to override and provide their own implementation.
      *
-     * @param filename the filename
+     * @param name the path of the layout file, see {@link #getLayoutPath(String)}
      * @return a newly created reader
      * @throws IOException if the reader could not be created
      */
-    private Reader getReader(String filename) throws IOException {
-        // If this is a custom export, just use the given filename:
-        String dir;
-        if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
-        }
-
+    private Reader getReader(String name) throws IOException {
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
-        String name = dir + filename;
         Reader reader;
         // Try loading as a resource first. This works for files inside the JAR:
         URL reso = TemplateExporter.class.getResource(name);
@@ -190,6 +211,44 @@ public class TemplateExporter extends Exporter {
         return reader;
     }
 
+    /**
+     * Returns the layout of the given layout file, or an empty Optional if the file does not exist. Parsed layouts are
+     * shared by all exports until the layout file or the formatters file of this export changes.
+     */
+    private Optional<Layout> getLayout(String filename) throws IOException {
+        String name = getLayoutPath(filename);
+        LayoutKey key = new LayoutKey(name, getLastModified(name), getLastModified(lfFileName + FORMATTERS_EXTENSION), layoutPreferences);
+        try {
+            return LAYOUT_CACHE.get(key, () -> readLayout(name));
+        } catch (ExecutionException e) {
+            throw new IOException("Could not read layout file: '" + name + "'.", e.getCause());
+        }
+    }
+
+    private Optional<Layout> readLayout(String name) {
+        try (Reader reader = getReader(name)) {
+            return Optional.of(new LayoutHelper(reader, layoutPreferences).getLayoutFromText());
+        } catch (IOException ex) {
+            // The layout file does not exist, e.g., the export filter doesn't have a begin file
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the last modification time of the given layout file, 0 for layouts bundled in the JAR (which cannot
+     * change), and -1 if the file does not exist.
+     */
+    private static long getLastModified(String name) {
+        if (TemplateExporter.class.getResource(name) != null) {
+            return 0;
+        }
+        try {
+            return Files.getLastModifiedTime(Path.of(name)).toMillis();
+        } catch (IOException | InvalidPathException ex) {
+            return -1;
+        }
+    }
+
     @Override
     public void export(final BibDatabaseContext databaseContext, final Path file,
                        final Charset encoding, List<BibEntry> entries) throws Exception {
@@ -200,8 +259,6 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encoding)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
@@ -209,17 +266,10 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
-            // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encoding));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            Optional<Layout> beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION);
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encoding));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -232,76 +282,33 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
+            String defLayoutFileName = lfFileName + LAYOUT_EXTENSION;
+            Layout defLayout = getLayout(defLayoutFileName)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + getLayoutPath(defLayoutFileName) + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExporterFactory.entryNumber = 0;
+            // Get the layouts of all entry types before rendering the entries. We try to get a type-specific layout
+            // and go with the default one if none exists.
+            Map<EntryType, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                ExporterFactory.entryNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+                if (!layouts.containsKey(type)) {
+                    Optional<Layout> typeLayout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION);
+                    typeLayout.ifPresent(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+                    layouts.put(type, typeLayout.orElse(defLayout));
                 }
             }
 
-            // Print footer
-
-            // changed section - begin (arudert)
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
+            writeEntries(ps, sorted, layouts, databaseContext.getDatabase());
 
-            // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, this.encoding));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            // Print footer
+            Optional<Layout> endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION);
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, this.encoding));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             // Clear custom name formatters:
@@ -315,6 +322,45 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Writes the given entries in chunks of {@link #CHUNK_SIZE}. The entries of a chunk are rendered in parallel and
+     * then written in their order. If a layout depends on the previous entry (group blocks), the entries are rendered
+     * one after another.
+     * <p>
+     * The layouts and their formatters are shared by the threads rendering a chunk and, through {@link #LAYOUT_CACHE},
+     * by concurrent exports. Therefore, formatters must not change their state when formatting (see {@link org.jabref.logic.layout.format.XMLChars}).
+     */
+    private void writeEntries(Writer writer, List<BibEntry> entries, Map<EntryType, Layout> layouts, BibDatabase database) throws IOException {
+        boolean parallel = layouts.values().stream().noneMatch(Layout::dependsOnPreviousEntry);
+        for (int chunkStart = 0; chunkStart < entries.size(); chunkStart += CHUNK_SIZE) {
+            IntStream indices = IntStream.range(chunkStart, Math.min(chunkStart + CHUNK_SIZE, entries.size()));
+            if (parallel) {
+                indices = indices.parallel();
+            }
+            // The entry number output by the Number formatter starts at 1
+            List<String> renderedEntries = indices.mapToObj(i -> renderEntry(entries.get(i), i + 1, layouts, database))
+                                                  .collect(Collectors.toList());
+            for (String renderedEntry : renderedEntries) {
+                writer.write(renderedEntry);
+            }
+        }
+    }
+
+    private String renderEntry(BibEntry entry, int entryNumber, Map<EntryType, Layout> layouts, BibDatabase database) {
+        String output = layouts.get(entry.getType()).doLayout(entry, database, entryNumber);
+        if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+            return output;
+        }
+
+        StringBuilder builder = new StringBuilder(output.length());
+        for (String line : BLANK_LINE_PATTERN.split(output)) {
+            if (!line.isBlank()) {
+                builder.append(line).append(OS.NEWLINE);
+            }
+        }
+        return builder.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
@@ -358,4 +404,43 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    /**
+     * Identifies a parsed layout. The layout preferences are compared by identity, as they are changed in place when
+     * the formatters file of an export is read.
+     */
+    private static class LayoutKey {
+
+        private final String name;
+        private final long lastModified;
+        private final long formattersLastModified;
+        private final LayoutFormatterPreferences preferences;
+
+        LayoutKey(String name, long lastModified, long formattersLastModified, LayoutFormatterPreferences preferences) {
+            this.name = name;
+            this.lastModified = lastModified;
+            this.formattersLastModified = formattersLastModified;
+            this.preferences = preferences;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            LayoutKey other = (LayoutKey) o;
+            return (lastModified == other.lastModified)
+                    && (formattersLastModified == other.formattersLastModified)
+                    && name.equals(other.name)
+                    && (preferences == other.preferences);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, lastModified, formattersLastModified, System.identityHashCode(preferences));
+        }
+    }
 }
@@ -1,13 +1,11 @@
 package org.jabref.logic.formatter.bibtexfields;
 
 import java.util.Objects;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
+import org.jabref.logic.util.strings.CodePointTable;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
 
 import org.slf4j.Logger;
@@ -19,90 +17,172 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
 
     private static final int MAX_TAG_LENGTH = 100;
 
-    private static final Pattern ESCAPED_PATTERN = Pattern.compile("&#([x]*)([0]*)(\\p{XDigit}+);");
-    private static final Pattern ESCAPED_PATTERN2 = Pattern.compile("(.)&#([x]*)([0]*)(\\p{XDigit}+);");
-    private static final Pattern ESCAPED_PATTERN3 = Pattern.compile("&#([x]*)([0]*)(\\p{XDigit}+);");
-    private static final Pattern ESCAPED_PATTERN4 = Pattern.compile("&(\\w+);");
+    private static final CodePointTable NUMERICAL_LATEX = new CodePointTable(HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP);
+    private static final CodePointTable COMBINING_ACCENTS = new CodePointTable(HTMLUnicodeConversionMaps.ESCAPED_ACCENTS);
 
+    /**
+     * Converts the given HTML in a single pass: tags are removed, except for sup and sub tags which are converted to
+     * \textsuperscript and \textsubscript, and HTML entities are converted to LaTeX.
+     */
     @Override
     public String format(String text) {
-        String result = Objects.requireNonNull(text);
+        Objects.requireNonNull(text);
 
-        if (result.isEmpty()) {
-            return result;
+        if (text.isEmpty()) {
+            return text;
         }
 
-        StringBuilder sb = new StringBuilder();
-        // Deal with the form <sup>k</sup>and <sub>k</sub>
-        result = result.replaceAll("<[ ]?sup>([^<]+)</sup>", "\\\\textsuperscript\\{$1\\}");
-        result = result.replaceAll("<[ ]?sub>([^<]+)</sub>", "\\\\textsubscript\\{$1\\}");
+        StringBuilder result = new StringBuilder(text.length());
+        // Position of the tag closing the current \textsuperscript or \textsubscript
+        int closingTagPosition = -1;
+        int position = 0;
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (position == closingTagPosition) {
+                result.append('}');
+                position += "</sup>".length();
+                closingTagPosition = -1;
+            } else if (c == '<') {
+                // Deal with the form <sup>k</sup>and <sub>k</sub>
+                closingTagPosition = findClosingTag(text, position);
+                if (closingTagPosition >= 0) {
+                    result.append(text.startsWith("</sup>", closingTagPosition) ? "\\textsuperscript{" : "\\textsubscript{");
+                }
+                // Note that (at least) the IEEE Xplore fetcher must be fixed as it relies on the current way to
+                // remove tags for its image alt-tag to equation converter
+                position = readTag(text, position) + 1;
+            } else if (c == '&') {
+                position = readEntity(text, position, result);
+            } else {
+                result.append(c);
+                position++;
+            }
+        }
 
-        // TODO: maybe rewrite this based on regular expressions instead
-        // Note that (at least) the IEEE Xplore fetcher must be fixed as it relies on the current way to
-        // remove tags for its image alt-tag to equation converter
-        for (int i = 0; i < result.length(); i++) {
+        // Remove $$ in case of two adjacent conversions
+        return result.toString().replace("$$", "").trim();
+    }
 
-            int c = result.charAt(i);
+    /**
+     * Returns the position of the tag closing the sup or sub tag starting at the given position, or -1 if there is no
+     * such tag or the text in between contains other tags
+     */
+    private int findClosingTag(String text, int position) {
+        int namePosition = position + 1;
+        if (text.startsWith(" ", namePosition)) {
+            namePosition++;
+        }
+        String closingTag;
+        if (text.startsWith("sup>", namePosition)) {
+            closingTag = "</sup>";
+        } else if (text.startsWith("sub>", namePosition)) {
+            closingTag = "</sub>";
+        } else {
+            return -1;
+        }
+        int contentPosition = namePosition + "sup>".length();
+        int closingPosition = text.indexOf('<', contentPosition);
+        if ((closingPosition > contentPosition) && text.startsWith(closingTag, closingPosition)) {
+            return closingPosition;
+        }
+        return -1;
+    }
 
-            if (c == '<') {
-                i = readTag(result, i);
-            } else {
-                sb.append((char) c);
-            }
+    /**
+     * Converts the HTML entity starting at the given position and appends it to the result. Text based entities are
+     * looked up first, then numerical ones. A numerical entity of a combining accent is applied to the last character
+     * of the result.
+     *
+     * @return the position after the entity
+     */
+    private int readEntity(String text, int position, StringBuilder result) {
+        int end = position + 1;
+        while ((end < text.length()) && isEntityCharacter(text.charAt(end))) {
+            end++;
+        }
+        if ((end == text.length()) || (text.charAt(end) != ';')) {
+            result.append('&');
+            return position + 1;
         }
-        result = sb.toString();
+        String entity = text.substring(position, end + 1);
 
         // Handle text based HTML entities
-        Set<String> patterns = HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.keySet();
-        for (String pattern : patterns) {
-            result = result.replace(pattern, HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.get(pattern));
+        String latex = HTMLUnicodeConversionMaps.HTML_LATEX_CONVERSION_MAP.get(entity);
+        if (latex != null) {
+            result.append(latex);
+            return end + 1;
         }
 
         // Handle numerical HTML entities
-        Matcher m = ESCAPED_PATTERN.matcher(result);
-        while (m.find()) {
-            int num = Integer.decode(m.group(1).replace("x", "#") + m.group(3));
-            if (HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP.containsKey(num)) {
-                result = result.replace("&#" + m.group(1) + m.group(2) + m.group(3) + ";",
-                        HTMLUnicodeConversionMaps.NUMERICAL_LATEX_CONVERSION_MAP.get(num));
+        int number = parseNumericalEntity(entity);
+        if (number >= 0) {
+            latex = NUMERICAL_LATEX.get(number);
+            if (latex != null) {
+                result.append(latex);
+                return end + 1;
             }
-        }
 
-        // Combining accents
-        m = ESCAPED_PATTERN2.matcher(result);
-        while (m.find()) {
-            int num = Integer.decode(m.group(2).replace("x", "#") + m.group(4));
-            if (HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.containsKey(num)) {
-                if ("i".equals(m.group(1))) {
-                    result = result.replace(m.group(1) + "&#" + m.group(2) + m.group(3) + m.group(4) + ";",
-                            "{\\" + HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num) + "{\\i}}");
-                } else if ("j".equals(m.group(1))) {
-                    result = result.replace(m.group(1) + "&#" + m.group(2) + m.group(3) + m.group(4) + ";",
-                            "{\\" + HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num) + "{\\j}}");
+            // Combining accents
+            String accent = COMBINING_ACCENTS.get(number);
+            if ((accent != null) && (result.length() > 0) && !isLineTerminator(result.charAt(result.length() - 1))) {
+                char base = result.charAt(result.length() - 1);
+                result.setLength(result.length() - 1);
+                result.append("{\\").append(accent).append('{');
+                if (base == 'i') {
+                    result.append("\\i");
+                } else if (base == 'j') {
+                    result.append("\\j");
                 } else {
-                    result = result.replace(m.group(1) + "&#" + m.group(2) + m.group(3) + m.group(4) + ";",
-                            "{\\" + HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(num) + "{" + m.group(1) + "}}");
+                    result.append(base);
                 }
+                result.append("}}");
+                return end + 1;
             }
-        }
 
-        // Find non-converted numerical characters
-        m = ESCAPED_PATTERN3.matcher(result);
-        while (m.find()) {
-            int num = Integer.decode(m.group(1).replace("x", "#") + m.group(3));
-            LOGGER.warn("HTML escaped char not converted: {}{}{} = {}", m.group(1), m.group(2), m.group(3), " = ", num);
+            // Find non-converted numerical characters
+            LOGGER.warn("HTML escaped char not converted: {} = {}", entity, number);
+        } else {
+            // Find non-covered special characters with alphabetic codes
+            LOGGER.warn("HTML escaped char not converted: {}", entity);
         }
+        result.append(entity);
+        return end + 1;
+    }
 
-        // Remove $$ in case of two adjacent conversions
-        result = result.replace("$$", "");
-
-        // Find non-covered special characters with alphabetic codes
-        m = ESCAPED_PATTERN4.matcher(result);
-        while (m.find()) {
-            LOGGER.warn("HTML escaped char not converted: " + m.group(1));
+    /**
+     * Parses entities of the form &amp;#123; or &amp;#x7b;
+     *
+     * @return the number of the entity, or -1 if it is no numerical entity
+     */
+    private static int parseNumericalEntity(String entity) {
+        if (!entity.startsWith("&#")) {
+            return -1;
+        }
+        boolean hexadecimal = entity.startsWith("&#x");
+        int radix = hexadecimal ? 16 : 10;
+        int start = hexadecimal ? 3 : 2;
+        int end = entity.length() - 1;
+        // Skip leading zeros, so they are not taken as octal prefix and do not count towards the maximal length
+        while ((start < (end - 1)) && (entity.charAt(start) == '0')) {
+            start++;
         }
+        if ((start == end) || ((end - start) > 7)) {
+            return -1;
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.digit(entity.charAt(i), radix) < 0) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(entity, start, end, radix);
+    }
+
+    private static boolean isEntityCharacter(char c) {
+        return ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || ((c >= '0') && (c <= '9')) || (c == '_') || (c == '#');
+    }
 
-        return result.trim();
+    private static boolean isLineTerminator(char c) {
+        return (c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029');
     }
 
     @Override
@@ -115,6 +195,10 @@ public class HtmlToLatexFormatter extends Formatter implements LayoutFormatter {
         return "<strong>JabRef</strong>";
     }
 
+    /**
+     * Returns the position of the end of the tag starting at the given position. If the tag does not end within
+     * {@link #MAX_TAG_LENGTH} characters, the position itself is returned, so only the &lt; is skipped.
+     */
     private int readTag(String text, int position) {
         // Have just read the < character that starts the tag.
         int index = text.indexOf('>', position);
@@ -1,11 +1,11 @@
 package org.jabref.logic.formatter.bibtexfields;
 
-import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatter;
+import org.jabref.logic.util.strings.CodePointTable;
 import org.jabref.logic.util.strings.HTMLUnicodeConversionMaps;
 
 import org.slf4j.Logger;
@@ -15,55 +15,53 @@ public class UnicodeToLatexFormatter extends Formatter implements LayoutFormatte
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnicodeToLatexFormatter.class);
 
+    private static final CodePointTable LATEX = CodePointTable.fromStrings(HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP);
+    private static final CodePointTable COMBINING_ACCENTS = new CodePointTable(HTMLUnicodeConversionMaps.ESCAPED_ACCENTS);
+
     @Override
     public String format(String text) {
-        String result = Objects.requireNonNull(text);
+        Objects.requireNonNull(text);
 
-        if (result.isEmpty()) {
-            return result;
+        if (text.isEmpty()) {
+            return text;
         }
 
-        // Standard symbols
-        for (Map.Entry<String, String> unicodeLatexPair : HTMLUnicodeConversionMaps.UNICODE_LATEX_CONVERSION_MAP
-                .entrySet()) {
-            result = result.replace(unicodeLatexPair.getKey(), unicodeLatexPair.getValue());
-        }
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int position = 0;
+        while (position < text.length()) {
+            int codePoint = text.codePointAt(position);
+            position += Character.charCount(codePoint);
+
+            // Standard symbols
+            String latex = LATEX.get(codePoint);
+            int lastCodePoint = codePoint;
+            if (latex != null) {
+                result.append(latex, 0, latex.length() - 1);
+                lastCodePoint = latex.charAt(latex.length() - 1);
+            }
 
-        // Combining accents
-        StringBuilder sb = new StringBuilder();
-        boolean consumed = false;
-        for (int i = 0; i <= (result.length() - 2); i++) {
-            if (!consumed && (i < (result.length() - 1))) {
-                int cpCurrent = result.codePointAt(i);
-                Integer cpNext = result.codePointAt(i + 1);
-                String code = HTMLUnicodeConversionMaps.ESCAPED_ACCENTS.get(cpNext);
-                if (code == null) {
-                    // skip next index to avoid reading surrogate as a separate char
-                    if (!Character.isBmpCodePoint(cpCurrent)) {
-                        i++;
-                    }
-                    sb.appendCodePoint(cpCurrent);
-                } else {
-                    sb.append("{\\").append(code).append('{').append((char) cpCurrent).append("}}");
-                    consumed = true;
+            // Combining accents are applied to the last character written
+            String accent = null;
+            if (position < text.length()) {
+                int nextCodePoint = text.codePointAt(position);
+                accent = COMBINING_ACCENTS.get(nextCodePoint);
+                if (accent != null) {
+                    position += Character.charCount(nextCodePoint);
                 }
+            }
+
+            if (accent == null) {
+                result.appendCodePoint(lastCodePoint);
             } else {
-                consumed = false;
+                result.append("{\\").append(accent).append('{').appendCodePoint(lastCodePoint).append("}}");
             }
-        }
-        if (!consumed) {
-            sb.append((char) result.codePointAt(result.length() - 1));
-        }
-        result = sb.toString();
 
-        // Check if any symbols is not converted
-        for (int i = 0; i <= (result.length() - 1); i++) {
-            int cp = result.codePointAt(i);
-            if (cp >= 129) {
-                LOGGER.warn("Unicode character not converted: " + cp);
+            // Check if any symbols is not converted
+            if ((latex == null) && (codePoint >= 129)) {
+                LOGGER.warn("Unicode character not converted: {}", codePoint);
             }
         }
-        return result;
+        return result.toString();
     }
 
     @Override
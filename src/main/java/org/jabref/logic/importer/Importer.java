@@ -10,6 +10,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import org.jabref.logic.util.FileType;
 import org.jabref.model.database.BibDatabaseModeDetection;
@@ -84,16 +85,34 @@ public abstract class Importer implements Comparable<Importer> {
      */
     public ParserResult importDatabase(Path filePath, Charset encoding) throws IOException {
         try (BufferedReader bufferedReader = getReader(filePath, encoding)) {
-            ParserResult parserResult = importDatabase(bufferedReader);
-            parserResult.getMetaData().setEncoding(encoding);
-            parserResult.setFile(filePath.toFile());
+            return completeFileResult(importDatabase(bufferedReader), filePath, encoding);
+        }
+    }
 
-            // Make sure the mode is always set
-            if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
-            }
-            return parserResult;
+    /**
+     * Parse the database in the specified file like {@link #importDatabase(Path, Charset)}. Importers reading the file
+     * record by record (see {@link StreamingImporter}) report their progress to the given listener while reading.
+     *
+     * @param progressListener is called on the reading thread with the number of entries read so far
+     */
+    public ParserResult importDatabase(Path filePath, Charset encoding, IntConsumer progressListener) throws IOException {
+        if (!(this instanceof StreamingImporter)) {
+            return importDatabase(filePath, encoding);
+        }
+        try (BufferedReader bufferedReader = getReader(filePath, encoding)) {
+            return completeFileResult(((StreamingImporter) this).importDatabase(bufferedReader, progressListener), filePath, encoding);
+        }
+    }
+
+    private static ParserResult completeFileResult(ParserResult parserResult, Path filePath, Charset encoding) {
+        parserResult.getMetaData().setEncoding(encoding);
+        parserResult.setFile(filePath.toFile());
+
+        // Make sure the mode is always set
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
         }
+        return parserResult;
     }
 
     /**
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.TimestampPreferences;
@@ -34,6 +35,19 @@ public class OpenDatabase {
      */
     @Deprecated
     public static ParserResult loadDatabase(String name, ImportFormatPreferences importFormatPreferences, TimestampPreferences timestampPreferences, FileUpdateMonitor fileMonitor) {
+        return loadDatabase(name, importFormatPreferences, timestampPreferences, fileMonitor, new AuxKeyCache());
+    }
+
+    /**
+     * Load database (bib-file)
+     *
+     * @param name        Name of the BIB-file to open
+     * @param auxKeyCache the cache used by the TeX groups of the library
+     * @return ParserResult which never is null
+     * @deprecated use {@link #loadDatabase(Path, ImportFormatPreferences, TimestampPreferences, FileUpdateMonitor, AuxKeyCache)} instead
+     */
+    @Deprecated
+    public static ParserResult loadDatabase(String name, ImportFormatPreferences importFormatPreferences, TimestampPreferences timestampPreferences, FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache) {
         LOGGER.debug("Opening: " + name);
         Path file = Path.of(name);
 
@@ -46,7 +60,7 @@ public class OpenDatabase {
         }
 
         try {
-            return OpenDatabase.loadDatabase(file, importFormatPreferences, timestampPreferences, fileMonitor);
+            return OpenDatabase.loadDatabase(file, importFormatPreferences, timestampPreferences, fileMonitor, auxKeyCache);
         } catch (IOException ex) {
             ParserResult pr = ParserResult.fromError(ex);
             pr.setFile(file.toFile());
@@ -60,7 +74,17 @@ public class OpenDatabase {
      */
     public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, TimestampPreferences timestampPreferences, FileUpdateMonitor fileMonitor)
             throws IOException {
-        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen,
+        return loadDatabase(fileToOpen, importFormatPreferences, timestampPreferences, fileMonitor, new AuxKeyCache());
+    }
+
+    /**
+     * Opens a new database.
+     *
+     * @param auxKeyCache the cache used by the TeX groups of the library
+     */
+    public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, TimestampPreferences timestampPreferences, FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache)
+            throws IOException {
+        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor, auxKeyCache).importDatabase(fileToOpen,
                 importFormatPreferences.getEncoding());
 
         performLoadDatabaseMigrations(result, timestampPreferences, importFormatPreferences.getKeywordSeparator());
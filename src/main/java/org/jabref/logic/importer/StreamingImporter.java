@@ -0,0 +1,52 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * An importer which converts its input record by record while reading it. The converted entries are handed over in
+ * batches, so that only the current record and batch are held in memory, regardless of the size of the input.
+ */
+public interface StreamingImporter {
+
+    int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Reads the input and passes the converted entries to the given consumer, in batches of at most the given size and
+     * in the order of the input. Batches passed before an error occurred are not revoked.
+     *
+     * @param batchConsumer is called on the reading thread for each batch as soon as it is complete
+     * @throws ParseException if the input is malformed
+     */
+    void importEntries(BufferedReader input, int batchSize, Consumer<List<BibEntry>> batchConsumer) throws IOException, ParseException;
+
+    /**
+     * Reads all entries of the input into one result. Malformed input leads to an error result.
+     *
+     * @param progressListener is called on the reading thread with the number of entries read so far after each batch
+     */
+    default ParserResult importDatabase(BufferedReader input, IntConsumer progressListener) throws IOException {
+        Objects.requireNonNull(input);
+
+        List<BibEntry> entries = new ArrayList<>();
+        try {
+            importEntries(input, DEFAULT_BATCH_SIZE, batch -> {
+                entries.addAll(batch);
+                progressListener.accept(entries.size());
+            });
+        } catch (ParseException e) {
+            LoggerFactory.getLogger(StreamingImporter.class).debug("Could not parse document", e);
+            return ParserResult.fromError(e);
+        }
+        return new ParserResult(entries);
+    }
+}
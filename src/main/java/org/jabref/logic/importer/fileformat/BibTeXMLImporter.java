@@ -5,13 +5,14 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.JAXBContext;
@@ -21,9 +22,10 @@ import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.StreamingImporter;
 import org.jabref.logic.importer.fileformat.bibtexml.Entry;
-import org.jabref.logic.importer.fileformat.bibtexml.File;
 import org.jabref.logic.importer.fileformat.bibtexml.Inbook;
 import org.jabref.logic.importer.fileformat.bibtexml.Incollection;
 import org.jabref.logic.util.StandardFileType;
@@ -43,11 +45,12 @@ import org.slf4j.LoggerFactory;
  * check here for details on the format
  * http://bibtexml.sourceforge.net/
  */
-public class BibTeXMLImporter extends Importer {
+public class BibTeXMLImporter extends Importer implements StreamingImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BibTeXMLImporter.class);
 
     private static final Pattern START_PATTERN = Pattern.compile("<(bibtex:)?file .*");
+    private static final XmlRecordReader RECORD_READER = new XmlRecordReader(Set.of("file"), Map.of("entry", Entry.class));
 
     private static final List<String> IGNORED_METHODS = Arrays.asList("getClass", "getAnnotate", "getContents",
             "getPrice", "getSize", "getChapter");
@@ -81,79 +84,81 @@ public class BibTeXMLImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        Objects.requireNonNull(reader);
+        return importDatabase(reader, entriesRead -> { });
+    }
 
-        List<BibEntry> bibItems = new ArrayList<>();
+    @Override
+    public void importEntries(BufferedReader reader, int batchSize, Consumer<List<BibEntry>> batchConsumer) throws IOException, ParseException {
+        Objects.requireNonNull(reader);
 
+        Unmarshaller unmarshaller;
         try {
             JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.bibtexml");
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            File file = (File) unmarshaller.unmarshal(reader);
-
-            List<Entry> entries = file.getEntry();
-            Map<Field, String> fields = new HashMap<>();
+            unmarshaller = context.createUnmarshaller();
+        } catch (JAXBException e) {
+            throw new ParseException(e);
+        }
 
-            for (Entry entry : entries) {
-                BibEntry bibEntry = new BibEntry();
-                if (entry.getArticle() != null) {
-                    bibEntry.setType(StandardEntryType.Article);
-                    parse(entry.getArticle(), fields);
-                } else if (entry.getBook() != null) {
-                    bibEntry.setType(StandardEntryType.Book);
-                    parse(entry.getBook(), fields);
-                } else if (entry.getBooklet() != null) {
-                    bibEntry.setType(StandardEntryType.Booklet);
-                    parse(entry.getBooklet(), fields);
-                } else if (entry.getConference() != null) {
-                    bibEntry.setType(StandardEntryType.Conference);
-                    parse(entry.getConference(), fields);
-                } else if (entry.getInbook() != null) {
-                    bibEntry.setType(StandardEntryType.InBook);
-                    parseInbook(entry.getInbook(), fields);
-                } else if (entry.getIncollection() != null) {
-                    bibEntry.setType(StandardEntryType.InCollection);
-                    Incollection incollection = entry.getIncollection();
-                    if (incollection.getChapter() != null) {
-                        fields.put(StandardField.CHAPTER, String.valueOf(incollection.getChapter()));
-                    }
-                    parse(incollection, fields);
-                } else if (entry.getInproceedings() != null) {
-                    bibEntry.setType(StandardEntryType.InProceedings);
-                    parse(entry.getInproceedings(), fields);
-                } else if (entry.getManual() != null) {
-                    bibEntry.setType(StandardEntryType.Manual);
-                    parse(entry.getManual(), fields);
-                } else if (entry.getMastersthesis() != null) {
-                    bibEntry.setType(StandardEntryType.MastersThesis);
-                    parse(entry.getMastersthesis(), fields);
-                } else if (entry.getMisc() != null) {
-                    bibEntry.setType(StandardEntryType.Misc);
-                    parse(entry.getMisc(), fields);
-                } else if (entry.getPhdthesis() != null) {
-                    bibEntry.setType(StandardEntryType.PhdThesis);
-                    parse(entry.getPhdthesis(), fields);
-                } else if (entry.getProceedings() != null) {
-                    bibEntry.setType(StandardEntryType.Proceedings);
-                    parse(entry.getProceedings(), fields);
-                } else if (entry.getTechreport() != null) {
-                    bibEntry.setType(StandardEntryType.TechReport);
-                    parse(entry.getTechreport(), fields);
-                } else if (entry.getUnpublished() != null) {
-                    bibEntry.setType(StandardEntryType.Unpublished);
-                    parse(entry.getUnpublished(), fields);
-                }
+        Map<Field, String> fields = new HashMap<>();
+        RECORD_READER.read(reader, unmarshaller, batchSize,
+                (entry, bibItems) -> bibItems.add(parseEntry((Entry) entry, fields)), batchConsumer);
+    }
 
-                if (entry.getId() != null) {
-                    bibEntry.setCitationKey(entry.getId());
-                }
-                bibEntry.setField(fields);
-                bibItems.add(bibEntry);
+    private BibEntry parseEntry(Entry entry, Map<Field, String> fields) {
+        BibEntry bibEntry = new BibEntry();
+        if (entry.getArticle() != null) {
+            bibEntry.setType(StandardEntryType.Article);
+            parse(entry.getArticle(), fields);
+        } else if (entry.getBook() != null) {
+            bibEntry.setType(StandardEntryType.Book);
+            parse(entry.getBook(), fields);
+        } else if (entry.getBooklet() != null) {
+            bibEntry.setType(StandardEntryType.Booklet);
+            parse(entry.getBooklet(), fields);
+        } else if (entry.getConference() != null) {
+            bibEntry.setType(StandardEntryType.Conference);
+            parse(entry.getConference(), fields);
+        } else if (entry.getInbook() != null) {
+            bibEntry.setType(StandardEntryType.InBook);
+            parseInbook(entry.getInbook(), fields);
+        } else if (entry.getIncollection() != null) {
+            bibEntry.setType(StandardEntryType.InCollection);
+            Incollection incollection = entry.getIncollection();
+            if (incollection.getChapter() != null) {
+                fields.put(StandardField.CHAPTER, String.valueOf(incollection.getChapter()));
             }
-        } catch (JAXBException e) {
-            LOGGER.error("Error with XML parser configuration", e);
-            return ParserResult.fromError(e);
+            parse(incollection, fields);
+        } else if (entry.getInproceedings() != null) {
+            bibEntry.setType(StandardEntryType.InProceedings);
+            parse(entry.getInproceedings(), fields);
+        } else if (entry.getManual() != null) {
+            bibEntry.setType(StandardEntryType.Manual);
+            parse(entry.getManual(), fields);
+        } else if (entry.getMastersthesis() != null) {
+            bibEntry.setType(StandardEntryType.MastersThesis);
+            parse(entry.getMastersthesis(), fields);
+        } else if (entry.getMisc() != null) {
+            bibEntry.setType(StandardEntryType.Misc);
+            parse(entry.getMisc(), fields);
+        } else if (entry.getPhdthesis() != null) {
+            bibEntry.setType(StandardEntryType.PhdThesis);
+            parse(entry.getPhdthesis(), fields);
+        } else if (entry.getProceedings() != null) {
+            bibEntry.setType(StandardEntryType.Proceedings);
+            parse(entry.getProceedings(), fields);
+        } else if (entry.getTechreport() != null) {
+            bibEntry.setType(StandardEntryType.TechReport);
+            parse(entry.getTechreport(), fields);
+        } else if (entry.getUnpublished() != null) {
+            bibEntry.setType(StandardEntryType.Unpublished);
+            parse(entry.getUnpublished(), fields);
+        }
+
+        if (entry.getId() != null) {
+            bibEntry.setCitationKey(entry.getId());
         }
-        return new ParserResult(bibItems);
+        bibEntry.setField(fields);
+        return bibEntry;
     }
 
     /**
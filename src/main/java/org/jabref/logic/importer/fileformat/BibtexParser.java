@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.bibtex.FieldContentFormatter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
@@ -77,9 +78,16 @@ public class BibtexParser implements Parser {
     private final MetaDataParser metaDataParser;
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, new AuxKeyCache());
+    }
+
+    /**
+     * @param auxKeyCache the cache used by the TeX groups of the parsed library
+     */
+    public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.getFieldContentFormatterPreferences());
-        metaDataParser = new MetaDataParser(fileMonitor);
+        metaDataParser = new MetaDataParser(fileMonitor, auxKeyCache);
     }
 
     /**
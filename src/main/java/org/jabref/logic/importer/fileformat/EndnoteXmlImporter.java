@@ -10,21 +10,23 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.StreamingImporter;
 import org.jabref.logic.importer.fileformat.endnote.Abstract;
 import org.jabref.logic.importer.fileformat.endnote.Authors;
 import org.jabref.logic.importer.fileformat.endnote.Contributors;
@@ -48,7 +50,6 @@ import org.jabref.logic.importer.fileformat.endnote.Titles;
 import org.jabref.logic.importer.fileformat.endnote.Url;
 import org.jabref.logic.importer.fileformat.endnote.Urls;
 import org.jabref.logic.importer.fileformat.endnote.Volume;
-import org.jabref.logic.importer.fileformat.endnote.Xml;
 import org.jabref.logic.importer.fileformat.endnote.Year;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
@@ -69,9 +70,10 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Based on dtd scheme downloaded from Article #122577 in http://kbportal.thomson.com.
  */
-public class EndnoteXmlImporter extends Importer implements Parser {
+public class EndnoteXmlImporter extends Importer implements Parser, StreamingImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EndnoteXmlImporter.class);
+    private static final XmlRecordReader RECORD_READER = new XmlRecordReader(Set.of("xml"), Map.of("record", Record.class));
     private final ImportFormatPreferences preferences;
     private Unmarshaller unmarshaller;
 
@@ -115,42 +117,20 @@ public class EndnoteXmlImporter extends Importer implements Parser {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        Objects.requireNonNull(reader);
-
-        try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            if (unmarshalledObject instanceof Xml) {
-                // Check whether we have an article set, an article, a book article or a book article set
-                Xml root = (Xml) unmarshalledObject;
-                List<BibEntry> bibEntries = root
-                        .getRecords().getRecord()
-                        .stream()
-                        .map(this::parseRecord)
-                        .collect(Collectors.toList());
-
-                return new ParserResult(bibEntries);
-            } else {
-                return ParserResult.fromErrorMessage("File does not start with xml tag.");
-            }
-        } catch (JAXBException | XMLStreamException e) {
-            LOGGER.debug("could not parse document", e);
-            return ParserResult.fromError(e);
-        }
+        return importDatabase(reader, entriesRead -> { });
     }
 
-    private Object unmarshallRoot(BufferedReader reader) throws XMLStreamException, JAXBException {
-        initUnmarshaller();
-
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
-        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+    @Override
+    public void importEntries(BufferedReader reader, int batchSize, Consumer<List<BibEntry>> batchConsumer) throws IOException, ParseException {
+        Objects.requireNonNull(reader);
 
-        // Go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
+        try {
+            initUnmarshaller();
+        } catch (JAXBException e) {
+            throw new ParseException(e);
         }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
+        RECORD_READER.read(reader, unmarshaller, batchSize,
+                (record, bibEntries) -> bibEntries.add(parseRecord((Record) record)), batchConsumer);
     }
 
     private void initUnmarshaller() throws JAXBException {
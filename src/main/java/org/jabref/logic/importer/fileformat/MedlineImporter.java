@@ -14,19 +14,19 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.StreamingImporter;
 import org.jabref.logic.importer.fileformat.medline.Abstract;
 import org.jabref.logic.importer.fileformat.medline.AbstractText;
 import org.jabref.logic.importer.fileformat.medline.AffiliationInfo;
@@ -65,9 +65,7 @@ import org.jabref.logic.importer.fileformat.medline.PubDate;
 import org.jabref.logic.importer.fileformat.medline.PublicationType;
 import org.jabref.logic.importer.fileformat.medline.Publisher;
 import org.jabref.logic.importer.fileformat.medline.PubmedArticle;
-import org.jabref.logic.importer.fileformat.medline.PubmedArticleSet;
 import org.jabref.logic.importer.fileformat.medline.PubmedBookArticle;
-import org.jabref.logic.importer.fileformat.medline.PubmedBookArticleSet;
 import org.jabref.logic.importer.fileformat.medline.PubmedBookData;
 import org.jabref.logic.importer.fileformat.medline.QualifierName;
 import org.jabref.logic.importer.fileformat.medline.Section;
@@ -92,12 +90,15 @@ import org.slf4j.LoggerFactory;
  * <p>
  * check here for details on the format https://www.nlm.nih.gov/bsd/licensee/elements_descriptions.html
  */
-public class MedlineImporter extends Importer implements Parser {
+public class MedlineImporter extends Importer implements Parser, StreamingImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MedlineImporter.class);
     private static final String KEYWORD_SEPARATOR = "; ";
 
     private static final Locale ENGLISH = Locale.ENGLISH;
+    private static final XmlRecordReader RECORD_READER = new XmlRecordReader(
+            Set.of("PubmedArticleSet", "PubmedBookArticleSet", "PubmedArticle", "PubmedBookArticle"),
+            Map.of("PubmedArticle", PubmedArticle.class, "PubmedBookArticle", PubmedBookArticle.class));
     private Unmarshaller unmarshaller;
 
     private static String join(List<String> list, String string) {
@@ -142,57 +143,29 @@ public class MedlineImporter extends Importer implements Parser {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        Objects.requireNonNull(reader);
+        return importDatabase(reader, entriesRead -> { });
+    }
 
-        List<BibEntry> bibItems = new ArrayList<>();
+    /**
+     * Unmarshals and converts one article after the other, so that even large PubMed dumps can be imported with
+     * bounded memory.
+     */
+    @Override
+    public void importEntries(BufferedReader reader, int batchSize, Consumer<List<BibEntry>> batchConsumer) throws IOException, ParseException {
+        Objects.requireNonNull(reader);
 
         try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            // check whether we have an article set, an article, a book article or a book article set
-            if (unmarshalledObject instanceof PubmedArticleSet) {
-                PubmedArticleSet articleSet = (PubmedArticleSet) unmarshalledObject;
-                for (Object article : articleSet.getPubmedArticleOrPubmedBookArticle()) {
-                    if (article instanceof PubmedArticle) {
-                        PubmedArticle currentArticle = (PubmedArticle) article;
-                        parseArticle(currentArticle, bibItems);
-                    }
-                    if (article instanceof PubmedBookArticle) {
-                        PubmedBookArticle currentArticle = (PubmedBookArticle) article;
-                        parseBookArticle(currentArticle, bibItems);
-                    }
-                }
-            } else if (unmarshalledObject instanceof PubmedArticle) {
-                PubmedArticle article = (PubmedArticle) unmarshalledObject;
-                parseArticle(article, bibItems);
-            } else if (unmarshalledObject instanceof PubmedBookArticle) {
-                PubmedBookArticle currentArticle = (PubmedBookArticle) unmarshalledObject;
-                parseBookArticle(currentArticle, bibItems);
+            initUmarshaller();
+        } catch (JAXBException e) {
+            throw new ParseException(e);
+        }
+        RECORD_READER.read(reader, unmarshaller, batchSize, (article, bibItems) -> {
+            if (article instanceof PubmedArticle) {
+                parseArticle((PubmedArticle) article, bibItems);
             } else {
-                PubmedBookArticleSet bookArticleSet = (PubmedBookArticleSet) unmarshalledObject;
-                for (PubmedBookArticle bookArticle : bookArticleSet.getPubmedBookArticle()) {
-                    parseBookArticle(bookArticle, bibItems);
-                }
+                parseBookArticle((PubmedBookArticle) article, bibItems);
             }
-        } catch (JAXBException | XMLStreamException e) {
-            LOGGER.debug("could not parse document", e);
-            return ParserResult.fromError(e);
-        }
-        return new ParserResult(bibItems);
-    }
-
-    private Object unmarshallRoot(BufferedReader reader) throws JAXBException, XMLStreamException {
-        initUmarshaller();
-
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
-        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
-
-        // go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
-        }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
+        }, batchConsumer);
     }
 
     private void initUmarshaller() throws JAXBException {
@@ -12,6 +12,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,7 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.StreamingImporter;
 import org.jabref.logic.importer.fileformat.mods.AbstractDefinition;
 import org.jabref.logic.importer.fileformat.mods.DateDefinition;
 import org.jabref.logic.importer.fileformat.mods.DetailDefinition;
@@ -36,7 +39,6 @@ import org.jabref.logic.importer.fileformat.mods.IssuanceDefinition;
 import org.jabref.logic.importer.fileformat.mods.LanguageDefinition;
 import org.jabref.logic.importer.fileformat.mods.LanguageTermDefinition;
 import org.jabref.logic.importer.fileformat.mods.LocationDefinition;
-import org.jabref.logic.importer.fileformat.mods.ModsCollectionDefinition;
 import org.jabref.logic.importer.fileformat.mods.ModsDefinition;
 import org.jabref.logic.importer.fileformat.mods.NameDefinition;
 import org.jabref.logic.importer.fileformat.mods.NamePartDefinition;
@@ -71,10 +73,13 @@ import org.slf4j.LoggerFactory;
  * More details about the format can be found here <a href="http://www.loc.gov/standards/mods/">http://www.loc.gov/standards/mods/</a>. <br>
  * The newest xml schema can also be found here <a href="www.loc.gov/standards/mods/mods-schemas.html.">www.loc.gov/standards/mods/mods-schemas.html.</a>.
  */
-public class ModsImporter extends Importer implements Parser {
+public class ModsImporter extends Importer implements Parser, StreamingImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ModsImporter.class);
     private static final Pattern MODS_PATTERN = Pattern.compile("<mods .*>");
+    private static final XmlRecordReader RECORD_READER = new XmlRecordReader(
+            Set.of("modsCollection", "mods"),
+            Map.of("mods", ModsDefinition.class));
 
     private final String keywordSeparator;
 
@@ -91,43 +96,24 @@ public class ModsImporter extends Importer implements Parser {
 
     @Override
     public ParserResult importDatabase(BufferedReader input) throws IOException {
-        Objects.requireNonNull(input);
+        return importDatabase(input, entriesRead -> { });
+    }
 
-        List<BibEntry> bibItems = new ArrayList<>();
+    @Override
+    public void importEntries(BufferedReader input, int batchSize, Consumer<List<BibEntry>> batchConsumer) throws IOException, ParseException {
+        Objects.requireNonNull(input);
 
+        Unmarshaller unmarshaller;
         try {
             if (context == null) {
                 context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.mods");
             }
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-
-            // The unmarshalled object is a jaxbElement.
-            JAXBElement<?> unmarshalledObject = (JAXBElement<?>) unmarshaller.unmarshal(input);
-
-            Optional<ModsCollectionDefinition> collection = getElement(unmarshalledObject.getValue(),
-                    ModsCollectionDefinition.class);
-            Optional<ModsDefinition> mods = getElement(unmarshalledObject.getValue(), ModsDefinition.class);
-
-            if (collection.isPresent()) {
-                List<ModsDefinition> modsDefinitions = collection.get().getMods();
-                parseModsCollection(bibItems, modsDefinitions);
-            } else if (mods.isPresent()) {
-                ModsDefinition modsDefinition = mods.get();
-                parseMods(bibItems, modsDefinition);
-            } else {
-                LOGGER.warn("Not expected root element found");
-            }
+            unmarshaller = context.createUnmarshaller();
         } catch (JAXBException e) {
-            LOGGER.debug("could not parse document", e);
-            return ParserResult.fromError(e);
-        }
-        return new ParserResult(bibItems);
-    }
-
-    private void parseModsCollection(List<BibEntry> bibItems, List<ModsDefinition> mods) {
-        for (ModsDefinition modsDefinition : mods) {
-            parseMods(bibItems, modsDefinition);
+            throw new ParseException(e);
         }
+        RECORD_READER.read(input, unmarshaller, batchSize,
+                (mods, bibItems) -> parseMods(bibItems, (ModsDefinition) mods), batchConsumer);
     }
 
     private void parseMods(List<BibEntry> bibItems, ModsDefinition modsDefinition) {
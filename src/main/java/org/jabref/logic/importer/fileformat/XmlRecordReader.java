@@ -0,0 +1,85 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jabref.logic.importer.ParseException;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Reads the records of an XML document one at a time. The document is traversed with a StAX reader, and only the
+ * elements of the records are unmarshalled with JAXB. Thus, at most one record and one batch of entries are held in
+ * memory.
+ */
+class XmlRecordReader {
+
+    private final Set<String> rootElements;
+    private final Map<String, Class<?>> recordTypes;
+
+    /**
+     * @param rootElements the local names of the allowed root elements
+     * @param recordTypes  the local names of the record elements, each with the JAXB type it is unmarshalled to.
+     *                     The root element may be a record itself.
+     */
+    XmlRecordReader(Set<String> rootElements, Map<String, Class<?>> recordTypes) {
+        this.rootElements = rootElements;
+        this.recordTypes = recordTypes;
+    }
+
+    /**
+     * @param converter     converts an unmarshalled record and adds the resulting entries to the given list
+     * @param batchConsumer receives the converted entries in batches of at most the given size
+     */
+    void read(Reader input, Unmarshaller unmarshaller, int batchSize, BiConsumer<Object, List<BibEntry>> converter,
+              Consumer<List<BibEntry>> batchConsumer) throws ParseException {
+        try {
+            XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(input);
+            try {
+                // Go to the root element
+                while (reader.hasNext() && !reader.isStartElement()) {
+                    reader.next();
+                }
+                if (!reader.isStartElement()) {
+                    throw new ParseException("Document does not contain any element");
+                }
+                if (!rootElements.contains(reader.getLocalName())) {
+                    throw new ParseException("Unexpected root element " + reader.getLocalName());
+                }
+
+                List<BibEntry> batch = new ArrayList<>();
+                while (reader.hasNext()) {
+                    Class<?> recordType = reader.isStartElement() ? recordTypes.get(reader.getLocalName()) : null;
+                    if (recordType == null) {
+                        reader.next();
+                        continue;
+                    }
+
+                    // Unmarshalling moves the reader behind the end of the record
+                    converter.accept(unmarshaller.unmarshal(reader, recordType).getValue(), batch);
+                    if (batch.size() >= batchSize) {
+                        batchConsumer.accept(batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    batchConsumer.accept(batch);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (JAXBException | XMLStreamException e) {
+            throw new ParseException(e);
+        }
+    }
+}
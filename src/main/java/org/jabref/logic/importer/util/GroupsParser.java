@@ -5,13 +5,12 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.List;
 
-import org.jabref.logic.auxparser.DefaultAuxParser;
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.groups.DefaultGroupsFactory;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.MetadataSerializationConfiguration;
 import org.jabref.logic.util.strings.QuotedStringTokenizer;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.groups.AbstractGroup;
@@ -41,7 +40,7 @@ public class GroupsParser {
     private GroupsParser() {
     }
 
-    public static GroupTreeNode importGroups(List<String> orderedData, Character keywordSeparator, FileUpdateMonitor fileMonitor, MetaData metaData)
+    public static GroupTreeNode importGroups(List<String> orderedData, Character keywordSeparator, FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache, MetaData metaData)
             throws ParseException {
         try {
             GroupTreeNode cursor = null;
@@ -58,7 +57,7 @@ public class GroupsParser {
                     throw new ParseException("Expected \"" + string + "\" to contain whitespace");
                 }
                 int level = Integer.parseInt(string.substring(0, spaceIndex));
-                AbstractGroup group = GroupsParser.fromString(string.substring(spaceIndex + 1), keywordSeparator, fileMonitor, metaData);
+                AbstractGroup group = GroupsParser.fromString(string.substring(spaceIndex + 1), keywordSeparator, fileMonitor, auxKeyCache, metaData);
                 GroupTreeNode newNode = GroupTreeNode.fromGroup(group);
                 if (cursor == null) {
                     // create new root
@@ -88,7 +87,7 @@ public class GroupsParser {
      * @return New instance of the encoded group.
      * @throws ParseException If an error occurred and a group could not be created, e.g. due to a malformed regular expression.
      */
-    public static AbstractGroup fromString(String s, Character keywordSeparator, FileUpdateMonitor fileMonitor, MetaData metaData)
+    public static AbstractGroup fromString(String s, Character keywordSeparator, FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache, MetaData metaData)
             throws ParseException {
         if (s.startsWith(MetadataSerializationConfiguration.KEYWORD_GROUP_ID)) {
             return keywordGroupFromString(s, keywordSeparator);
@@ -112,13 +111,13 @@ public class GroupsParser {
             return automaticKeywordGroupFromString(s);
         }
         if (s.startsWith(MetadataSerializationConfiguration.TEX_GROUP_ID)) {
-            return texGroupFromString(s, fileMonitor, metaData);
+            return texGroupFromString(s, fileMonitor, auxKeyCache, metaData);
         }
 
         throw new ParseException("Unknown group: " + s);
     }
 
-    private static AbstractGroup texGroupFromString(String string, FileUpdateMonitor fileMonitor, MetaData metaData) throws ParseException {
+    private static AbstractGroup texGroupFromString(String string, FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache, MetaData metaData) throws ParseException {
         QuotedStringTokenizer tok = new QuotedStringTokenizer(string.substring(MetadataSerializationConfiguration.TEX_GROUP_ID
                 .length()), MetadataSerializationConfiguration.GROUP_UNIT_SEPARATOR, MetadataSerializationConfiguration.GROUP_QUOTE_CHAR);
 
@@ -127,14 +126,14 @@ public class GroupsParser {
         try {
             Path path = Path.of(tok.nextToken());
             try {
-                TexGroup newGroup = TexGroup.create(name, context, path, new DefaultAuxParser(new BibDatabase()), fileMonitor, metaData);
+                TexGroup newGroup = TexGroup.create(name, context, path, auxKeyCache, fileMonitor, metaData);
                 addGroupDetails(tok, newGroup);
                 return newGroup;
             } catch (IOException ex) {
                 // Problem accessing file -> create without file monitoring
                 LOGGER.warn("Could not access file " + path + ". The group " + name + " will not reflect changes to the aux file.", ex);
 
-                TexGroup newGroup = TexGroup.createWithoutFileMonitoring(name, context, path, new DefaultAuxParser(new BibDatabase()), fileMonitor, metaData);
+                TexGroup newGroup = TexGroup.createWithoutFileMonitoring(name, context, path, auxKeyCache, fileMonitor, metaData);
                 addGroupDetails(tok, newGroup);
                 return newGroup;
             }
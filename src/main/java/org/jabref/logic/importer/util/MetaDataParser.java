@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.cleanup.Cleanups;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.model.database.BibDatabaseMode;
@@ -31,9 +32,11 @@ public class MetaDataParser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaDataParser.class);
     private static FileUpdateMonitor fileMonitor;
+    private final AuxKeyCache auxKeyCache;
 
-    public MetaDataParser(FileUpdateMonitor fileMonitor) {
+    public MetaDataParser(FileUpdateMonitor fileMonitor, AuxKeyCache auxKeyCache) {
         MetaDataParser.fileMonitor = fileMonitor;
+        this.auxKeyCache = auxKeyCache;
     }
 
     /**
@@ -88,7 +91,7 @@ public class MetaDataParser {
             } else if (entry.getKey().equals(MetaData.SAVE_ORDER_CONFIG)) {
                 metaData.setSaveOrderConfig(SaveOrderConfig.parse(value));
             } else if (entry.getKey().equals(MetaData.GROUPSTREE) || entry.getKey().equals(MetaData.GROUPSTREE_LEGACY)) {
-                metaData.setGroups(GroupsParser.importGroups(value, keywordSeparator, fileMonitor, metaData));
+                metaData.setGroups(GroupsParser.importGroups(value, keywordSeparator, fileMonitor, auxKeyCache, metaData));
             } else {
                 // Keep meta data items that we do not know in the file
                 metaData.putUnknownMetaDataItem(entry.getKey(), value);
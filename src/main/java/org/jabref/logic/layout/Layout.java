@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -91,10 +92,21 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, ExporterFactory.entryNumber);
+    }
+
+    /**
+     * Returns the processed bibtex entry, see {@link #doLayout(BibEntry, BibDatabase)}. As the sequence number of the
+     * entry is passed instead of being read from {@link ExporterFactory#entryNumber}, several entries can be processed
+     * concurrently (unless the layout {@link #dependsOnPreviousEntry() depends on the previous entry}).
+     *
+     * @param entryNumber the sequence number of the entry, output by the Number formatter
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, int entryNumber) {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, entryNumber);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
@@ -131,6 +143,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Returns true if the output for an entry depends on the previously processed entry. This is the case for layouts
+     * with group blocks, which output the group header only if the group changed.
+     */
+    public boolean dependsOnPreviousEntry() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
 import org.jabref.logic.layout.format.AuthorAbbreviator;
@@ -190,6 +191,15 @@ class LayoutEntry {
     }
 
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, ExporterFactory.entryNumber);
+    }
+
+    /**
+     * Formats the given entry
+     *
+     * @param entryNumber the sequence number of the entry, output by the Number formatter
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, int entryNumber) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
@@ -203,12 +213,12 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibtex, database);
+                return handleFieldOrGroupStart(bibtex, database, entryNumber);
             case LayoutHelper.IS_FIELD_END:
             case LayoutHelper.IS_GROUP_END:
                 return "";
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibtex, database);
+                return handleOptionField(bibtex, database, entryNumber);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
@@ -219,7 +229,7 @@ class LayoutEntry {
         }
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, int entryNumber) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -240,7 +250,11 @@ class LayoutEntry {
 
         if (option != null) {
             for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+                if (anOption instanceof Number) {
+                    fieldEntry = ((Number) anOption).format(entryNumber);
+                } else {
+                    fieldEntry = anOption.format(fieldEntry);
+                }
             }
         }
 
@@ -252,7 +266,7 @@ class LayoutEntry {
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, int entryNumber) {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
@@ -293,11 +307,11 @@ class LayoutEntry {
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, entryNumber);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, entryNumber).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -523,6 +537,17 @@ class LayoutEntry {
         return results;
     }
 
+    /**
+     * Checks whether this entry contains a group block. The header of a group is only output if the group differs from
+     * the one of the previous entry, thus such layouts have to be applied to the entries in order.
+     */
+    public boolean containsGroup() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     public List<String> getInvalidFormatters() {
         return invalidFormatter;
     }
@@ -18,4 +18,11 @@ public class Number implements ParamLayoutFormatter {
     public String format(String fieldText) {
         return String.valueOf(ExporterFactory.entryNumber);
     }
+
+    /**
+     * Outputs the given sequence number. Used by layouts which know the number of the entry they are processing.
+     */
+    public String format(int entryNumber) {
+        return String.valueOf(entryNumber);
+    }
 }
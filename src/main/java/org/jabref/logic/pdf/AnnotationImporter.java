@@ -2,10 +2,21 @@ package org.jabref.logic.pdf;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.model.pdf.FileAnnotation;
 
 public interface AnnotationImporter {
 
     List<FileAnnotation> importAnnotations(final Path path);
+
+    /**
+     * Imports the annotations like {@link #importAnnotations(Path)}, but distinguishes a file without annotations from a
+     * file which could not be read.
+     *
+     * @return the annotations of the file, or an empty optional if the file could not be read
+     */
+    default Optional<List<FileAnnotation>> tryImportAnnotations(final Path path) {
+        return Optional.of(importAnnotations(path));
+    }
 }
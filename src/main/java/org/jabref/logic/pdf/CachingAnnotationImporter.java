@@ -0,0 +1,307 @@
+package org.jabref.logic.pdf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the annotations imported by another {@link AnnotationImporter}, so that each version of a file is parsed at
+ * most once.
+ * <p>
+ * The annotations are keyed by the absolute path, the size, and the modification time of the file. Thus, a modified
+ * file simply leads to a new key. The cache has two tiers: an in-memory LRU cache bounded by the estimated size of the
+ * annotations in bytes, and an optional on-disk tier, which keeps the annotations across restarts. Files which the
+ * underlying importer fails to read (e.g., encrypted files) are not cached in either tier, but imported again on the
+ * next request.
+ * <p>
+ * The on-disk tier remembers when each entry was last used. When the store is opened, entries unused for
+ * {@link #MAX_PERSISTENT_AGE} are removed (e.g., the annotations of old versions of a file), and then the least
+ * recently used entries exceeding the maximum number of entries.
+ */
+public class CachingAnnotationImporter implements AnnotationImporter, AutoCloseable {
+
+    public static final long DEFAULT_MEMORY_SIZE_IN_BYTES = 16 * 1024 * 1024;
+    public static final int DEFAULT_MAX_PERSISTENT_ENTRIES = 10_000;
+    public static final Duration MAX_PERSISTENT_AGE = Duration.ofDays(180);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingAnnotationImporter.class);
+    private static final String PERSISTENT_MAP_NAME = "annotations";
+    private static final String LAST_USED_MAP_NAME = "lastUsed";
+
+    // Rough size of the object headers and references of a single annotation
+    private static final int ANNOTATION_OVERHEAD_IN_BYTES = 128;
+
+    private final AnnotationImporter importer;
+    private final Cache<String, List<FileAnnotation>> annotationCache;
+    private final Optional<MVStore> persistentStore;
+    private final Optional<MVMap<String, byte[]>> persistentAnnotations;
+    // key -> epoch millis of the last use of the persisted annotations
+    private final Optional<MVMap<String, Long>> lastUsed;
+    private final Clock clock;
+    private final AtomicLong importedFiles = new AtomicLong();
+
+    public CachingAnnotationImporter(AnnotationImporter importer, long memorySizeInBytes, Optional<Path> persistentCacheFile) {
+        this(importer, memorySizeInBytes, persistentCacheFile, DEFAULT_MAX_PERSISTENT_ENTRIES, Clock.systemUTC());
+    }
+
+    /**
+     * @param maxPersistentEntries the number of files whose annotations are kept in the on-disk tier
+     */
+    CachingAnnotationImporter(AnnotationImporter importer, long memorySizeInBytes, Optional<Path> persistentCacheFile, int maxPersistentEntries, Clock clock) {
+        this.importer = Objects.requireNonNull(importer);
+        this.clock = Objects.requireNonNull(clock);
+        this.annotationCache = CacheBuilder.newBuilder()
+                                           .maximumWeight(memorySizeInBytes)
+                                           .weigher((String key, List<FileAnnotation> annotations) -> estimateSize(annotations))
+                                           .build();
+        this.persistentStore = persistentCacheFile.flatMap(CachingAnnotationImporter::openStore);
+        this.persistentAnnotations = persistentStore.map(store -> store.<String, byte[]>openMap(PERSISTENT_MAP_NAME));
+        this.lastUsed = persistentStore.map(store -> store.<String, Long>openMap(LAST_USED_MAP_NAME));
+        if (persistentAnnotations.isPresent()) {
+            removeStaleEntries(persistentAnnotations.get(), lastUsed.get(), maxPersistentEntries);
+        }
+    }
+
+    /**
+     * Removes the entries not used for {@link #MAX_PERSISTENT_AGE} and then the least recently used entries, until at
+     * most the given number of entries is left.
+     */
+    private void removeStaleEntries(MVMap<String, byte[]> annotations, MVMap<String, Long> lastUsedTimes, int maxEntries) {
+        long oldestAllowed = clock.millis() - MAX_PERSISTENT_AGE.toMillis();
+        // entries without a time were stored before the times were tracked
+        List<String> staleKeys = annotations.keySet().stream()
+                                            .filter(key -> lastUsedTimes.getOrDefault(key, Long.MIN_VALUE) < oldestAllowed)
+                                            .collect(Collectors.toList());
+        int excessEntries = annotations.size() - staleKeys.size() - maxEntries;
+        if (excessEntries > 0) {
+            annotations.keySet().stream()
+                       .filter(key -> lastUsedTimes.getOrDefault(key, Long.MIN_VALUE) >= oldestAllowed)
+                       .sorted(Comparator.comparing(lastUsedTimes::get))
+                       .limit(excessEntries)
+                       .forEach(staleKeys::add);
+        }
+        // times left behind by an interrupted write
+        lastUsedTimes.keySet().stream()
+                     .filter(key -> !annotations.containsKey(key))
+                     .forEach(staleKeys::add);
+
+        if (!staleKeys.isEmpty()) {
+            LOGGER.debug("Removing {} entries from the annotation cache", staleKeys.size());
+            staleKeys.forEach(key -> removePersisted(annotations, lastUsedTimes, key));
+        }
+    }
+
+    private static void removePersisted(Map<String, byte[]> annotations, Map<String, Long> lastUsedTimes, String key) {
+        annotations.remove(key);
+        lastUsedTimes.remove(key);
+    }
+
+    private static Optional<MVStore> openStore(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            return Optional.of(new MVStore.Builder()
+                    .fileName(file.toAbsolutePath().toString())
+                    .compress()
+                    .open());
+        } catch (IOException | IllegalStateException e) {
+            // e.g., the file is locked by another instance of JabRef: we simply do without the on-disk tier
+            LOGGER.warn("Could not open annotation cache {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<FileAnnotation> importAnnotations(Path path) {
+        return tryImportAnnotations(path).orElse(Collections.emptyList());
+    }
+
+    @Override
+    public Optional<List<FileAnnotation>> tryImportAnnotations(Path path) {
+        Optional<String> key = getKey(path);
+        if (key.isEmpty()) {
+            // the importer deals with missing files
+            return importer.tryImportAnnotations(path);
+        }
+
+        try {
+            return Optional.of(annotationCache.get(key.get(), () -> loadAnnotations(key.get(), path)));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ImportFailedException) {
+                // the loader threw, so nothing was cached
+                return Optional.empty();
+            }
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    private List<FileAnnotation> loadAnnotations(String key, Path path) throws IOException, ImportFailedException {
+        if (persistentAnnotations.isPresent()) {
+            byte[] persistedAnnotations = persistentAnnotations.get().get(key);
+            if (persistedAnnotations != null) {
+                lastUsed.get().put(key, clock.millis());
+                return deserialize(persistedAnnotations);
+            }
+        }
+
+        importedFiles.incrementAndGet();
+        List<FileAnnotation> annotations = Collections.unmodifiableList(new ArrayList<>(
+                importer.tryImportAnnotations(path).orElseThrow(ImportFailedException::new)));
+        if (persistentAnnotations.isPresent()) {
+            persistentAnnotations.get().put(key, serialize(annotations));
+            lastUsed.get().put(key, clock.millis());
+        }
+        return annotations;
+    }
+
+    /**
+     * Forgets the annotations of the current version of the given file
+     */
+    public void invalidate(Path path) {
+        getKey(path).ifPresent(key -> {
+            annotationCache.invalidate(key);
+            persistentAnnotations.ifPresent(annotations -> removePersisted(annotations, lastUsed.get(), key));
+        });
+    }
+
+    /**
+     * Returns the number of files actually parsed by the underlying importer, i.e., the number of cache misses in both
+     * tiers.
+     */
+    public long getImportedFileCount() {
+        return importedFiles.get();
+    }
+
+    @Override
+    public void close() {
+        persistentStore.ifPresent(MVStore::close);
+    }
+
+    private static Optional<String> getKey(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(path.toAbsolutePath().normalize() + "\u0000" + attributes.size() + "\u0000" + attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static int estimateSize(List<FileAnnotation> annotations) {
+        long size = ANNOTATION_OVERHEAD_IN_BYTES;
+        for (FileAnnotation annotation : annotations) {
+            size += estimateSize(annotation);
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long estimateSize(FileAnnotation annotation) {
+        long size = ANNOTATION_OVERHEAD_IN_BYTES
+                + (2L * annotation.getContent().length())
+                + (2L * Optional.ofNullable(annotation.getAuthor()).map(String::length).orElse(0));
+        if (annotation.hasLinkedAnnotation()) {
+            size += estimateSize(annotation.getLinkedFileAnnotation());
+        }
+        return size;
+    }
+
+    private static byte[] serialize(List<FileAnnotation> annotations) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(annotations.size());
+            for (FileAnnotation annotation : annotations) {
+                writeAnnotation(output, annotation);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeAnnotation(DataOutputStream output, FileAnnotation annotation) throws IOException {
+        writeString(output, annotation.getAuthor());
+        writeString(output, annotation.getTimeModified().toString());
+        output.writeInt(annotation.getPage());
+        writeString(output, annotation.getContent());
+        output.writeUTF(annotation.getAnnotationType().name());
+        output.writeBoolean(annotation.hasLinkedAnnotation());
+        if (annotation.hasLinkedAnnotation()) {
+            writeAnnotation(output, annotation.getLinkedFileAnnotation());
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        // writeUTF is limited to 64 KB, which may be exceeded by long notes
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static List<FileAnnotation> deserialize(byte[] bytes) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int count = input.readInt();
+            List<FileAnnotation> annotations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                annotations.add(readAnnotation(input));
+            }
+            return Collections.unmodifiableList(annotations);
+        }
+    }
+
+    private static FileAnnotation readAnnotation(DataInputStream input) throws IOException {
+        String author = readString(input);
+        LocalDateTime timeModified = LocalDateTime.parse(readString(input));
+        int page = input.readInt();
+        String content = readString(input);
+        FileAnnotationType type = FileAnnotationType.valueOf(input.readUTF());
+        Optional<FileAnnotation> linkedAnnotation = input.readBoolean() ? Optional.of(readAnnotation(input)) : Optional.empty();
+        return new FileAnnotation(author, timeModified, page, content, type, linkedAnnotation);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Signals that the underlying importer could not read the file. Thrown by the cache loader, so that the failure is
+     * not cached.
+     */
+    private static class ImportFailedException extends Exception {
+    }
+}
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabaseContext;
@@ -44,14 +45,32 @@ public class EntryAnnotationImporter {
      * @return Map from each PDF to a list of file annotations
      */
     public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        return importAnnotationsFromFiles(databaseContext, filePreferences, new PdfAnnotationImporter());
+    }
+
+    /**
+     * Reads the annotations from the files that are attached to a BibEntry using the given importer.
+     *
+     * @param databaseContext The context is needed for the importer.
+     * @return Map from each PDF to a list of file annotations
+     */
+    public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences, AnnotationImporter importer) {
         Map<Path, List<FileAnnotation>> annotations = new HashMap<>();
-        AnnotationImporter importer = new PdfAnnotationImporter();
 
         // import annotationsOfFiles if the selected files are valid which is checked in getFilteredFileList()
-        for (LinkedFile linkedFile : this.getFilteredFileList()) {
-            linkedFile.findIn(databaseContext, filePreferences)
-                      .ifPresent(file -> annotations.put(file, importer.importAnnotations(file)));
+        for (Path file : getFiles(databaseContext, filePreferences)) {
+            annotations.put(file, importer.importAnnotations(file));
         }
         return annotations;
     }
+
+    /**
+     * Returns the local PDF files attached to the BibEntry
+     */
+    public List<Path> getFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        return this.getFilteredFileList().stream()
+                   .map(linkedFile -> linkedFile.findIn(databaseContext, filePreferences))
+                   .flatMap(Optional::stream)
+                   .collect(Collectors.toList());
+    }
 }
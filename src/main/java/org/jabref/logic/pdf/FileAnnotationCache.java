@@ -3,26 +3,27 @@ package org.jabref.logic.pdf;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.pdf.FileAnnotation;
 import org.jabref.preferences.FilePreferences;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Provides the annotations of the files linked to an entry. The annotations are cached per file version by a
+ * {@link CachingAnnotationImporter}, which may be shared between libraries.
+ */
 public class FileAnnotationCache {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotation.class);
-    // cache size in entries
-    private final static int CACHE_SIZE = 10;
 
-    // the inner list holds the annotations per file, the outer collection maps this to a BibEntry.
-    private LoadingCache<BibEntry, Map<Path, List<FileAnnotation>>> annotationCache;
+    private BibDatabaseContext context;
+    private FilePreferences filePreferences;
+    private CachingAnnotationImporter importer;
 
     /**
      * Creates an empty fil annotation cache. Required to allow the annotation cache to be injected into views without
@@ -33,27 +34,32 @@ public class FileAnnotationCache {
     }
 
     public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
-        annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
-            @Override
-            public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
-            }
-        });
+        this(context, filePreferences, new CachingAnnotationImporter(new PdfAnnotationImporter(), CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.empty()));
+    }
+
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, CachingAnnotationImporter importer) {
+        this.context = context;
+        this.filePreferences = filePreferences;
+        this.importer = importer;
     }
 
     /**
-     * Note that entry becomes the most recent entry in the cache
+     * Returns the annotations of all files linked to the entry. Only files which changed since they were last read
+     * are parsed.
      *
      * @param entry entry for which to get the annotations
      * @return Map containing a list of annotations in a list for each file
      */
     public Map<Path, List<FileAnnotation>> getFromCache(BibEntry entry) {
         LOGGER.debug(String.format("Loading Bibentry '%s' from cache.", entry.getCitationKey().orElse(entry.getId())));
-        return annotationCache.getUnchecked(entry);
+        return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences, importer);
     }
 
+    /**
+     * Forces the files linked to the entry to be parsed again on the next access
+     */
     public void remove(BibEntry entry) {
         LOGGER.debug(String.format("Deleted Bibentry '%s' from cache.", entry.getCitationKey().orElse(entry.getId())));
-        annotationCache.invalidate(entry);
+        new EntryAnnotationImporter(entry).getFiles(context, filePreferences).forEach(importer::invalidate);
     }
 }
@@ -35,10 +35,14 @@ public class PdfAnnotationImporter implements AnnotationImporter {
      */
     @Override
     public List<FileAnnotation> importAnnotations(final Path path) {
+        // Path could not be validated or the file could not be read, return default result
+        return tryImportAnnotations(path).orElse(Collections.emptyList());
+    }
 
+    @Override
+    public Optional<List<FileAnnotation>> tryImportAnnotations(final Path path) {
         if (!validatePath(path)) {
-            // Path could not be validated, return default result
-            return Collections.emptyList();
+            return Optional.empty();
         }
 
         List<FileAnnotation> annotationsList = new LinkedList<>();
@@ -63,8 +67,9 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             }
         } catch (IOException e) {
             LOGGER.error(String.format("Failed to read file '%s'.", path), e);
+            return Optional.empty();
         }
-        return annotationsList;
+        return Optional.of(annotationsList);
     }
 
     private boolean isSupportedAnnotationType(PDAnnotation annotation) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
 
@@ -25,6 +26,11 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    // The matcher of the enabled lists, built again if the enabled lists or their number of terms change
+    private ProtectedTermsMatcher matcher;
+    private List<ProtectedTermsList> matcherLists = List.of();
+    private List<Integer> matcherTermCounts = List.of();
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -121,6 +127,39 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns a matcher of the terms of all enabled lists. The matcher is only built again if the lists changed.
+     */
+    public synchronized ProtectedTermsMatcher getProtectedTermsMatcher() {
+        List<ProtectedTermsList> enabledLists = mainList.stream()
+                                                        .filter(ProtectedTermsList::isEnabled)
+                                                        .collect(Collectors.toList());
+        List<Integer> termCounts = enabledLists.stream()
+                                               .map(list -> list.getTermList().size())
+                                               .collect(Collectors.toList());
+        if ((matcher == null) || !containSameLists(enabledLists, matcherLists) || !termCounts.equals(matcherTermCounts)) {
+            matcher = new ProtectedTermsMatcher(getProtectedTerms());
+            matcherLists = enabledLists;
+            matcherTermCounts = termCounts;
+        }
+        return matcher;
+    }
+
+    /**
+     * Compares the lists by identity, as a reloaded list equals the list it replaces
+     */
+    private static boolean containSameLists(List<ProtectedTermsList> lists, List<ProtectedTermsList> otherLists) {
+        if (lists.size() != otherLists.size()) {
+            return false;
+        }
+        for (int i = 0; i < lists.size(); i++) {
+            if (lists.get(i) != otherLists.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void addProtectedTermsListFromFile(String fileName, boolean enabled) {
         try {
             mainList.add(readProtectedTermsListFromFile(new File(fileName), enabled));
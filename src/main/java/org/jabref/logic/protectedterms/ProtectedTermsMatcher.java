@@ -0,0 +1,140 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds all protected terms of a text in a single pass using an Aho-Corasick automaton of the terms.
+ * <p>
+ * A term is only found as a whole word: it has to start the text or follow one of the characters
+ * <code>- /[(}"</code>, and it has to end the text or be followed by a character which is neither an ASCII letter nor
+ * a closing brace. Thus, terms which are already enclosed in braces are not found again.
+ * <p>
+ * Instances are immutable and can be used by several threads.
+ */
+public class ProtectedTermsMatcher {
+
+    private static final String CHARACTERS_BEFORE_TERM = "- /[(}\"";
+
+    private final Node root = new Node();
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        for (String term : terms) {
+            if (!term.isEmpty()) {
+                addTerm(term);
+            }
+        }
+        computeFailureLinks();
+    }
+
+    private void addTerm(String term) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), key -> new Node());
+        }
+        node.termLength = term.length();
+    }
+
+    /**
+     * Links each node to the node of its longest proper suffix (breadth first, so that the links of shorter prefixes
+     * are known), and to the node of its longest proper suffix which is a term.
+     */
+    private void computeFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> childEntry : node.children.entrySet()) {
+                Node child = childEntry.getValue();
+                child.failure = next(node.failure, childEntry.getKey());
+                child.termLink = child.failure.termLength > 0 ? child.failure : child.failure.termLink;
+                queue.add(child);
+            }
+        }
+    }
+
+    private Node next(Node state, char character) {
+        Node node = state;
+        while (true) {
+            Node child = node.children.get(character);
+            if (child != null) {
+                return child;
+            }
+            if (node == root) {
+                return root;
+            }
+            node = node.failure;
+        }
+    }
+
+    /**
+     * Encloses all protected terms of the given text in braces. If terms overlap, the leftmost one is protected, and
+     * of the terms starting at the same position the longest one.
+     */
+    public String protectTerms(String text) {
+        // Length of the longest term starting at each position of the text
+        int[] termLengths = null;
+
+        Node state = root;
+        for (int end = 1; end <= text.length(); end++) {
+            state = next(state, text.charAt(end - 1));
+            Node term = state.termLength > 0 ? state : state.termLink;
+            while (term != null) {
+                int start = end - term.termLength;
+                if (isStartOfTerm(text, start) && isEndOfTerm(text, end)) {
+                    if (termLengths == null) {
+                        termLengths = new int[text.length()];
+                    }
+                    termLengths[start] = Math.max(termLengths[start], term.termLength);
+                }
+                term = term.termLink;
+            }
+        }
+
+        if (termLengths == null) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int position = 0;
+        while (position < text.length()) {
+            int termLength = termLengths[position];
+            if (termLength > 0) {
+                result.append('{').append(text, position, position + termLength).append('}');
+                position += termLength;
+            } else {
+                result.append(text.charAt(position));
+                position++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isStartOfTerm(String text, int start) {
+        return (start == 0) || (CHARACTERS_BEFORE_TERM.indexOf(text.charAt(start - 1)) >= 0);
+    }
+
+    private static boolean isEndOfTerm(String text, int end) {
+        if (end == text.length()) {
+            return true;
+        }
+        char next = text.charAt(end);
+        return !(((next >= 'a') && (next <= 'z')) || ((next >= 'A') && (next <= 'Z')) || (next == '}'));
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        // The node of the longest proper suffix which is a term
+        private Node termLink;
+        // Length of the term ending at this node, 0 if no term ends here
+        private int termLength;
+    }
+}
@@ -0,0 +1,376 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.SearchRule;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * In-memory inverted index of the words of all fields of the entries of a library. The words are taken from the
+ * latex-free field contents, split at whitespace and case-folded.
+ * <p>
+ * A search word which does not contain whitespace is contained in a field iff it is contained in one of the words of
+ * the field. Thus, the index determines the candidates of a query by looking up the words of the index containing the
+ * search words instead of scanning the contents of all fields of all entries. Only the candidates are checked by the
+ * query itself. Queries which cannot be answered by the index, e.g., regular expressions or negations, are checked
+ * against all entries.
+ * <p>
+ * The words containing a search word are found with a second index from the n-grams (up to {@link #GRAM_LENGTH}
+ * characters) to the words containing them. A search word of at most that length is looked up directly. For a longer
+ * search word, only the words containing all its n-grams are checked.
+ *
+ * @implNote The index is built on the first search and then maintained from the change events of the library.
+ */
+public class SearchIndex implements AutoCloseable {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int GRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // case-folded word -> entries containing the word
+    private final Map<String, Set<BibEntry>> postings = new HashMap<>();
+    private final Map<BibEntry, Set<String>> wordsOfEntry = new IdentityHashMap<>();
+    // n-gram of at most GRAM_LENGTH characters -> words of the index containing it
+    private final Map<String, Set<String>> wordsOfGram = new HashMap<>();
+    private volatile boolean built;
+
+    public SearchIndex(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+        database.registerListener(this);
+    }
+
+    /**
+     * Stops following the changes of the library. To be called when the library is closed.
+     */
+    @Override
+    public void close() {
+        database.unregisterListener(this);
+    }
+
+    /**
+     * Returns all entries matching the given query in the order of the library
+     */
+    public List<BibEntry> search(SearchQuery query) {
+        Optional<Set<BibEntry>> candidates = getCandidates(query);
+        return database.getEntries().stream()
+                       .filter(entry -> candidates.map(set -> set.contains(entry)).orElse(true))
+                       .filter(query::isMatch)
+                       .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a superset of the entries matching the given query. The entries are compared by identity.
+     *
+     * @return empty if the index cannot narrow down the entries for this query
+     */
+    public Optional<Set<BibEntry>> getCandidates(SearchQuery query) {
+        SearchRule rule = query.getRule();
+        if (!(rule instanceof ContainBasedSearchRule)
+                && !((rule instanceof GrammarBasedSearchRule) && !((GrammarBasedSearchRule) rule).isRegExpSearch())) {
+            return Optional.empty();
+        }
+
+        ensureBuilt();
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            if (rule instanceof ContainBasedSearchRule) {
+                return getCandidatesForWords(new SentenceAnalyzer(query.getQuery()).getWords());
+            }
+            return new CandidateCollector().visit(((GrammarBasedSearchRule) rule).getTree());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!built) {
+                database.getEntries().forEach(this::addToIndex);
+                built = true;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        updateIndex(event.getBibEntries(), true);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        updateIndex(event.getBibEntries(), false);
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        updateIndex(Collections.singletonList(event.getBibEntry()), true);
+    }
+
+    private void updateIndex(Collection<BibEntry> entries, boolean index) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!built) {
+                // the index is built from the current entries on the first search
+                return;
+            }
+            for (BibEntry entry : entries) {
+                removeFromIndex(entry);
+                if (index) {
+                    addToIndex(entry);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void addToIndex(BibEntry entry) {
+        Set<String> words = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            entry.getLatexFreeField(field).ifPresent(content -> words.addAll(getWords(content)));
+        }
+        wordsOfEntry.put(entry, words);
+        for (String word : words) {
+            postings.computeIfAbsent(word, key -> {
+                addGrams(key);
+                return createEntrySet();
+            }).add(entry);
+        }
+    }
+
+    private void removeFromIndex(BibEntry entry) {
+        Set<String> words = wordsOfEntry.remove(entry);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<BibEntry> entries = postings.get(word);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                postings.remove(word);
+                removeGrams(word);
+            }
+        }
+    }
+
+    private void addGrams(String word) {
+        for (String gram : getGrams(word)) {
+            wordsOfGram.computeIfAbsent(gram, key -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeGrams(String word) {
+        for (String gram : getGrams(word)) {
+            Set<String> words = wordsOfGram.get(gram);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsOfGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns all substrings of the given word with at most {@link #GRAM_LENGTH} characters
+     */
+    private static Set<String> getGrams(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < word.length(); start++) {
+            for (int end = start + 1; (end <= start + GRAM_LENGTH) && (end <= word.length()); end++) {
+                grams.add(word.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the words of the index containing the given text (which does not contain whitespace)
+     */
+    private Set<String> getWordsContaining(String part) {
+        if (part.length() <= GRAM_LENGTH) {
+            return wordsOfGram.getOrDefault(part, Collections.emptySet());
+        }
+
+        // Start with the rarest n-gram, and check only the words containing all n-grams of the part
+        List<Set<String>> wordSets = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= part.length(); start++) {
+            Set<String> words = wordsOfGram.get(part.substring(start, start + GRAM_LENGTH));
+            if (words == null) {
+                return Collections.emptySet();
+            }
+            wordSets.add(words);
+        }
+        wordSets.sort(Comparator.comparingInt(Set::size));
+        return wordSets.get(0).stream()
+                       .filter(word -> word.contains(part))
+                       .collect(Collectors.toSet());
+    }
+
+    private static List<String> getWords(String content) {
+        return WHITESPACE.splitAsStream(content.toLowerCase(Locale.ROOT))
+                         .filter(word -> !word.isEmpty())
+                         .collect(Collectors.toList());
+    }
+
+    private static Set<BibEntry> createEntrySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Determines the entries containing all the given words, each one in any field (as done by {@link ContainBasedSearchRule})
+     */
+    private Optional<Set<BibEntry>> getCandidatesForWords(List<String> searchWords) {
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String searchWord : searchWords) {
+            candidates = intersect(candidates, getCandidatesForWord(searchWord));
+        }
+        return candidates;
+    }
+
+    /**
+     * Determines the entries having a field which contains the given text. As the words of the index are case-folded,
+     * the result is a superset for both case-sensitive and case-insensitive searches.
+     */
+    private Optional<Set<BibEntry>> getCandidatesForWord(String searchWord) {
+        if (searchWord.indexOf('\u03A3') >= 0) {
+            // The lower case of the Greek capital sigma depends on its position in a word. Thus, the case-folded
+            // search word is not necessarily contained in the case-folded field content.
+            return Optional.empty();
+        }
+
+        // Each whitespace-separated part of the search word is contained in a word of the field. Thus, the entries
+        // containing all parts are a superset of the entries containing the search word.
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String part : getWords(searchWord)) {
+            Set<BibEntry> entriesContainingPart = createEntrySet();
+            for (String word : getWordsContaining(part)) {
+                entriesContainingPart.addAll(postings.get(word));
+            }
+            candidates = intersect(candidates, Optional.of(entriesContainingPart));
+        }
+        return candidates;
+    }
+
+    private static Optional<Set<BibEntry>> intersect(Optional<Set<BibEntry>> first, Optional<Set<BibEntry>> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        Set<BibEntry> intersection = createEntrySet();
+        intersection.addAll(first.get());
+        intersection.retainAll(second.get());
+        return Optional.of(intersection);
+    }
+
+    private static Optional<Set<BibEntry>> unite(Optional<Set<BibEntry>> first, Optional<Set<BibEntry>> second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<BibEntry> union = createEntrySet();
+        union.addAll(first.get());
+        union.addAll(second.get());
+        return Optional.of(union);
+    }
+
+    /**
+     * Determines the candidates of an advanced search query (without regular expressions). Comparisons which cannot be
+     * answered by the index, i.e., negations and comparisons with the entry type or single keywords, yield no restriction.
+     */
+    private class CandidateCollector extends SearchBaseVisitor<Optional<Set<BibEntry>>> {
+
+        @Override
+        public Optional<Set<BibEntry>> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitAtomExpression(SearchParser.AtomExpressionContext ctx) {
+            return visit(ctx.comparison());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitComparison(SearchParser.ComparisonContext context) {
+            // remove possible enclosing " symbols
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return getCandidatesForWords(new SentenceAnalyzer(right).getWords());
+            }
+
+            String field = context.left.getText();
+            GrammarBasedSearchRule.ComparisonOperator operator = GrammarBasedSearchRule.ComparisonOperator.build(context.operator.getText());
+            if ((operator == GrammarBasedSearchRule.ComparisonOperator.DOES_NOT_CONTAIN)
+                    || InternalField.TYPE_HEADER.getName().equalsIgnoreCase(field)
+                    || "anykeyword".equalsIgnoreCase(field)) {
+                return Optional.empty();
+            }
+            return getCandidatesForWord(right);
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Optional<Set<BibEntry>> left = visit(ctx.left);
+            Optional<Set<BibEntry>> right = visit(ctx.right);
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return intersect(left, right);
+            } else {
+                return unite(left, right);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +43,11 @@ public abstract class DBMSProcessor {
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    /**
+     * Prepared statements reused across calls, keyed by their query
+     */
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -287,7 +293,7 @@ public abstract class DBMSProcessor {
      * @param localBibEntry {@link BibEntry} affected by changes
      * @throws SQLException
      */
-    public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+    public synchronized void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
@@ -299,34 +305,17 @@ public abstract class DBMSProcessor {
 
             BibEntry sharedBibEntry = sharedEntryOptional.get();
 
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                insertOrUpdateFields(localBibEntry);
+                writeFieldChanges(localBibEntry, sharedBibEntry);
 
                 // updating entry type
-                StringBuilder updateEntryTypeQuery = new StringBuilder()
-                        .append("UPDATE ")
-                        .append(escape("ENTRY"))
-                        .append(" SET ")
-                        .append(escape("TYPE"))
-                        .append(" = ?, ")
-                        .append(escape("VERSION"))
-                        .append(" = ")
-                        .append(escape("VERSION"))
-                        .append(" + 1 WHERE ")
-                        .append(escape("SHARED_ID"))
-                        .append(" = ?");
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+                PreparedStatement preparedUpdateEntryTypeStatement = getCachedStatement(getUpdateEntryTypeQuery());
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.executeUpdate();
 
                 connection.commit(); // apply all changes in current transaction
             } else {
@@ -341,100 +330,145 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Helping method. Writes the difference between the local entry and the stored one to the FIELD table. Fields
+     * which are not present locally anymore are deleted, changed fields are updated and new fields are inserted.
+     * Unchanged fields are not touched at all. Each kind of change is sent as one JDBC batch.
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
-                    .append("DELETE FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+    private void writeFieldChanges(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+
+        Set<Field> removedFields = new HashSet<>(sharedBibEntry.getFields());
+        removedFields.removeAll(localBibEntry.getFields());
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+        List<Field> changedFields = new ArrayList<>();
+        List<Field> addedFields = new ArrayList<>();
+        for (Field field : localBibEntry.getFields()) {
+            Optional<String> sharedValue = sharedBibEntry.getField(field);
+            if (sharedValue.isEmpty()) {
+                addedFields.add(field);
+            } else if (!sharedValue.equals(localBibEntry.getField(field))) {
+                changedFields.add(field);
+            }
+        }
+
+        if (!removedFields.isEmpty()) {
+            PreparedStatement preparedDeleteFieldStatement = getCachedStatement(getDeleteFieldQuery());
+            for (Field removedField : removedFields) {
+                preparedDeleteFieldStatement.setString(1, removedField.getName());
+                preparedDeleteFieldStatement.setInt(2, sharedID);
+                preparedDeleteFieldStatement.addBatch();
             }
+            preparedDeleteFieldStatement.executeBatch();
+        }
+
+        if (!changedFields.isEmpty()) {
+            PreparedStatement preparedUpdateFieldStatement = getCachedStatement(getUpdateFieldQuery());
+            for (Field changedField : changedFields) {
+                preparedUpdateFieldStatement.setString(1, localBibEntry.getField(changedField).orElse(null));
+                preparedUpdateFieldStatement.setString(2, changedField.getName());
+                preparedUpdateFieldStatement.setInt(3, sharedID);
+                preparedUpdateFieldStatement.addBatch();
+            }
+            preparedUpdateFieldStatement.executeBatch();
+        }
+
+        if (!addedFields.isEmpty()) {
+            PreparedStatement preparedInsertFieldStatement = getCachedStatement(getInsertFieldQuery());
+            for (Field addedField : addedFields) {
+                preparedInsertFieldStatement.setInt(1, sharedID);
+                preparedInsertFieldStatement.setString(2, addedField.getName());
+                preparedInsertFieldStatement.setString(3, localBibEntry.getField(addedField).orElse(null));
+                preparedInsertFieldStatement.addBatch();
+            }
+            preparedInsertFieldStatement.executeBatch();
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Returns a prepared statement for the given query, which is reused across calls as long as the connection is open.
+     * The returned statement must not be closed by the caller, see {@link #closeCachedStatements()}.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
+    protected synchronized PreparedStatement getCachedStatement(String query) throws SQLException {
+        PreparedStatement statement = preparedStatements.get(query);
+        if ((statement == null) || statement.isClosed()) {
+            statement = connection.prepareStatement(query);
+            preparedStatements.put(query, statement);
+        } else {
+            statement.clearParameters();
+            statement.clearBatch();
+        }
+        return statement;
+    }
 
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+    /**
+     * Closes the prepared statements cached by {@link #getCachedStatement(String)}. To be called before the connection
+     * is closed or when the processor is not used anymore.
+     */
+    public synchronized void closeCachedStatements() {
+        for (PreparedStatement statement : preparedStatements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.warn("Could not close prepared statement", e);
             }
         }
+        preparedStatements.clear();
+    }
+
+    private String getUpdateEntryTypeQuery() {
+        return new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("ENTRY"))
+                .append(" SET ")
+                .append(escape("TYPE"))
+                .append(" = ?, ")
+                .append(escape("VERSION"))
+                .append(" = ")
+                .append(escape("VERSION"))
+                .append(" + 1 WHERE ")
+                .append(escape("SHARED_ID"))
+                .append(" = ?")
+                .toString();
+    }
+
+    private String getDeleteFieldQuery() {
+        return new StringBuilder()
+                .append("DELETE FROM ")
+                .append(escape("FIELD"))
+                .append(" WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?")
+                .toString();
+    }
+
+    private String getUpdateFieldQuery() {
+        return new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?")
+                .toString();
+    }
+
+    private String getInsertFieldQuery() {
+        return new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)")
+                .toString();
     }
 
     /**
@@ -577,6 +611,32 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves the aggregated version state of all shared entries in a single row.
+     *
+     * @return the {@link SharedEntriesVersionMark} or an empty Optional if the query failed
+     */
+    public Optional<SharedEntriesVersionMark> getSharedEntriesVersionMark() {
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT COUNT(*), SUM(")
+                .append(escape("VERSION"))
+                .append("), MAX(")
+                .append(escape("SHARED_ID"))
+                .append(") FROM ")
+                .append(escape("ENTRY"));
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(selectQuery.toString())) {
+            if (resultSet.next()) {
+                // SUM and MAX are NULL for an empty table, which getLong and getInt map to 0
+                return Optional.of(new SharedEntriesVersionMark(resultSet.getLong(1), resultSet.getLong(2), resultSet.getInt(3)));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -0,0 +1,71 @@
+package org.jabref.logic.shared;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.SharedBibEntryData;
+
+/**
+ * Aggregated version state of a set of shared entries: the number of entries, the sum of their versions and the highest
+ * shared ID.
+ * <p>
+ * Versions only grow and shared IDs are generated in ascending order. Thus, every insertion, update or removal on the
+ * shared database changes at least one of the three values. If the mark of the shared database equals the mark of the
+ * local entries, there is nothing to pull and the (expensive) transfer of the complete ID-version mapping can be
+ * skipped.
+ */
+public class SharedEntriesVersionMark {
+
+    private final long numberOfEntries;
+    private final long versionSum;
+    private final int highestSharedID;
+
+    public SharedEntriesVersionMark(long numberOfEntries, long versionSum, int highestSharedID) {
+        this.numberOfEntries = numberOfEntries;
+        this.versionSum = versionSum;
+        this.highestSharedID = highestSharedID;
+    }
+
+    /**
+     * Computes the mark of the given local entries
+     */
+    public static SharedEntriesVersionMark of(Collection<BibEntry> entries) {
+        long versionSum = 0;
+        int highestSharedID = 0;
+        for (BibEntry entry : entries) {
+            SharedBibEntryData sharedData = entry.getSharedBibEntryData();
+            versionSum += sharedData.getVersion();
+            highestSharedID = Math.max(highestSharedID, sharedData.getSharedID());
+        }
+        return new SharedEntriesVersionMark(entries.size(), versionSum, highestSharedID);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        SharedEntriesVersionMark that = (SharedEntriesVersionMark) o;
+        return (numberOfEntries == that.numberOfEntries)
+                && (versionSum == that.versionSum)
+                && (highestSharedID == that.highestSharedID);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numberOfEntries, versionSum, highestSharedID);
+    }
+
+    @Override
+    public String toString() {
+        return "SharedEntriesVersionMark{" +
+                "numberOfEntries=" + numberOfEntries +
+                ", versionSum=" + versionSum +
+                ", highestSharedID=" + highestSharedID +
+                '}';
+    }
+}
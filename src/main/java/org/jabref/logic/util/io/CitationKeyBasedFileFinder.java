@@ -1,11 +1,8 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,21 +10,25 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.FileHelper;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 class CitationKeyBasedFileFinder implements FileFinder {
 
     private final boolean exactKeyOnly;
+    private final FileIndexes fileIndexes;
 
     CitationKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, new FileIndexes(new DummyFileUpdateMonitor()));
+    }
+
+    CitationKeyBasedFileFinder(boolean exactKeyOnly, FileIndexes fileIndexes) {
         this.exactKeyOnly = exactKeyOnly;
+        this.fileIndexes = fileIndexes;
     }
 
     @Override
@@ -43,8 +44,8 @@ class CitationKeyBasedFileFinder implements FileFinder {
 
         List<Path> result = new ArrayList<>();
 
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
+        // First look up the candidates in the index of the directories
+        Set<Path> filesWithExtension = findFilesStartingWithKey(citeKey, directories, extensions);
 
         // Now look for keys
         for (Path file : filesWithExtension) {
@@ -77,22 +78,16 @@ class CitationKeyBasedFileFinder implements FileFinder {
     }
 
     /**
-     * Returns a list of all files in the given directories which have one of the given extension.
+     * Returns all files in the given directories which have one of the given extensions and whose name starts with the
+     * given key.
      */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
+    private Set<Path> findFilesStartingWithKey(String citeKey, List<Path> directories, List<String> extensions) {
         Objects.requireNonNull(extensions, "Extensions must not be null!");
 
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileHelper.getFileExtension(path).orElse(""));
-
         Set<Path> result = new HashSet<>();
         for (Path directory : directories) {
             if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
+                result.addAll(fileIndexes.getIndex(directory).findFilesByNamePrefix(citeKey, extensions));
             }
         }
         return result;
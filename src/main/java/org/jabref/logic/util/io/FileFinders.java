@@ -3,16 +3,19 @@ package org.jabref.logic.util.io;
 public class FileFinders {
     /**
      * Creates a preconfigurated file finder based on the given AutoLink preferences.
+     *
+     * @param fileIndexes the indexes of the directories to search, shared to avoid walking the directories for each
+     *                    entry
      */
-    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences) {
+    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, FileIndexes fileIndexes) {
         switch (autoLinkPreferences.getCitationKeyDependency()) {
             default:
             case START:
-                return new CitationKeyBasedFileFinder(false);
+                return new CitationKeyBasedFileFinder(false, fileIndexes);
             case EXACT:
-                return new CitationKeyBasedFileFinder(true);
+                return new CitationKeyBasedFileFinder(true, fileIndexes);
             case REGEX:
-                return new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordDelimiter());
+                return new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordDelimiter(), fileIndexes);
         }
     }
 }
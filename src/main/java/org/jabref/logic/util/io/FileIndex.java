@@ -0,0 +1,389 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.jabref.model.util.FileHelper;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory index of all files below a directory, so that files can be looked up without walking the file system
+ * again and again.
+ * <p>
+ * The index is built on first use, listing the subdirectories in parallel. The files are kept in a map sorted by
+ * their name, which answers prefix queries (e.g., all files starting with a citation key) like a trie. The extension of
+ * each file is determined once when the file is indexed.
+ * <p>
+ * Directories which can be watched by the {@link FileUpdateMonitor} are listed again after they were reported as
+ * changed. All other directories (e.g., if the monitor is not active or if the directory is on a network share which
+ * cannot be watched) are listed again if their modification time changed, which is checked at most once per
+ * revalidation interval. Closing the index removes its listeners from the monitor.
+ */
+public class FileIndex implements AutoCloseable {
+
+    public static final Duration DEFAULT_REVALIDATION_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileIndex.class);
+
+    private final Path root;
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final long revalidationIntervalInMillis;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Path, IndexedDirectory> directories = new HashMap<>();
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+    private final Set<Path> changedDirectories = ConcurrentHashMap.newKeySet();
+    private volatile boolean built;
+    private volatile boolean closed;
+    private volatile long lastRevalidation;
+
+    public FileIndex(Path root, FileUpdateMonitor fileUpdateMonitor) {
+        this(root, fileUpdateMonitor, DEFAULT_REVALIDATION_INTERVAL);
+    }
+
+    public FileIndex(Path root, FileUpdateMonitor fileUpdateMonitor, Duration revalidationInterval) {
+        this.root = Objects.requireNonNull(root);
+        this.fileUpdateMonitor = Objects.requireNonNull(fileUpdateMonitor);
+        this.revalidationIntervalInMillis = revalidationInterval.toMillis();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns all files below the root directory whose name (including the extension) starts with the given prefix
+     * and whose extension is one of the given ones.
+     *
+     * @param extensions the accepted extensions (without leading dot, in lowercase)
+     */
+    public List<Path> findFilesByNamePrefix(String prefix, Collection<String> extensions) {
+        update();
+        lock.readLock().lock();
+        try {
+            List<Path> result = new ArrayList<>();
+            for (List<Path> files : filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                for (Path file : files) {
+                    if (extensions.contains(getExtension(file))) {
+                        result.add(file);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the files directly contained in the given directory or an empty optional if the directory is not part
+     * of the index (e.g., because it is not below the root directory).
+     */
+    public Optional<List<Path>> getFiles(Path directory) {
+        update();
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(directories.get(directory))
+                           .map(indexedDirectory -> new ArrayList<>(indexedDirectory.files.keySet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the directories directly contained in the given directory or an empty optional if the directory is not
+     * part of the index.
+     */
+    public Optional<List<Path>> getSubdirectories(Path directory) {
+        update();
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(directories.get(directory))
+                           .map(indexedDirectory -> new ArrayList<>(indexedDirectory.subdirectories));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all directories below the given directory (depth first, excluding the directory itself) or an empty
+     * optional if the directory is not part of the index.
+     */
+    public Optional<List<Path>> getAllSubdirectories(Path directory) {
+        update();
+        lock.readLock().lock();
+        try {
+            if (!directories.containsKey(directory)) {
+                return Optional.empty();
+            }
+            List<Path> result = new ArrayList<>();
+            collectSubdirectories(directory, result);
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectSubdirectories(Path directory, List<Path> result) {
+        IndexedDirectory indexedDirectory = directories.get(directory);
+        if (indexedDirectory == null) {
+            return;
+        }
+        for (Path subdirectory : indexedDirectory.subdirectories) {
+            result.add(subdirectory);
+            collectSubdirectories(subdirectory, result);
+        }
+    }
+
+    /**
+     * Stops watching the directories. A closed index still answers queries, but only notices changes through the
+     * modification times of the directories.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            directories.keySet().forEach(this::unwatch);
+            directories.values().forEach(content -> content.listener = Optional.empty());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update() {
+        if (built && changedDirectories.isEmpty() && !isRevalidationDue()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!built) {
+                addDirectoryTree(root);
+                built = true;
+                lastRevalidation = System.currentTimeMillis();
+                return;
+            }
+
+            Set<Path> directoriesToList = new HashSet<>(changedDirectories);
+            changedDirectories.removeAll(directoriesToList);
+            if (isRevalidationDue()) {
+                lastRevalidation = System.currentTimeMillis();
+                directoriesToList.addAll(findChangedUnwatchedDirectories());
+            }
+            directoriesToList.forEach(this::updateDirectory);
+
+            if (directories.isEmpty()) {
+                // The root directory vanished, try again on next use
+                built = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isRevalidationDue() {
+        return (System.currentTimeMillis() - lastRevalidation) >= revalidationIntervalInMillis;
+    }
+
+    private Set<Path> findChangedUnwatchedDirectories() {
+        return directories.entrySet()
+                          .parallelStream()
+                          .filter(entry -> entry.getValue().listener.isEmpty())
+                          .filter(entry -> !getLastModifiedTime(entry.getKey()).equals(Optional.of(entry.getValue().lastModified)))
+                          .map(Map.Entry::getKey)
+                          .collect(Collectors.toSet());
+    }
+
+    private void updateDirectory(Path directory) {
+        IndexedDirectory oldContent = directories.get(directory);
+        if (oldContent == null) {
+            // already removed together with its parent
+            return;
+        }
+
+        Optional<IndexedDirectory> newContent = listDirectory(directory);
+        if (newContent.isEmpty()) {
+            removeDirectoryTree(directory);
+            return;
+        }
+
+        removeFiles(oldContent);
+        newContent.get().listener = oldContent.listener;
+        directories.put(directory, newContent.get());
+        addFiles(newContent.get());
+
+        for (Path subdirectory : oldContent.subdirectories) {
+            if (!newContent.get().subdirectories.contains(subdirectory)) {
+                removeDirectoryTree(subdirectory);
+            }
+        }
+        for (Path subdirectory : newContent.get().subdirectories) {
+            if (!oldContent.subdirectories.contains(subdirectory)) {
+                addDirectoryTree(subdirectory);
+            }
+        }
+    }
+
+    private void addDirectoryTree(Path directory) {
+        Map<Path, IndexedDirectory> listedDirectories = new ConcurrentHashMap<>();
+        listDirectoryTree(directory, listedDirectories);
+
+        listedDirectories.forEach((listedDirectory, content) -> {
+            directories.put(listedDirectory, content);
+            addFiles(content);
+            watch(listedDirectory, content);
+        });
+    }
+
+    private void removeDirectoryTree(Path directory) {
+        IndexedDirectory content = directories.get(directory);
+        if (content == null) {
+            return;
+        }
+        unwatch(directory);
+        directories.remove(directory);
+        removeFiles(content);
+        content.subdirectories.forEach(this::removeDirectoryTree);
+    }
+
+    private void addFiles(IndexedDirectory content) {
+        for (Path file : content.files.keySet()) {
+            filesByName.computeIfAbsent(file.getFileName().toString(), name -> new ArrayList<>(1)).add(file);
+        }
+    }
+
+    private void removeFiles(IndexedDirectory content) {
+        for (Path file : content.files.keySet()) {
+            String name = file.getFileName().toString();
+            List<Path> files = filesByName.get(name);
+            if (files != null) {
+                files.remove(file);
+                if (files.isEmpty()) {
+                    filesByName.remove(name);
+                }
+            }
+        }
+    }
+
+    private String getExtension(Path file) {
+        IndexedDirectory content = directories.get(file.getParent());
+        return content == null ? "" : content.files.getOrDefault(file, "");
+    }
+
+    private void watch(Path directory, IndexedDirectory content) {
+        if (closed || !fileUpdateMonitor.isActive()) {
+            return;
+        }
+        FileUpdateListener listener = () -> changedDirectories.add(directory);
+        try {
+            fileUpdateMonitor.addListenerForDirectory(directory, listener);
+            content.listener = Optional.of(listener);
+        } catch (IOException e) {
+            // e.g., the limit of watched directories is reached: we fall back to checking the modification time
+            LOGGER.debug("Could not watch directory {}", directory, e);
+        }
+    }
+
+    private void unwatch(Path directory) {
+        IndexedDirectory content = directories.get(directory);
+        if (content != null) {
+            content.listener.ifPresent(listener -> fileUpdateMonitor.removeListener(directory, listener));
+        }
+    }
+
+    /**
+     * Lists the given directory and all directories below it. The subdirectories are listed in parallel, as listing a
+     * directory mostly waits for the file system.
+     */
+    private static void listDirectoryTree(Path directory, Map<Path, IndexedDirectory> result) {
+        listDirectory(directory).ifPresent(content -> {
+            result.put(directory, content);
+            content.subdirectories.parallelStream().forEach(subdirectory -> listDirectoryTree(subdirectory, result));
+        });
+    }
+
+    private static Optional<IndexedDirectory> listDirectory(Path directory) {
+        // Read the modification time first, so that a change while listing the directory is detected later on
+        Optional<FileTime> lastModified = getLastModifiedTime(directory);
+        if (lastModified.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IndexedDirectory content = new IndexedDirectory(lastModified.get());
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    if (!isLinkToAncestor(directory, path)) {
+                        content.subdirectories.add(path);
+                    }
+                } else {
+                    content.files.put(path, FileHelper.getFileExtension(path).orElse(""));
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOGGER.warn("Could not list directory {}", directory, e);
+            return Optional.empty();
+        }
+        return Optional.of(content);
+    }
+
+    /**
+     * Symbolic links to an ancestor directory would lead to an infinite tree
+     */
+    private static boolean isLinkToAncestor(Path directory, Path subdirectory) {
+        if (!Files.isSymbolicLink(subdirectory)) {
+            return false;
+        }
+        try {
+            return directory.toRealPath().startsWith(subdirectory.toRealPath());
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static Optional<FileTime> getLastModifiedTime(Path directory) {
+        try {
+            return Optional.of(Files.getLastModifiedTime(directory));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static class IndexedDirectory {
+        private final FileTime lastModified;
+        // Maps each file to its extension
+        private final Map<Path, String> files = new LinkedHashMap<>();
+        private final List<Path> subdirectories = new ArrayList<>();
+        private Optional<FileUpdateListener> listener = Optional.empty();
+
+        IndexedDirectory(FileTime lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.util.FileUpdateMonitor;
+
+/**
+ * Holds one {@link FileIndex} per directory, so that all users of a directory (e.g., the file finders of all
+ * libraries sharing a file directory) share its index.
+ */
+public class FileIndexes {
+
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final Map<Path, FileIndex> indexes = new ConcurrentHashMap<>();
+
+    public FileIndexes(FileUpdateMonitor fileUpdateMonitor) {
+        this.fileUpdateMonitor = Objects.requireNonNull(fileUpdateMonitor);
+    }
+
+    /**
+     * Returns the index of the given directory. The index is only built when it is queried for the first time.
+     */
+    public FileIndex getIndex(Path directory) {
+        return indexes.computeIfAbsent(directory, dir -> new FileIndex(dir, fileUpdateMonitor));
+    }
+
+    /**
+     * Closes and forgets the indexes of all directories except the given ones, e.g., after a library was closed, so
+     * that the directories no longer used by any open library are not watched anymore.
+     */
+    public void retainDirectories(Collection<Path> directoriesInUse) {
+        indexes.entrySet().removeIf(entry -> {
+            if (directoriesInUse.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().close();
+            return true;
+        });
+    }
+}
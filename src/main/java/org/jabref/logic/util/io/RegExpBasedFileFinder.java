@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -20,6 +21,7 @@ import java.util.stream.Stream;
 import org.jabref.logic.citationkeypattern.BracketedPattern;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 class RegExpBasedFileFinder implements FileFinder {
 
@@ -29,13 +31,23 @@ class RegExpBasedFileFinder implements FileFinder {
 
     private final String regExp;
     private final Character keywordDelimiter;
+    private final FileIndexes fileIndexes;
 
     /**
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+        this(regExp, keywordDelimiter, new FileIndexes(new DummyFileUpdateMonitor()));
+    }
+
+    /**
+     * @param regExp      The expression deciding which names are acceptable.
+     * @param fileIndexes The indexes used to list the directories below the root directories
+     */
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, FileIndexes fileIndexes) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.fileIndexes = fileIndexes;
     }
 
     /**
@@ -124,7 +136,7 @@ class RegExpBasedFileFinder implements FileFinder {
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, fileIndexes.getIndex(directory), directory, regExp, extensionRegExp));
         }
         return res;
     }
@@ -132,8 +144,10 @@ class RegExpBasedFileFinder implements FileFinder {
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
+     * Directories covered by the given index are not listed again, all
+     * others (e.g., parents of the root directory) are read from disk.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final FileIndex fileIndex, final Path directory, final String file, final String extensionRegExp) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -174,34 +188,32 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                for (Path subDir : getSubDirectories(fileIndex, actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, fileIndex, subDir, restOfFileString, extensionRegExp));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
-                final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
-                    }
-                } catch (UncheckedIOException ioe) {
-                    throw ioe.getCause();
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path path : getAllSubDirectories(fileIndex, actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, fileIndex, path, restOfFileString, extensionRegExp));
                 }
             } // End process directory information
         }
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        Optional<List<Path>> indexedFiles = fileIndex.getFiles(actualDirectory);
+        if (indexedFiles.isPresent()) {
+            indexedFiles.get().stream()
+                        .filter(path -> toMatch.matcher(path.getFileName().toString()).matches())
+                        .forEach(resultFiles::add);
+            return resultFiles;
+        }
+
         BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
@@ -212,6 +224,37 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    private List<Path> getSubDirectories(FileIndex fileIndex, Path directory) {
+        Optional<List<Path>> indexedSubDirectories = fileIndex.getSubdirectories(directory);
+        if (indexedSubDirectories.isPresent()) {
+            return indexedSubDirectories.get();
+        }
+
+        List<Path> subDirectories = new ArrayList<>();
+        File[] subDirs = directory.toFile().listFiles();
+        if (subDirs != null) {
+            for (File subDir : subDirs) {
+                if (subDir.isDirectory()) {
+                    subDirectories.add(subDir.toPath());
+                }
+            }
+        }
+        return subDirectories;
+    }
+
+    private List<Path> getAllSubDirectories(FileIndex fileIndex, Path directory) throws IOException {
+        Optional<List<Path>> indexedSubDirectories = fileIndex.getAllSubdirectories(directory);
+        if (indexedSubDirectories.isPresent()) {
+            return indexedSubDirectories.get();
+        }
+
+        try (Stream<Path> pathStream = Files.walk(directory)) {
+            return pathStream.filter(element -> isSubDirectory(directory, element)).collect(Collectors.toList());
+        } catch (UncheckedIOException ioe) {
+            throw ioe.getCause();
+        }
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
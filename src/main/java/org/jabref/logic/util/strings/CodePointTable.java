@@ -0,0 +1,55 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+
+/**
+ * Immutable map from code points to strings. It is stored as a two-level table with one block per 256 code points, so
+ * that a lookup takes two array accesses and does not box the code point.
+ */
+public class CodePointTable {
+
+    private static final int BLOCK_BITS = 8;
+    private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+
+    private final String[][] blocks = new String[(Character.MAX_CODE_POINT >> BLOCK_BITS) + 1][];
+
+    public CodePointTable(Map<Integer, String> values) {
+        values.forEach(this::put);
+    }
+
+    /**
+     * Creates a table of the entries of the given map whose keys consist of a single code point
+     */
+    public static CodePointTable fromStrings(Map<String, String> values) {
+        CodePointTable table = new CodePointTable(Map.of());
+        values.forEach((key, value) -> {
+            if (!key.isEmpty() && (key.codePointCount(0, key.length()) == 1)) {
+                table.put(key.codePointAt(0), value);
+            }
+        });
+        return table;
+    }
+
+    private void put(int codePoint, String value) {
+        if (!Character.isValidCodePoint(codePoint)) {
+            return;
+        }
+        String[] block = blocks[codePoint >> BLOCK_BITS];
+        if (block == null) {
+            block = new String[BLOCK_SIZE];
+            blocks[codePoint >> BLOCK_BITS] = block;
+        }
+        block[codePoint & (BLOCK_SIZE - 1)] = value;
+    }
+
+    /**
+     * Returns the value of the given code point, or null if there is none
+     */
+    public String get(int codePoint) {
+        if (!Character.isValidCodePoint(codePoint)) {
+            return null;
+        }
+        String[] block = blocks[codePoint >> BLOCK_BITS];
+        return block == null ? null : block[codePoint & (BLOCK_SIZE - 1)];
+    }
+}
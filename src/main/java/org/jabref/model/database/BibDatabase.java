@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,13 +31,14 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldChangedListener;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,8 +56,19 @@ public class BibDatabase {
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    /**
+     * Index of all entries by their citation key. Entries without (or with a blank) citation key are not indexed.
+     * The index is kept in sync with {@link #entries} on insertion, removal and on every change of the citation key field.
+     */
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+
     private final EventBus eventBus = new EventBus();
 
+    /**
+     * Single listener instance shared by all entries of this database, relaying their changes to {@link #eventBus}
+     */
+    private final FieldChangedListener entryChangeRelay = this::relayEntryChangeEvent;
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -138,14 +152,14 @@ public class BibDatabase {
 
     /**
      * Returns the entry with the given citation key.
+     * If there are multiple entries with that key, the first one in database order is returned.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCitationKey().orElse(null))) {
-                return Optional.of(entry);
-            }
+        List<BibEntry> entriesWithKey = getEntriesByCitationKey(key);
+        if (entriesWithKey.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(entriesWithKey.get(0));
     }
 
     /**
@@ -155,14 +169,25 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return new ArrayList<>();
+        }
+        if (entriesWithKey.size() == 1) {
+            return new ArrayList<>(entriesWithKey);
+        }
 
+        // The index only keeps the order in which the key was assigned, thus restore the database order in one pass
+        Set<BibEntry> remainingEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingEntries.addAll(entriesWithKey);
+        List<BibEntry> result = new ArrayList<>(entriesWithKey.size());
         for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
+            if (remainingEntries.remove(entry)) {
+                result.add(entry);
+                if (remainingEntries.isEmpty()) {
+                    break;
                 }
-            });
+            }
         }
         return result;
     }
@@ -197,7 +222,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.addFieldChangedListener(entryChangeRelay);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -205,6 +230,9 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.get(0), eventSource));
         }
         entries.addAll(newEntries);
+        for (BibEntry entry : newEntries) {
+            entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
+        }
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -235,11 +263,23 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        List<BibEntry> removedEntries = new ArrayList<>();
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
+        for (BibEntry entry : removedEntries) {
+            // Removed entries must not update the citation key index anymore
+            entry.removeFieldChangedListener(entryChangeRelay);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry));
+        }
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -571,11 +611,38 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            updateCitationKeyIndex(event.getBibEntry(), event.getOldValue(), event.getNewValue());
+        }
         eventBus.post(event);
     }
 
+    private synchronized void updateCitationKeyIndex(BibEntry entry, String oldKey, String newKey) {
+        if (!StringUtil.isBlank(oldKey)) {
+            removeFromCitationKeyIndex(oldKey, entry);
+        }
+        if (!StringUtil.isBlank(newKey)) {
+            addToCitationKeyIndex(newKey, entry);
+        }
+    }
+
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        entriesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return;
+        }
+        // Compare by identity, because different entries may be equal
+        entriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+        if (entriesWithKey.isEmpty()) {
+            entriesByCitationKey.remove(key);
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -609,11 +676,9 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        return entriesWithKey == null ? 0 : entriesWithKey.size();
     }
 
     /**
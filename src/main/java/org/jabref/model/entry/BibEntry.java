@@ -1,6 +1,7 @@
 package org.jabref.model.entry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,6 +29,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldChangedListener;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -75,7 +77,19 @@ public class BibEntry implements Cloneable {
      */
     private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
 
-    private final EventBus eventBus = new EventBus();
+    private static final FieldChangedListener[] NO_LISTENERS = new FieldChangedListener[0];
+
+    /**
+     * Typed listeners, which are notified about changes without an event bus. The array is replaced on every
+     * (un)registration, so that dispatching needs neither locking nor copying.
+     */
+    private volatile FieldChangedListener[] fieldChangedListeners = NO_LISTENERS;
+
+    /**
+     * Event bus for listeners using {@link com.google.common.eventbus.Subscribe}. It is only created if such a
+     * listener is registered, because allocating one bus per entry is too expensive for large libraries.
+     */
+    private volatile EventBus eventBus;
 
     private String id;
 
@@ -324,7 +338,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -392,7 +406,7 @@ public class BibEntry implements Cloneable {
         this.type.setValue(newType);
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -564,9 +578,9 @@ public class BibEntry implements Cloneable {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -609,7 +623,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -819,11 +833,21 @@ public class BibEntry implements Cloneable {
         return Objects.hash(type.getValue(), fields);
     }
 
-    public void registerListener(Object object) {
+    /**
+     * Registers a listener object (subscriber) using {@link com.google.common.eventbus.Subscribe} annotations.
+     * Prefer {@link #addFieldChangedListener(FieldChangedListener)}, which does not need an event bus per entry.
+     */
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
         this.eventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (eventBus == null) {
+            return;
+        }
         try {
             this.eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
@@ -832,6 +856,58 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    /**
+     * Adds a listener which is notified about every change of a field of this entry.
+     * Adding the same listener twice has no effect.
+     */
+    public synchronized void addFieldChangedListener(FieldChangedListener listener) {
+        Objects.requireNonNull(listener);
+        FieldChangedListener[] listeners = fieldChangedListeners;
+        for (FieldChangedListener registered : listeners) {
+            if (registered == listener) {
+                return;
+            }
+        }
+        FieldChangedListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        fieldChangedListeners = newListeners;
+    }
+
+    public synchronized void removeFieldChangedListener(FieldChangedListener listener) {
+        FieldChangedListener[] listeners = fieldChangedListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                if (listeners.length == 1) {
+                    fieldChangedListeners = NO_LISTENERS;
+                } else {
+                    FieldChangedListener[] newListeners = new FieldChangedListener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, i);
+                    System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                    fieldChangedListeners = newListeners;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Notifies the typed listeners first and afterwards the subscribers of the event bus (if any).
+     * As with the event bus, an exception thrown by one listener does not prevent the others from being notified.
+     */
+    private void postEvent(FieldChangedEvent event) {
+        for (FieldChangedListener listener : fieldChangedListeners) {
+            try {
+                listener.fieldChanged(event);
+            } catch (RuntimeException e) {
+                LOGGER.error("Exception thrown by listener {} when handling {}", listener, event, e);
+            }
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
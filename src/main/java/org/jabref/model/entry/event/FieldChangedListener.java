@@ -0,0 +1,18 @@
+package org.jabref.model.entry.event;
+
+/**
+ * Typed listener for changes of a {@link org.jabref.model.entry.BibEntry}.
+ * <p>
+ * In contrast to listeners registered via {@link org.jabref.model.entry.BibEntry#registerListener(Object)}, no event
+ * bus is involved: the listener is called directly and synchronously. Thus, one listener instance can be shared by
+ * all entries of a library without any per-entry allocation apart from the reference to the listener.
+ */
+@FunctionalInterface
+public interface FieldChangedListener {
+
+    /**
+     * A field of the entry has been changed, added or removed. Field additions and removals are reported as
+     * {@link FieldAddedOrRemovedEvent}.
+     */
+    void fieldChanged(FieldChangedEvent event);
+}
@@ -9,8 +9,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import org.jabref.architecture.AllowedToUseLogic;
-import org.jabref.logic.auxparser.AuxParser;
-import org.jabref.logic.auxparser.AuxParserResult;
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.FileHelper;
@@ -26,33 +25,34 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(TexGroup.class);
 
     private final Path filePath;
-    private Set<String> keysUsedInAux;
+    private volatile Set<String> keysUsedInAux;
     private final FileUpdateMonitor fileMonitor;
-    private final AuxParser auxParser;
+    private final AuxKeyCache auxKeyCache;
     private final MetaData metaData;
     private final String user;
 
-    TexGroup(String name, GroupHierarchyType context, Path filePath, AuxParser auxParser, FileUpdateMonitor fileMonitor, MetaData metaData, String user) {
+    TexGroup(String name, GroupHierarchyType context, Path filePath, AuxKeyCache auxKeyCache, FileUpdateMonitor fileMonitor, MetaData metaData, String user) {
         super(name, context);
         this.metaData = metaData;
         this.user = user;
         this.filePath = expandPath(Objects.requireNonNull(filePath));
-        this.auxParser = auxParser;
+        this.auxKeyCache = auxKeyCache;
         this.fileMonitor = fileMonitor;
+        auxKeyCache.addListener(this.filePath, this);
     }
 
-    TexGroup(String name, GroupHierarchyType context, Path filePath, AuxParser auxParser, FileUpdateMonitor fileMonitor, MetaData metaData) throws IOException {
-        this(name, context, filePath, auxParser, fileMonitor, metaData, System.getProperty("user.name") + '-' + InetAddress.getLocalHost().getHostName());
+    TexGroup(String name, GroupHierarchyType context, Path filePath, AuxKeyCache auxKeyCache, FileUpdateMonitor fileMonitor, MetaData metaData) throws IOException {
+        this(name, context, filePath, auxKeyCache, fileMonitor, metaData, System.getProperty("user.name") + '-' + InetAddress.getLocalHost().getHostName());
     }
 
-    public static TexGroup create(String name, GroupHierarchyType context, Path filePath, AuxParser auxParser, FileUpdateMonitor fileMonitor, MetaData metaData) throws IOException {
-        TexGroup group = new TexGroup(name, context, filePath, auxParser, fileMonitor, metaData);
-        fileMonitor.addListenerForFile(group.getFilePathResolved(), group);
+    public static TexGroup create(String name, GroupHierarchyType context, Path filePath, AuxKeyCache auxKeyCache, FileUpdateMonitor fileMonitor, MetaData metaData) throws IOException {
+        TexGroup group = new TexGroup(name, context, filePath, auxKeyCache, fileMonitor, metaData);
+        auxKeyCache.watch(group.getFilePathResolved(), fileMonitor);
         return group;
     }
 
-    public static TexGroup createWithoutFileMonitoring(String name, GroupHierarchyType context, Path filePath, AuxParser auxParser, FileUpdateMonitor fileMonitor, MetaData metaData) throws IOException {
-        return new TexGroup(name, context, filePath, auxParser, fileMonitor, metaData);
+    public static TexGroup createWithoutFileMonitoring(String name, GroupHierarchyType context, Path filePath, AuxKeyCache auxKeyCache, FileUpdateMonitor fileMonitor, MetaData metaData) throws IOException {
+        return new TexGroup(name, context, filePath, auxKeyCache, fileMonitor, metaData);
     }
 
     public Path getFilePathResolved() {
@@ -61,12 +61,13 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
 
     @Override
     public boolean contains(BibEntry entry) {
-        if (keysUsedInAux == null) {
-            AuxParserResult auxResult = auxParser.parse(filePath);
-            keysUsedInAux = auxResult.getUniqueKeys();
+        Set<String> keys = keysUsedInAux;
+        if (keys == null) {
+            keys = auxKeyCache.getKeys(filePath);
+            keysUsedInAux = keys;
         }
 
-        return entry.getCitationKey().map(keysUsedInAux::contains).orElse(false);
+        return entry.getCitationKey().map(keys::contains).orElse(false);
     }
 
     @Override
@@ -77,7 +78,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     @Override
     public AbstractGroup deepCopy() {
         try {
-            return new TexGroup(name.getValue(), context, filePath, auxParser, fileMonitor, metaData);
+            return new TexGroup(name.getValue(), context, filePath, auxKeyCache, fileMonitor, metaData);
         } catch (IOException ex) {
             // This should never happen because we were able to monitor the file just fine until now
             LOGGER.error("Problem creating copy of group", ex);
@@ -105,7 +106,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
         return "TexGroup{" +
                 "filePath=" + filePath +
                 ", keysUsedInAux=" + keysUsedInAux +
-                ", auxParser=" + auxParser +
+                ", auxKeyCache=" + auxKeyCache +
                 ", fileMonitor=" + fileMonitor +
                 "} " + super.toString();
     }
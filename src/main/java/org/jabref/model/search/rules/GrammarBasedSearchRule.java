@@ -1,11 +1,14 @@
 package org.jabref.model.search.rules;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
@@ -42,6 +45,11 @@ public class GrammarBasedSearchRule implements SearchRule {
     private ParseTree tree;
     private String query;
 
+    /**
+     * The query compiled from {@link #tree}. It is immutable and thus can be shared across entries and threads.
+     */
+    private Predicate<BibEntry> compiledQuery = entry -> false;
+
     public static class ThrowingErrorListener extends BaseErrorListener {
 
         public static final ThrowingErrorListener INSTANCE = new ThrowingErrorListener();
@@ -93,12 +101,23 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
         this.query = query;
+        compiledQuery = compile(tree);
+    }
+
+    private Predicate<BibEntry> compile(ParseTree tree) {
+        try {
+            return new SearchExpressionCompiler(caseSensitiveSearch, regExpSearch).visit(tree);
+        } catch (Exception e) {
+            // e.g., an invalid regular expression: as before, no entry matches
+            LOGGER.debug("Search failed", e);
+            return entry -> false;
+        }
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return compiledQuery.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -136,22 +155,36 @@ public class GrammarBasedSearchRule implements SearchRule {
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
 
+        // the special cases only depend on the field pattern, thus they are determined once
+        private final boolean matchesEntryType;
+        private final boolean matchesAnyKeyword;
+        private final boolean matchesAnyField;
+
+        /**
+         * Caches whether a field name matches {@link #fieldPattern}. There are only few distinct fields in a library.
+         */
+        private final Map<Field, Boolean> fieldKeyMatches = new ConcurrentHashMap<>();
+
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
             this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+
+            this.matchesEntryType = fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+            this.matchesAnyKeyword = fieldPattern.matcher("anykeyword").matches();
+            this.matchesAnyField = fieldPattern.matcher("anyfield").matches();
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (matchesEntryType) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (matchesAnyKeyword) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
@@ -159,7 +192,7 @@ public class GrammarBasedSearchRule implements SearchRule {
             Set<Field> fieldsKeys = entry.getFields();
 
             // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
+            if (!matchesAnyField) {
                 // Filter out the requested fields
                 fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
             }
@@ -178,7 +211,7 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
 
         private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+            return field -> fieldKeyMatches.computeIfAbsent(field, key -> fieldPattern.matcher(key.getName()).matches());
         }
 
         public boolean matchFieldValue(String content) {
@@ -196,32 +229,26 @@ public class GrammarBasedSearchRule implements SearchRule {
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a tree of predicates. All patterns are built during compilation, thus
+     * evaluating the resulting predicate for an entry does not need to walk the parse tree or compile any pattern.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchExpressionCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public SearchExpressionCompiler(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -230,28 +257,42 @@ public class GrammarBasedSearchRule implements SearchRule {
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
+                Comparator comparator = new Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), caseSensitive, regex);
+                return comparator::compare;
+            } else if (regex) {
+                Pattern pattern;
+                try {
+                    pattern = Pattern.compile(right, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
+                } catch (PatternSyntaxException e) {
+                    // same as RegexBasedSearchRule: an invalid pattern matches nothing
+                    return entry -> false;
+                }
+                return entry -> RegexBasedSearchRule.matchesAnyField(pattern, entry);
             } else {
-                return SearchRules.getSearchRule(caseSensitive, regex).applyRule(right, entry);
+                SearchRule searchRule = SearchRules.getSearchRule(caseSensitive, false);
+                String searchString = right;
+                return entry -> searchRule.applyRule(searchString, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Predicate<BibEntry> left = visit(ctx.left);
+            Predicate<BibEntry> right = visit(ctx.right);
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return left.and(right);
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return left.or(right);
             }
         }
     }
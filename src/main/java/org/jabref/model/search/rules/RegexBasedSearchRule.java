@@ -49,6 +49,13 @@ public class RegexBasedSearchRule implements SearchRule {
             return false;
         }
 
+        return matchesAnyField(pattern, bibEntry);
+    }
+
+    /**
+     * Checks whether the pattern can be found in the latex free content of any field of the given entry
+     */
+    static boolean matchesAnyField(Pattern pattern, BibEntry bibEntry) {
         for (Field field : bibEntry.getFields()) {
             Optional<String> fieldOptional = bibEntry.getField(field);
             if (fieldOptional.isPresent()) {
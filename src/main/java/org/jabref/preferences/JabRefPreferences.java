@@ -66,6 +66,7 @@ import org.jabref.logic.bibtex.FieldWriterPreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.citationstyle.CitationStylePreviewLayout;
 import org.jabref.logic.cleanup.CleanupPreferences;
 import org.jabref.logic.cleanup.CleanupPreset;
@@ -337,6 +338,7 @@ public class JabRefPreferences implements PreferencesService {
     private static final String CYCLE_PREVIEW = "cyclePreview";
     private static final String PREVIEW_PANEL_HEIGHT = "previewPanelHeightFX";
     private static final String PREVIEW_AS_TAB = "previewAsTab";
+    private static final String CITATION_CACHE_SIZE = "citationCacheSize";
 
     // Proxy
     private static final String PROXY_PORT = "proxyPort";
@@ -668,6 +670,7 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(CYCLE_PREVIEW_POS, 0);
         defaults.put(PREVIEW_PANEL_HEIGHT, 0.65);
         defaults.put(PREVIEW_AS_TAB, Boolean.FALSE);
+        defaults.put(CITATION_CACHE_SIZE, CitationStyleCache.DEFAULT_CACHE_SIZE);
         defaults.put(PREVIEW_STYLE,
                 "<font face=\"sans-serif\">" +
                         "<b>\\bibtextype</b><a name=\"\\citationkey\">\\begin{citationkey} (\\citationkey)</a>\\end{citationkey}__NEWLINE__" +
@@ -2387,7 +2390,7 @@ public class JabRefPreferences implements PreferencesService {
             cyclePos = 0; // fallback if stored position is no longer valid
         }
 
-        this.previewPreferences = new PreviewPreferences(layouts, cyclePos, panelHeight, style, styleDefault, showAsTab);
+        this.previewPreferences = new PreviewPreferences(layouts, cyclePos, panelHeight, style, styleDefault, showAsTab, getInt(CITATION_CACHE_SIZE));
     }
 
     @Override
@@ -2405,6 +2408,7 @@ public class JabRefPreferences implements PreferencesService {
         putDouble(PREVIEW_PANEL_HEIGHT, preferences.getPreviewPanelDividerPosition().doubleValue());
         put(PREVIEW_STYLE, preferences.getPreviewStyle());
         putBoolean(PREVIEW_AS_TAB, preferences.showPreviewAsExtraTab());
+        putInt(CITATION_CACHE_SIZE, preferences.getCitationCacheSize());
 
         updatePreviewPreferences();
     }
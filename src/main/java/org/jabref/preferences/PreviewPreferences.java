@@ -15,14 +15,16 @@ public class PreviewPreferences {
     private final String previewStyle;
     private final String previewStyleDefault;
     private final boolean showPreviewAsExtraTab;
+    private final int citationCacheSize;
 
-    public PreviewPreferences(List<PreviewLayout> previewCycle, int previewCyclePosition, Number previewPanelDividerPosition, String previewStyle, String previewStyleDefault, boolean showPreviewAsExtraTab) {
+    public PreviewPreferences(List<PreviewLayout> previewCycle, int previewCyclePosition, Number previewPanelDividerPosition, String previewStyle, String previewStyleDefault, boolean showPreviewAsExtraTab, int citationCacheSize) {
         this.previewCycle = previewCycle;
         this.previewCyclePosition = previewCyclePosition;
         this.previewPanelDividerPosition = previewPanelDividerPosition;
         this.previewStyle = previewStyle;
         this.previewStyleDefault = previewStyleDefault;
         this.showPreviewAsExtraTab = showPreviewAsExtraTab;
+        this.citationCacheSize = citationCacheSize;
     }
 
     public List<PreviewLayout> getPreviewCycle() {
@@ -65,6 +67,13 @@ public class PreviewPreferences {
         return showPreviewAsExtraTab;
     }
 
+    /**
+     * Returns the number of rendered previews kept in memory per library
+     */
+    public int getCitationCacheSize() {
+        return citationCacheSize;
+    }
+
     public static class Builder {
 
         private boolean showPreviewAsExtraTab;
@@ -73,6 +82,7 @@ public class PreviewPreferences {
         private Number previewPanelDividerPosition;
         private String previewStyle;
         private final String previewStyleDefault;
+        private final int citationCacheSize;
 
         public Builder(PreviewPreferences previewPreferences) {
             this.previewCycle = previewPreferences.getPreviewCycle();
@@ -81,6 +91,7 @@ public class PreviewPreferences {
             this.previewStyle = previewPreferences.getPreviewStyle();
             this.previewStyleDefault = previewPreferences.getDefaultPreviewStyle();
             this.showPreviewAsExtraTab = previewPreferences.showPreviewAsExtraTab();
+            this.citationCacheSize = previewPreferences.getCitationCacheSize();
         }
 
         public Builder withShowAsExtraTab(boolean showAsExtraTab) {
@@ -117,7 +128,7 @@ public class PreviewPreferences {
         }
 
         public PreviewPreferences build() {
-            return new PreviewPreferences(previewCycle, previewCyclePosition, previewPanelDividerPosition, previewStyle, previewStyleDefault, showPreviewAsExtraTab);
+            return new PreviewPreferences(previewCycle, previewCyclePosition, previewPanelDividerPosition, previewStyle, previewStyleDefault, showPreviewAsExtraTab, citationCacheSize);
         }
     }
 }
@@ -139,6 +139,16 @@ class FieldValueSuggestionProviderTest {
         assertEquals(Arrays.asList("testValueOne", "testValueTwo"), result);
     }
 
+    @Test
+    void completeReturnsMoreFrequentResultsFirst() {
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "testValueOne"));
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "testValueTwo"));
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "testValueTwo"));
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest(("testValue")));
+        assertEquals(Arrays.asList("testValueTwo", "testValueOne"), result);
+    }
+
     @Test
     void completeShortStringReturnsFieldValue() {
         BibEntry entry = new BibEntry();
@@ -0,0 +1,107 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Value of a value"));
+        index = SuggestionIndex.forWords(StandardField.TITLE, database);
+    }
+
+    private List<String> getMatches(String text) {
+        return index.getMatches(text).collect(Collectors.toList());
+    }
+
+    @Test
+    void candidatesStartingWithTextComeFirst() {
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "lukewarm unclear"));
+
+        List<String> matches = getMatches("lu");
+
+        assertEquals(3, matches.size());
+        assertEquals("lukewarm", matches.get(0));
+        assertEquals(List.of("Value", "value"), matches.subList(1, 3).stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void eachCandidateIsReturnedOnce() {
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "value"));
+
+        assertEquals(List.of("Value", "value"), getMatches("VAL").stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void changedFieldIsReindexed() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "first");
+        database.insertEntry(entry);
+        getMatches("fir");
+
+        entry.setField(StandardField.TITLE, "second");
+
+        assertEquals(List.of(), getMatches("fir"));
+        assertEquals(List.of("second"), getMatches("sec"));
+    }
+
+    @Test
+    void candidateIsKeptWhileOtherEntryContainsIt() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "value");
+        database.insertEntry(entry);
+        getMatches("val");
+
+        database.removeEntry(entry);
+
+        assertEquals(List.of("Value", "value"), getMatches("val").stream().sorted().collect(Collectors.toList()));
+        database.removeEntry(database.getEntries().get(0));
+        assertEquals(List.of(), getMatches("val"));
+    }
+
+    @Test
+    void frequentCandidatesComeFirst() {
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "valid value"));
+
+        assertEquals(List.of("value", "valid", "Value"), getMatches("val"));
+    }
+
+    @Test
+    void longInfixIsFound() {
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "lukewarm"));
+
+        assertEquals(List.of("lukewarm"), getMatches("ewar"));
+        assertEquals(List.of(), getMatches("ewaz"));
+    }
+
+    @Test
+    void infixOfRemovedCandidateIsForgotten() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "lukewarm");
+        database.insertEntry(entry);
+        getMatches("kew");
+
+        database.removeEntry(entry);
+
+        assertEquals(List.of(), getMatches("kew"));
+        assertEquals(List.of(), getMatches("kewarm"));
+    }
+
+    @Test
+    void otherFieldsAreIgnored() {
+        database.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Valerius"));
+
+        assertEquals(List.of(), getMatches("valer"));
+    }
+}
@@ -0,0 +1,45 @@
+package org.jabref.gui.maintable;
+
+import java.util.Map;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibEntryTableViewModelTest {
+
+    private final BibEntry entry = new BibEntry().withField(StandardField.DOI, "10.1000/182");
+    private final BibEntryTableViewModel viewModel = new BibEntryTableViewModel(entry, new BibDatabaseContext(), new SimpleObjectProperty<>());
+
+    @Test
+    void valueIsKeptUntilInvalidated() {
+        ObservableValue<Map<Field, String>> identifiers = viewModel.getLinkedIdentifiers();
+        assertEquals(Map.of(StandardField.DOI, "10.1000/182"), identifiers.getValue());
+
+        entry.setField(StandardField.URL, "https://www.doi.org");
+        assertEquals(Map.of(StandardField.DOI, "10.1000/182"), identifiers.getValue());
+
+        viewModel.invalidateValues();
+        assertEquals(Map.of(StandardField.DOI, "10.1000/182", StandardField.URL, "https://www.doi.org"), identifiers.getValue());
+    }
+
+    @Test
+    void invalidationNotifiesListeners() {
+        ObservableValue<Map<Field, String>> identifiers = viewModel.getLinkedIdentifiers();
+        int[] invalidations = new int[1];
+        identifiers.addListener(observable -> invalidations[0]++);
+        identifiers.getValue();
+
+        viewModel.invalidateValues();
+
+        assertEquals(1, invalidations[0]);
+    }
+}
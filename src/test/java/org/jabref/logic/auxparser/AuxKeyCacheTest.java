@@ -0,0 +1,91 @@
+package org.jabref.logic.auxparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuxKeyCacheTest {
+
+    private final AuxKeyCache cache = new AuxKeyCache();
+    private final AtomicInteger notifications = new AtomicInteger();
+    // The cache only holds listeners weakly
+    private final FileUpdateListener listener = notifications::incrementAndGet;
+    private Path mainFile;
+    private Path chapterFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path directory) throws IOException {
+        mainFile = directory.resolve("main.aux");
+        chapterFile = directory.resolve("chapter.aux");
+        Files.writeString(mainFile, "\\relax\n\\citation{Darwin1888,Einstein1920}\n\\@input{chapter.aux}\n");
+        Files.writeString(chapterFile, "\\citation{Newton1687}\n");
+    }
+
+    @Test
+    void keysOfIncludedFilesAreReturned() {
+        assertEquals(Set.of("Darwin1888", "Einstein1920", "Newton1687"), cache.getKeys(mainFile));
+    }
+
+    @Test
+    void changedIncludedFileIsReadAgain() throws IOException {
+        cache.getKeys(mainFile);
+
+        Files.writeString(chapterFile, "\\citation{Newton1687, Leibniz1684}\n");
+
+        assertEquals(Set.of("Darwin1888", "Einstein1920", "Newton1687", "Leibniz1684"), cache.getKeys(mainFile));
+    }
+
+    @Test
+    void listenersAreNotifiedWhenIncludedFileChanges() throws IOException {
+        RecordingFileUpdateMonitor monitor = new RecordingFileUpdateMonitor();
+        cache.addListener(mainFile, listener);
+        cache.watch(mainFile, monitor);
+        cache.getKeys(mainFile);
+
+        monitor.listeners.get(chapterFile.toAbsolutePath().normalize()).fileUpdated();
+
+        assertEquals(1, notifications.get());
+    }
+
+    private static class RecordingFileUpdateMonitor implements FileUpdateMonitor {
+
+        private final Map<Path, FileUpdateListener> listeners = new HashMap<>();
+
+        @Override
+        public void addListenerForFile(Path file, FileUpdateListener listener) {
+            listeners.put(file, listener);
+        }
+
+        @Override
+        public void addListenerForDirectory(Path directory, FileUpdateListener listener) {
+            listeners.put(directory, listener);
+        }
+
+        @Override
+        public void removeListener(Path path, FileUpdateListener listener) {
+            listeners.remove(path);
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
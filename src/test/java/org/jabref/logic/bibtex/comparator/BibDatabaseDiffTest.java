@@ -88,4 +88,52 @@ class BibDatabaseDiffTest {
         assertEquals(entryThree, diff.getEntryDifferences().get(2).getNewEntry(), "there is another value as newEntry [2]");
         assertNull(diff.getEntryDifferences().get(2).getOriginalEntry(), "originalEntry is not null [2]");
     }
+
+    @Test
+    void compareOfReorderedEntriesReportsNoDifferences() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "another test");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Arrays.asList(entryOne, entryTwo)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList((BibEntry) entryTwo.clone(), (BibEntry) entryOne.clone())));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(Collections.emptyList(), diff.getEntryDifferences());
+    }
+
+    @Test
+    void compareOfChangedEntryWithSameCitationKeyReportsChange() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("key").withField(StandardField.TITLE, "test");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("key").withField(StandardField.TITLE, "another test");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size(), "incorrect amount of different entries");
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry(), "there is another value as originalEntry");
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry(), "there is another value as newEntry");
+    }
+
+    @Test
+    void compareOfSimilarEntryWithChangedCitationKeyReportsChange() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE)
+                .withCitationKey("oldKey")
+                .withField(StandardField.TITLE, "test")
+                .withField(StandardField.AUTHOR, "author")
+                .withField(StandardField.YEAR, "2020");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE)
+                .withCitationKey("newKey")
+                .withField(StandardField.TITLE, "test")
+                .withField(StandardField.AUTHOR, "author")
+                .withField(StandardField.YEAR, "2020");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size(), "incorrect amount of different entries");
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry(), "there is another value as originalEntry");
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry(), "there is another value as newEntry");
+    }
 }
@@ -0,0 +1,50 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibEntrySorterTest {
+
+    private final List<FieldComparator> comparators = List.of(
+            new FieldComparator(StandardField.AUTHOR),
+            new FieldComparator(new OrFields(StandardField.YEAR), true),
+            new FieldComparator(InternalField.KEY_FIELD));
+
+    @Test
+    void sortsLikeComparatorStack() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            BibEntry entry = new BibEntry().withCitationKey("key" + (i % 7));
+            if (i % 5 != 0) {
+                entry.setField(StandardField.AUTHOR, "Author" + (i % 11) + " and Ötzi Ümlaut");
+            }
+            if (i % 3 != 0) {
+                entry.setField(StandardField.YEAR, "19" + (i % 13));
+            }
+            entries.add(entry);
+        }
+        List<BibEntry> expected = new ArrayList<>(entries);
+        expected.sort(new FieldComparatorStack<>(comparators));
+
+        assertEquals(expected, new BibEntrySorter(comparators).sort(entries));
+    }
+
+    @Test
+    void keepsOrderOfEqualEntries() {
+        // The titles are not compared, but distinguish the entries
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, "Knuth").withField(StandardField.TITLE, "C");
+        BibEntry second = new BibEntry().withField(StandardField.AUTHOR, "Knuth").withField(StandardField.TITLE, "A");
+        BibEntry third = new BibEntry().withField(StandardField.AUTHOR, "Knuth").withField(StandardField.TITLE, "B");
+
+        assertEquals(List.of(first, second, third), new BibEntrySorter(comparators).sort(List.of(first, second, third)));
+    }
+}
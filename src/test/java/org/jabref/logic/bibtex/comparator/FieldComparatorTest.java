@@ -201,6 +201,20 @@ public class FieldComparatorTest {
         assertEquals(1, comparator.compare(parsable, unparsable));
     }
 
+    @Test
+    public void compareUsesChangedFieldValue() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.AUTHOR);
+        BibEntry smaller = new BibEntry()
+                .withField(StandardField.AUTHOR, "Donald Knuth");
+        BibEntry bigger = new BibEntry()
+                .withField(StandardField.AUTHOR, "Leslie Lamport");
+        assertEquals(-1, Integer.signum(comparator.compare(smaller, bigger)));
+
+        smaller.setField(StandardField.AUTHOR, "Niklaus Wirth");
+
+        assertEquals(1, Integer.signum(comparator.compare(smaller, bigger)));
+    }
+
     @ParameterizedTest
     @MethodSource("provideArgumentsForNumericalComparison")
     public void compareNumericalValues(int comparisonResult, String id1, String id2, String errorMessage) {
@@ -0,0 +1,76 @@
+package org.jabref.logic.bst;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BstProgramTest {
+
+    private static final Path ABBRV = Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst");
+
+    private final List<BibEntry> entries = List.of(
+            new BibEntry(StandardEntryType.InProceedings)
+                    .withCitationKey("canh05")
+                    .withField(StandardField.AUTHOR, "Crowston, K. and Annabi, H. and Howison, J. and Masango, C.")
+                    .withField(StandardField.TITLE, "Effective work practices for floss development: A model and propositions")
+                    .withField(StandardField.BOOKTITLE, "Hawaii International Conference On System Sciences (HICSS)")
+                    .withField(StandardField.YEAR, "2005"),
+            new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("sartre")
+                    .withField(StandardField.AUTHOR, "Jean-Paul Sartre and Simone de Beauvoir")
+                    .withField(StandardField.TITLE, "{On} the {JabRef} way")
+                    .withField(StandardField.JOURNAL, "Journal of Things")
+                    .withField(StandardField.MONTH, "#may#")
+                    .withField(StandardField.PAGES, "1--10")
+                    .withField(StandardField.YEAR, "1950"),
+            new BibEntry(StandardEntryType.Book)
+                    .withCitationKey("knuth")
+                    .withField(StandardField.AUTHOR, "Donald E. Knuth")
+                    .withField(StandardField.TITLE, "The Art of Computer Programming")
+                    .withField(StandardField.PUBLISHER, "Addison-Wesley")
+                    .withField(StandardField.YEAR, "1968"));
+
+    @Test
+    void producesSameOutputAsVM() throws Exception {
+        String expected = new VM(new File(ABBRV.toString())).run(entries);
+
+        assertEquals(expected, BstProgram.parse(ABBRV).run(entries));
+    }
+
+    @Test
+    void canBeRunRepeatedly() throws Exception {
+        BstProgram program = BstProgram.parse(ABBRV);
+        String first = program.run(entries);
+
+        assertEquals(first, program.run(entries));
+        assertEquals(new VM(new File(ABBRV.toString())).run(entries.subList(1, 2)), program.run(entries.subList(1, 2)));
+    }
+
+    @Test
+    void executesFunctionsWithGlobalVariables() throws Exception {
+        BstProgram program = BstProgram.parse("INTEGERS { i } STRINGS { s } "
+                + "FUNCTION {test} { #0 'i := \"\" 's := "
+                + "{ i #3 < } { s \"x\" * 's := i #1 + 'i := } while$ "
+                + "s write$ i int.to.str$ write$ "
+                + "#5 #5 = { \"equal\" } { \"different\" } if$ write$ } "
+                + "EXECUTE {test}");
+
+        assertEquals("xxx3equal", program.run(List.of()));
+    }
+
+    @Test
+    void unknownIdentifierThrowsException() throws Exception {
+        BstProgram program = BstProgram.parse("FUNCTION {test} { unknown } EXECUTE {test}");
+
+        assertThrows(VMException.class, () -> program.run(List.of()));
+    }
+}
@@ -407,4 +407,12 @@ class BracketedPatternTest {
                 Arguments.of("2021", "[title:([auth:([YEAR])])]")
         );
     }
+
+    @Test
+    void compiledPatternCanBeExpandedRepeatedly() {
+        BracketedPattern.CompiledPattern compiledPattern = BracketedPattern.compile("\\[[volume]-\"[x]\"[year:lower]");
+
+        assertEquals("[14-\"[x]\"2003", compiledPattern.expand(bracket -> BracketedPattern.expandBrackets("[" + bracket + "]", ';', dbentry, database)));
+        assertEquals("[volume-\"[x]\"year:lower", compiledPattern.expand(bracket -> bracket));
+    }
 }
@@ -1,5 +1,6 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -500,4 +501,38 @@ class MakeLabelWithDatabaseTest {
         new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCitationKey());
     }
+
+    @Test
+    void generateKeysResolvesCollisionsInListOrder() {
+        BibEntry entry2 = new BibEntry().withField(StandardField.AUTHOR, "John Doe")
+                                        .withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry().withField(StandardField.AUTHOR, "Jane Doe")
+                                        .withField(StandardField.YEAR, "2016");
+        database.insertEntry(entry2);
+        database.insertEntry(entry3);
+
+        List<String> keys = new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateKeys(List.of(entry, entry2, entry3));
+
+        assertEquals(List.of("Doe2016", "Doe2016a", "Doe2016b"), keys);
+    }
+
+    @Test
+    void generateKeysKeepsKeysOfOtherEntries() {
+        BibEntry otherEntry = new BibEntry().withCitationKey("Doe2016");
+        database.insertEntry(otherEntry);
+        entry.setCitationKey("Doe2016a");
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry));
+
+        assertEquals(Optional.of("Doe2016a"), entry.getCitationKey());
+        assertEquals(Optional.of("Doe2016"), otherEntry.getCitationKey());
+    }
+
+    @Test
+    void generateKeysEqualsGenerateKeyForSingleEntry() {
+        bibtexKeyPattern.setDefaultValue("[auth:lower]_[title:abbr]");
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(bibtexKeyPattern, database, preferences);
+
+        assertEquals(List.of(keyGenerator.generateKey(entry)), keyGenerator.generateKeys(List.of(entry)));
+    }
 }
@@ -0,0 +1,77 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CSLAdapterPoolTest {
+
+    @Test
+    void adaptersAreCreatedLazily() {
+        CSLAdapterPool pool = new CSLAdapterPool(4);
+        assertEquals(0, pool.getNumberOfCreatedAdapters());
+    }
+
+    @Test
+    void releasedAdapterIsReused() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(1);
+        CSLAdapter adapter = pool.acquire("style", 1, TimeUnit.SECONDS).get();
+        pool.release(adapter);
+
+        assertSame(adapter, pool.acquire("other style", 1, TimeUnit.SECONDS).get());
+        assertEquals(1, pool.getNumberOfCreatedAdapters());
+    }
+
+    @Test
+    void concurrentlyUsedAdaptersAreDistinct() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(2);
+        CSLAdapter first = pool.acquire("style", 1, TimeUnit.SECONDS).get();
+        CSLAdapter second = pool.acquire("style", 1, TimeUnit.SECONDS).get();
+
+        assertNotSame(first, second);
+        assertEquals(2, pool.getNumberOfCreatedAdapters());
+    }
+
+    @Test
+    void acquireWaitsForReleasedAdapterIfPoolIsExhausted() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(1);
+        CSLAdapter adapter = pool.acquire("style", 1, TimeUnit.SECONDS).get();
+
+        Thread releasingThread = new Thread(() -> pool.release(adapter));
+        releasingThread.start();
+
+        assertSame(adapter, pool.acquire("style", 1, TimeUnit.SECONDS).get());
+        releasingThread.join();
+    }
+
+    @Test
+    void acquireGivesUpIfNoAdapterIsReleased() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(1);
+        pool.acquire("style", 1, TimeUnit.SECONDS);
+
+        assertEquals(Optional.empty(), pool.acquire("style", 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void leastRecentlyReleasedAdapterIsReusedForNewStyle() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(2);
+        CSLAdapter first = pool.acquire("style", 1, TimeUnit.SECONDS).get();
+        CSLAdapter second = pool.acquire("style", 1, TimeUnit.SECONDS).get();
+        pool.release(first);
+        pool.release(second);
+
+        // None of the adapters rendered a style yet, thus the least recently released one is handed out
+        assertSame(first, pool.acquire("other style", 1, TimeUnit.SECONDS).get());
+    }
+
+    @Test
+    void poolWithoutAdaptersIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CSLAdapterPool(0));
+    }
+}
@@ -0,0 +1,178 @@
+package org.jabref.logic.citationstyle;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.TextBasedPreviewLayout;
+import org.jabref.logic.preview.PreviewLayout;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CitationStyleCacheTest {
+
+    private BibDatabaseContext databaseContext;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry().withField(StandardField.TITLE, "Title");
+        databaseContext = new BibDatabaseContext(new BibDatabase());
+        databaseContext.getDatabase().insertEntry(entry);
+    }
+
+    @Test
+    void citationIsEmptyWithoutStyle() {
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+        assertEquals("", cache.getCitationFor(entry));
+    }
+
+    @Test
+    void citationIsRenderedOnlyOnce() {
+        CountingLayout layout = new CountingLayout("style");
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+        cache.setCitationStyle(layout);
+
+        assertEquals("style: Title", cache.getCitationFor(entry));
+        assertEquals("style: Title", cache.getCitationFor(entry));
+
+        assertEquals(1, layout.renderings);
+        assertEquals(1, cache.getStatistics().hitCount());
+        assertEquals(1, cache.getStatistics().missCount());
+    }
+
+    @Test
+    void changedEntryIsRenderedAgain() {
+        CountingLayout layout = new CountingLayout("style");
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+        cache.setCitationStyle(layout);
+
+        cache.getCitationFor(entry);
+        entry.setField(StandardField.TITLE, "Other title");
+
+        assertEquals("style: Other title", cache.getCitationFor(entry));
+        assertEquals(2, layout.renderings);
+    }
+
+    @Test
+    void switchingBackToStyleReusesCitations() {
+        CountingLayout firstLayout = new CountingLayout("first");
+        CountingLayout secondLayout = new CountingLayout("second");
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+
+        cache.setCitationStyle(firstLayout);
+        cache.getCitationFor(entry);
+        cache.setCitationStyle(secondLayout);
+        assertEquals("second: Title", cache.getCitationFor(entry));
+        cache.setCitationStyle(firstLayout);
+        assertEquals("first: Title", cache.getCitationFor(entry));
+
+        assertEquals(1, firstLayout.renderings);
+        assertEquals(1, secondLayout.renderings);
+    }
+
+    @Test
+    void editedCustomLayoutIsRenderedAgain() {
+        TextBasedPreviewLayout layout = new TextBasedPreviewLayout("\\title", mock(LayoutFormatterPreferences.class));
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+
+        assertEquals("Title", cache.getCitationFor(layout, entry));
+        layout.setText("Title: \\title");
+
+        assertEquals("Title: Title", cache.getCitationFor(layout, entry));
+    }
+
+    @Test
+    void changedStringIsRenderedAgain() {
+        BibtexString string = new BibtexString("name", "First");
+        databaseContext.getDatabase().addString(string);
+        entry.setField(StandardField.TITLE, "#name#");
+        CountingLayout layout = new CountingLayout("style");
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+
+        assertEquals("style: First", cache.getCitationFor(layout, entry));
+        string.setContent("Second");
+
+        assertEquals("style: Second", cache.getCitationFor(layout, entry));
+    }
+
+    @Test
+    void changedCrossrefEntryIsRenderedAgain() {
+        BibEntry parent = new BibEntry().withCitationKey("parent").withField(StandardField.BOOKTITLE, "First");
+        databaseContext.getDatabase().insertEntry(parent);
+        entry.setField(StandardField.CROSSREF, "parent");
+        CountingLayout layout = new CountingLayout("style");
+        CitationStyleCache cache = new CitationStyleCache(databaseContext);
+
+        cache.getCitationFor(layout, entry);
+        parent.setField(StandardField.BOOKTITLE, "Second");
+        cache.getCitationFor(layout, entry);
+
+        assertEquals(2, layout.renderings);
+    }
+
+    @Test
+    void persistentTierSurvivesNewCache(@TempDir Path tempDir) {
+        Path cacheFile = tempDir.resolve("citations.mv");
+        CountingLayout layout = new CountingLayout("style");
+        try (CitationStyleCache cache = new CitationStyleCache(databaseContext, 10, Optional.of(cacheFile))) {
+            cache.setCitationStyle(layout);
+            cache.getCitationFor(entry);
+        }
+
+        try (CitationStyleCache cache = new CitationStyleCache(databaseContext, 10, Optional.of(cacheFile))) {
+            cache.setCitationStyle(layout);
+            assertEquals("style: Title", cache.getCitationFor(entry));
+            assertEquals(1, cache.getPersistentHitCount());
+        }
+        assertEquals(1, layout.renderings);
+    }
+
+    @Test
+    void persistentTierCreatesMissingCacheDirectory(@TempDir Path tempDir) {
+        Path cacheFile = tempDir.resolve("cache").resolve("citations").resolve("citations.mv");
+        try (CitationStyleCache cache = new CitationStyleCache(databaseContext, 10, Optional.of(cacheFile))) {
+            cache.setCitationStyle(new CountingLayout("style"));
+            cache.getCitationFor(entry);
+        }
+        assertTrue(Files.exists(cacheFile));
+    }
+
+    private static class CountingLayout implements PreviewLayout {
+
+        private final String name;
+        private int renderings;
+
+        CountingLayout(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String generatePreview(BibEntry entry, BibDatabase database) {
+            renderings++;
+            return name + ": " + database.resolveForStrings(entry.getField(StandardField.TITLE).orElse(""));
+        }
+
+        @Override
+        public String getDisplayName() {
+            return name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
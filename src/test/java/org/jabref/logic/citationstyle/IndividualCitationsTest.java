@@ -0,0 +1,34 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndividualCitationsTest {
+
+    @Test
+    void parallelRenderingEqualsSequentialRendering() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Last" + i + ", First")
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withField(StandardField.YEAR, String.valueOf(2000 + i)));
+        }
+        String style = CitationStyle.getDefault().getSource();
+
+        List<String> expected = entries.stream()
+                                       .map(entry -> CitationStyleGenerator.generateCitation(entry, style, CitationStyleOutputFormat.TEXT))
+                                       .collect(Collectors.toList());
+
+        assertEquals(expected, CitationStyleGenerator.generateIndividualCitations(entries, style, CitationStyleOutputFormat.TEXT));
+    }
+}
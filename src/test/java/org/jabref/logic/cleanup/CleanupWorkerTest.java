@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
@@ -342,4 +343,95 @@ class CleanupWorkerTest {
         worker.cleanup(preset, entry);
         assertEquals(Optional.of("01"), entry.getField(StandardField.MONTH));
     }
+
+    @Test
+    void cleanupOfSeveralEntriesReturnsChangesInOrderOfEntries() {
+        CleanupPreset preset = new CleanupPreset(CleanupPreset.CleanupStep.CLEAN_UP_DOI);
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BibEntry().withField(StandardField.DOI, "http://dx.doi.org/10.1016/" + i));
+        }
+        AtomicInteger entriesDone = new AtomicInteger();
+
+        List<FieldChange> changes = worker.cleanup(preset, entries, (done, count) -> entriesDone.accumulateAndGet(done, Math::max)).getChanges();
+
+        assertEquals(100, changes.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(entries.get(i), changes.get(i).getEntry());
+            assertEquals(Optional.of("10.1016/" + i), entries.get(i).getField(StandardField.DOI));
+        }
+        assertEquals(100, entriesDone.get());
+    }
+
+    @Test
+    void cleanupOfSeveralEntriesRunsFileJobsInOrder(@TempDir Path bibFolder) throws IOException {
+        CleanupPreset preset = new CleanupPreset(EnumSet.of(CleanupPreset.CleanupStep.CLEAN_UP_UPGRADE_EXTERNAL_LINKS, CleanupPreset.CleanupStep.MOVE_PDF));
+
+        Path path = bibFolder.resolve("AnotherRandomlyNamedFolder");
+        Files.createDirectory(path);
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Path tempFile = Files.createFile(path.resolve("test" + i + ".pdf"));
+            entries.add(new BibEntry().withField(StandardField.PDF, tempFile.toAbsolutePath().toString()));
+        }
+
+        worker.cleanup(preset, entries, (done, count) -> { });
+
+        for (int i = 0; i < 3; i++) {
+            LinkedFile newFileField = new LinkedFile("test" + i + ".pdf", Path.of("test" + i + ".pdf"), "PDF");
+            assertEquals(Optional.empty(), entries.get(i).getField(StandardField.PDF));
+            assertEquals(Optional.of(FileFieldWriter.getStringRepresentation(newFileField)), entries.get(i).getField(StandardField.FILE));
+        }
+    }
+
+    @Test
+    void failedCleanupOfOneEntryKeepsChangesOfAllEntries() {
+        Formatter failingFormatter = new Formatter() {
+            @Override
+            public String getName() {
+                return "Failing";
+            }
+
+            @Override
+            public String getKey() {
+                return "failing";
+            }
+
+            @Override
+            public String format(String value) {
+                if ("fail".equals(value)) {
+                    throw new IllegalStateException("Formatter failed");
+                }
+                return value;
+            }
+
+            @Override
+            public String getDescription() {
+                return "Fails for the value 'fail'";
+            }
+
+            @Override
+            public String getExampleInput() {
+                return "fail";
+            }
+        };
+        CleanupPreset preset = new CleanupPreset(EnumSet.of(CleanupPreset.CleanupStep.CLEAN_UP_DOI),
+                new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.NOTE, failingFormatter))));
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entries.add(new BibEntry().withField(StandardField.DOI, "http://dx.doi.org/10.1016/" + i)
+                                      .withField(StandardField.NOTE, (i == 1) ? "fail" : "note"));
+        }
+        AtomicInteger entriesDone = new AtomicInteger();
+
+        CleanupResult result = worker.cleanup(preset, entries, (done, count) -> entriesDone.accumulateAndGet(done, Math::max));
+
+        // the DOI of the failed entry was cleaned up before its formatter failed
+        assertEquals(3, result.getChanges().size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(entries.get(i), result.getChanges().get(i).getEntry());
+        }
+        assertEquals(List.of(entries.get(1)), result.getFailedEntries());
+        assertEquals(3, entriesDone.get());
+    }
 }
@@ -0,0 +1,128 @@
+package org.jabref.logic.database;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateBlockingIndexTest {
+
+    private BibEntry simpleArticle;
+    private BibEntry unrelatedArticle;
+
+    @BeforeEach
+    void setUp() {
+        simpleArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        unrelatedArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+    }
+
+    @Test
+    void entriesWithSameTitleAreCandidates() {
+        BibEntry copy = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "S. Author")
+                .withField(StandardField.TITLE, "A Serious Paper about Something");
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(simpleArticle, unrelatedArticle));
+
+        assertEquals(List.of(simpleArticle), index.getCandidates(copy));
+    }
+
+    @Test
+    void entriesWithSameFirstAuthorAndYearAreCandidates() {
+        BibEntry otherTitle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author and Someone Else")
+                .withField(StandardField.TITLE, "Completely different wording")
+                .withField(StandardField.YEAR, "2017");
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(unrelatedArticle, simpleArticle));
+
+        assertEquals(List.of(simpleArticle), index.getCandidates(otherTitle));
+    }
+
+    @Test
+    void entriesWithSameDoiAreCandidatesRegardlessOfType() {
+        BibEntry article = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/XYZ");
+        BibEntry book = new BibEntry(StandardEntryType.Book).withField(StandardField.DOI, "https://doi.org/10.1000/xyz");
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(article, unrelatedArticle));
+
+        assertEquals(List.of(article), index.getCandidates(book));
+    }
+
+    @Test
+    void entriesOfDifferentTypeWithoutIdentifierAreNoCandidates() {
+        BibEntry book = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(simpleArticle));
+
+        assertEquals(Collections.emptyList(), index.getCandidates(book));
+    }
+
+    @Test
+    void entryIsNoCandidateOfItself() {
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(simpleArticle, unrelatedArticle));
+
+        assertEquals(Collections.emptyList(), index.getCandidates(simpleArticle));
+    }
+
+    @Test
+    void removedEntryIsNoCandidate() {
+        BibEntry copy = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A serious paper about something");
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(simpleArticle, unrelatedArticle));
+
+        index.remove(simpleArticle);
+
+        assertEquals(Collections.emptyList(), index.getCandidates(copy));
+    }
+
+    @Test
+    void candidatePairsAreOrderedAndUnique() {
+        BibEntry copy = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex(List.of(simpleArticle, unrelatedArticle, copy));
+
+        assertEquals(List.of(List.of(simpleArticle, copy)), index.getCandidatePairs());
+    }
+
+    @Test
+    void candidatePairsContainAllDuplicatesOfTheFullComparison() {
+        List<BibEntry> entries = List.of(
+                simpleArticle,
+                unrelatedArticle,
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Single Author")
+                        .withField(StandardField.TITLE, "A serious paper about somethin")
+                        .withField(StandardField.YEAR, "2017"),
+                new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Completely Different")
+                        .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallala")
+                        .withField(StandardField.YEAR, "1992"));
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        List<List<BibEntry>> candidatePairs = new DuplicateBlockingIndex(entries).getCandidatePairs();
+
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    assertTrue(candidatePairs.contains(List.of(entries.get(i), entries.get(j))));
+                }
+            }
+        }
+    }
+}
@@ -7,8 +7,7 @@ import java.util.List;
 
 import javafx.scene.paint.Color;
 
-import org.jabref.logic.auxparser.DefaultAuxParser;
-import org.jabref.model.database.BibDatabase;
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.groups.AllEntriesGroup;
 import org.jabref.model.groups.AutomaticGroup;
@@ -117,7 +116,7 @@ class GroupSerializerTest {
 
     @Test
     void serializeSingleTexGroup() throws Exception {
-        TexGroup group = TexGroup.createWithoutFileMonitoring("myTexGroup", GroupHierarchyType.INDEPENDENT, Path.of("path", "To", "File"), new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), new MetaData());
+        TexGroup group = TexGroup.createWithoutFileMonitoring("myTexGroup", GroupHierarchyType.INDEPENDENT, Path.of("path", "To", "File"), new AuxKeyCache(), new DummyFileUpdateMonitor(), new MetaData());
         List<String> serialization = groupSerializer.serializeTree(GroupTreeNode.fromGroup(group));
         assertEquals(Collections.singletonList("0 TexGroup:myTexGroup;0;path/To/File;1;;;;"), serialization);
     }
@@ -0,0 +1,129 @@
+package org.jabref.logic.exporter;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.util.OS;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    // More than two chunks of entries, see TemplateExporter#CHUNK_SIZE
+    private static final int ENTRY_COUNT = 2500;
+
+    private LayoutFormatterPreferences layoutPreferences;
+    private SavePreferences savePreferences;
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+    private Path layoutDirectory;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        layoutPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        savePreferences = mock(SavePreferences.class);
+        databaseContext = new BibDatabaseContext();
+        layoutDirectory = tempDir;
+
+        // The entries are exported in the order of their creation. Ten entries in a row share an author.
+        entries = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title " + i);
+            if ((i % 2) == 0) {
+                entry.setField(StandardField.AUTHOR, "Author " + (i / 10));
+            }
+            entries.add(entry);
+        }
+        databaseContext.getDatabase().insertEntries(entries);
+    }
+
+    @Test
+    void exportOfSeveralChunksEqualsSequentialExport() throws Exception {
+        String layoutText = "\\format[Number]{\\title}. \\title\n\\begin{author}\\author\\end{author}\n";
+
+        String exported = export("chunks", layoutText, BlankLineBehaviour.KEEP_BLANKS);
+
+        assertEquals(renderSequentially(layoutText), exported);
+    }
+
+    @Test
+    void exportWithGroupsEqualsSequentialExport() throws Exception {
+        String layoutText = "\\begingroup{author}== \\author ==\n\\endgroup{author}\\format[Number]{\\title}. \\title\n";
+
+        String exported = export("groups", layoutText, BlankLineBehaviour.KEEP_BLANKS);
+
+        assertEquals(renderSequentially(layoutText), exported);
+    }
+
+    @Test
+    void exportWithEscapingFormatterEqualsSequentialExport() throws Exception {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.get(i).setField(StandardField.NOTE, "Q&A <" + i + "> \"quoted\"");
+        }
+        String layoutText = "<note>\\format[XMLChars]{\\note}</note>\n";
+
+        String exported = export("escaping", layoutText, BlankLineBehaviour.KEEP_BLANKS);
+
+        assertEquals(renderSequentially(layoutText), exported);
+        assertFalse(exported.contains("Q&A"));
+    }
+
+    @Test
+    void exportDeletingBlankLinesOfSeveralChunks() throws Exception {
+        String layoutText = "\\format[Number]{\\title}. \\title\n\n\\begin{author}\\author\\end{author}\n";
+
+        String exported = export("blanks", layoutText, BlankLineBehaviour.DELETE_BLANKS);
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            expected.append(i + 1).append(". Title ").append(i).append(OS.NEWLINE);
+            if ((i % 2) == 0) {
+                expected.append("Author ").append(i / 10).append(OS.NEWLINE);
+            }
+        }
+        assertEquals(expected.toString(), exported);
+    }
+
+    private String export(String layoutName, String layoutText, BlankLineBehaviour blankLineBehaviour) throws Exception {
+        Files.writeString(layoutDirectory.resolve(layoutName + ".layout"), layoutText);
+        TemplateExporter exporter = new TemplateExporter("Test", "test", layoutDirectory.resolve(layoutName).toString(), null,
+                StandardFileType.TXT, layoutPreferences, savePreferences, blankLineBehaviour);
+        exporter.setCustomExport(true);
+
+        Path file = layoutDirectory.resolve(layoutName + ".txt");
+        exporter.export(databaseContext, file, StandardCharsets.UTF_8, entries);
+        return Files.readString(file);
+    }
+
+    /**
+     * Renders the entries in the order of the export one after another with a freshly parsed layout
+     */
+    private String renderSequentially(String layoutText) throws Exception {
+        Layout layout = new LayoutHelper(new StringReader(layoutText), layoutPreferences).getLayoutFromText();
+        List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sorted.size(); i++) {
+            builder.append(layout.doLayout(sorted.get(i), databaseContext.getDatabase(), i + 1));
+        }
+        return builder.toString();
+    }
+}
@@ -58,6 +58,17 @@ public class HtmlToLatexFormatterTest {
         assertEquals("{\\\"{a}}b", formatter.format("a&#x308;b"));
     }
 
+    @Test
+    public void testHTMLSuperscriptAndSubscript() {
+        assertEquals("x\\textsuperscript{2} and H\\textsubscript{2}O", formatter.format("x<sup>2</sup> and H<sub>2</sub>O"));
+        assertEquals("\\textsuperscript{$\\alpha$}", formatter.format("<sup>&alpha;</sup>"));
+    }
+
+    @Test
+    public void testHTMLMalformedEntitiesAreKept() {
+        assertEquals("a & b &#12ab; &unknown;", formatter.format("a & b &#12ab; &unknown;"));
+    }
+
     @Test
     public void formatExample() {
         assertEquals("JabRef", formatter.format(formatter.getExampleInput()));
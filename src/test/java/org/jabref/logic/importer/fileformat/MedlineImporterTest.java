@@ -1,9 +1,23 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -41,4 +55,34 @@ public class MedlineImporterTest {
     public void testGetDescription() {
         assertEquals("Importer for the Medline format.", importer.getDescription());
     }
+
+    @Test
+    public void importEntriesPassesArticlesInBatches() throws Exception {
+        String articles = List.of("1", "2", "3").stream()
+                              .map(pmid -> "<PubmedArticle><MedlineCitation Status=\"MEDLINE\"><PMID Version=\"1\">" + pmid + "</PMID></MedlineCitation></PubmedArticle>")
+                              .collect(Collectors.joining());
+        List<List<BibEntry>> batches = new ArrayList<>();
+
+        importer.importEntries(new BufferedReader(new StringReader("<PubmedArticleSet>" + articles + "</PubmedArticleSet>")), 2, batches::add);
+
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(List.of(Optional.of("1"), Optional.of("2"), Optional.of("3")),
+                batches.stream().flatMap(List::stream).map(entry -> entry.getField(StandardField.PMID)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void importDatabaseReportsEntriesRead(@TempDir Path tempDir) throws Exception {
+        String articles = List.of("1", "2", "3").stream()
+                              .map(pmid -> "<PubmedArticle><MedlineCitation Status=\"MEDLINE\"><PMID Version=\"1\">" + pmid + "</PMID></MedlineCitation></PubmedArticle>")
+                              .collect(Collectors.joining());
+        Path file = tempDir.resolve("articles.xml");
+        Files.writeString(file, "<PubmedArticleSet>" + articles + "</PubmedArticleSet>");
+        List<Integer> progress = new ArrayList<>();
+
+        ParserResult result = importer.importDatabase(file, StandardCharsets.UTF_8, progress::add);
+
+        assertEquals(3, result.getDatabase().getEntryCount());
+        assertEquals(Optional.of(file.toFile()), result.getFile());
+        assertEquals(List.of(3), progress);
+    }
 }
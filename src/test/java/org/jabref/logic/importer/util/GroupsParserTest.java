@@ -6,9 +6,8 @@ import java.util.List;
 
 import javafx.scene.paint.Color;
 
-import org.jabref.logic.auxparser.DefaultAuxParser;
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.importer.ParseException;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticGroup;
@@ -30,11 +29,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GroupsParserTest {
     private FileUpdateMonitor fileMonitor;
+    private AuxKeyCache auxKeyCache;
     private MetaData metaData;
 
     @BeforeEach
     void setUp() throws Exception {
         fileMonitor = new DummyFileUpdateMonitor();
+        auxKeyCache = new AuxKeyCache();
         metaData = new MetaData();
     }
 
@@ -42,7 +43,7 @@ class GroupsParserTest {
     // For https://github.com/JabRef/jabref/issues/1681
     void fromStringParsesExplicitGroupWithEscapedCharacterInName() throws Exception {
         ExplicitGroup expected = new ExplicitGroup("B{\\\"{o}}hmer", GroupHierarchyType.INDEPENDENT, ',');
-        AbstractGroup parsed = GroupsParser.fromString("ExplicitGroup:B{\\\\\"{o}}hmer;0;", ',', fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("ExplicitGroup:B{\\\\\"{o}}hmer;0;", ',', fileMonitor, auxKeyCache, metaData);
 
         assertEquals(expected, parsed);
     }
@@ -50,20 +51,20 @@ class GroupsParserTest {
     @Test
     void keywordDelimiterThatNeedsToBeEscaped() throws Exception {
         AutomaticGroup expected = new AutomaticKeywordGroup("group1", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ';', '>');
-        AbstractGroup parsed = GroupsParser.fromString("AutomaticKeywordGroup:group1;0;keywords;\\;;>;1;;;;;", ';', fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("AutomaticKeywordGroup:group1;0;keywords;\\;;>;1;;;;;", ';', fileMonitor, auxKeyCache, metaData);
         assertEquals(expected, parsed);
     }
 
     @Test
     void hierarchicalDelimiterThatNeedsToBeEscaped() throws Exception {
         AutomaticGroup expected = new AutomaticKeywordGroup("group1", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', ';');
-        AbstractGroup parsed = GroupsParser.fromString("AutomaticKeywordGroup:group1;0;keywords;,;\\;;1;;;;;", ';', fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("AutomaticKeywordGroup:group1;0;keywords;,;\\;;1;;;;;", ';', fileMonitor, auxKeyCache, metaData);
         assertEquals(expected, parsed);
     }
 
     @Test
     void fromStringThrowsParseExceptionForNotEscapedGroupName() throws Exception {
-        assertThrows(ParseException.class, () -> GroupsParser.fromString("ExplicitGroup:slit\\\\;0\\;mertsch_slit2_2007\\;;", ',', fileMonitor, metaData));
+        assertThrows(ParseException.class, () -> GroupsParser.fromString("ExplicitGroup:slit\\\\;0\\;mertsch_slit2_2007\\;;", ',', fileMonitor, auxKeyCache, metaData));
     }
 
     @Test
@@ -89,7 +90,7 @@ class GroupsParserTest {
         AbstractGroup thirdSubGrpLvl1 = new ExplicitGroup("3", GroupHierarchyType.INDEPENDENT, ',');
         rootNode.addSubgroup(thirdSubGrpLvl1);
 
-        GroupTreeNode parsedNode = GroupsParser.importGroups(orderedData, ',', fileMonitor, metaData);
+        GroupTreeNode parsedNode = GroupsParser.importGroups(orderedData, ',', fileMonitor, auxKeyCache, metaData);
         assertEquals(rootNode.getChildren(), parsedNode.getChildren());
     }
 
@@ -100,7 +101,7 @@ class GroupsParserTest {
         expected.setExpanded(true);
         expected.setColor(Color.ALICEBLUE);
         expected.setDescription("test description");
-        AbstractGroup parsed = GroupsParser.fromString("StaticGroup:myExplicitGroup;0;1;0xf0f8ffff;test icon;test description;", ',', fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("StaticGroup:myExplicitGroup;0;1;0xf0f8ffff;test icon;test description;", ',', fileMonitor, auxKeyCache, metaData);
 
         assertEquals(expected, parsed);
     }
@@ -108,26 +109,26 @@ class GroupsParserTest {
     @Test
     void fromStringParsesAutomaticKeywordGroup() throws Exception {
         AutomaticGroup expected = new AutomaticKeywordGroup("myAutomaticGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
-        AbstractGroup parsed = GroupsParser.fromString("AutomaticKeywordGroup:myAutomaticGroup;0;keywords;,;>;1;;;;", ',', fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("AutomaticKeywordGroup:myAutomaticGroup;0;keywords;,;>;1;;;;", ',', fileMonitor, auxKeyCache, metaData);
         assertEquals(expected, parsed);
     }
 
     @Test
     void fromStringParsesAutomaticPersonGroup() throws Exception {
         AutomaticPersonsGroup expected = new AutomaticPersonsGroup("myAutomaticGroup", GroupHierarchyType.INDEPENDENT, StandardField.AUTHOR);
-        AbstractGroup parsed = GroupsParser.fromString("AutomaticPersonsGroup:myAutomaticGroup;0;author;1;;;;", ',', fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("AutomaticPersonsGroup:myAutomaticGroup;0;author;1;;;;", ',', fileMonitor, auxKeyCache, metaData);
         assertEquals(expected, parsed);
     }
 
     @Test
     void fromStringParsesTexGroup() throws Exception {
-        TexGroup expected = TexGroup.createWithoutFileMonitoring("myTexGroup", GroupHierarchyType.INDEPENDENT, Path.of("path", "To", "File"), new DefaultAuxParser(new BibDatabase()), fileMonitor, metaData);
-        AbstractGroup parsed = GroupsParser.fromString("TexGroup:myTexGroup;0;path/To/File;1;;;;", ',', fileMonitor, metaData);
+        TexGroup expected = TexGroup.createWithoutFileMonitoring("myTexGroup", GroupHierarchyType.INDEPENDENT, Path.of("path", "To", "File"), auxKeyCache, fileMonitor, metaData);
+        AbstractGroup parsed = GroupsParser.fromString("TexGroup:myTexGroup;0;path/To/File;1;;;;", ',', fileMonitor, auxKeyCache, metaData);
         assertEquals(expected, parsed);
     }
 
     @Test
     void fromStringUnknownGroupThrowsException() throws Exception {
-        assertThrows(ParseException.class, () -> GroupsParser.fromString("0 UnknownGroup:myUnknownGroup;0;;1;;;;", ',', fileMonitor, metaData));
+        assertThrows(ParseException.class, () -> GroupsParser.fromString("0 UnknownGroup:myUnknownGroup;0;;1;;;;", ',', fileMonitor, auxKeyCache, metaData));
     }
 }
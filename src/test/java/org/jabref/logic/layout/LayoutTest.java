@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -166,4 +168,25 @@ class LayoutTest {
 
         assertEquals("JoeDoe and MaryJ", layoutText);
     }
+
+    @Test
+    void numberFormatterOutputsGivenEntryNumber() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "test");
+        Layout layout = new LayoutHelper(new StringReader("[\\format[Number]{\\author}] \\author"), layoutFormatterPreferences)
+                .getLayoutFromText();
+
+        assertEquals("[42] test", layout.doLayout(entry, null, 42));
+        assertEquals("[7] test", layout.doLayout(entry, null, 7));
+    }
+
+    @Test
+    void layoutWithGroupDependsOnPreviousEntry() throws IOException {
+        Layout groupLayout = new LayoutHelper(new StringReader("\\begingroup{author}\\author\\endgroup{author} \\title"), layoutFormatterPreferences)
+                .getLayoutFromText();
+        Layout fieldLayout = new LayoutHelper(new StringReader("\\begin{author}\\author\\end{author} \\title"), layoutFormatterPreferences)
+                .getLayoutFromText();
+
+        assertTrue(groupLayout.dependsOnPreviousEntry());
+        assertFalse(fieldLayout.dependsOnPreviousEntry());
+    }
 }
@@ -0,0 +1,180 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingAnnotationImporterTest {
+
+    private static final FileAnnotation NOTE = new FileAnnotation("Linus", LocalDateTime.of(2020, 1, 2, 3, 4, 5), 1,
+            "A note", FileAnnotationType.TEXT, Optional.empty());
+    private static final FileAnnotation HIGHLIGHT = new FileAnnotation("Linus", LocalDateTime.of(2020, 1, 2, 3, 4, 5), 2,
+            "Highlighted text", FileAnnotationType.HIGHLIGHT, Optional.of(NOTE));
+
+    private static final Instant NOW = Instant.parse("2021-03-04T05:06:07Z");
+
+    private CountingImporter countingImporter;
+    private Path pdf;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        countingImporter = new CountingImporter();
+        pdf = tempDir.resolve("paper.pdf");
+        Files.writeString(pdf, "first version");
+    }
+
+    @Test
+    void fileIsImportedOnlyOnce() {
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.empty());
+
+        assertEquals(List.of(HIGHLIGHT), importer.importAnnotations(pdf));
+        assertEquals(List.of(HIGHLIGHT), importer.importAnnotations(pdf));
+        assertEquals(1, countingImporter.imports);
+    }
+
+    @Test
+    void changedFileIsImportedAgain() throws Exception {
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.empty());
+        importer.importAnnotations(pdf);
+
+        Files.writeString(pdf, "second, longer version");
+        importer.importAnnotations(pdf);
+
+        assertEquals(2, countingImporter.imports);
+    }
+
+    @Test
+    void invalidatedFileIsImportedAgain() {
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.empty());
+        importer.importAnnotations(pdf);
+
+        importer.invalidate(pdf);
+        importer.importAnnotations(pdf);
+
+        assertEquals(2, countingImporter.imports);
+    }
+
+    @Test
+    void annotationsArePersistedAcrossInstances(@TempDir Path cacheDir) {
+        Path cacheFile = cacheDir.resolve("annotations.mv");
+        try (CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.of(cacheFile))) {
+            importer.importAnnotations(pdf);
+        }
+
+        try (CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.of(cacheFile))) {
+            assertEquals(List.of(HIGHLIGHT), importer.importAnnotations(pdf));
+            assertEquals(0, importer.getImportedFileCount());
+        }
+        assertEquals(1, countingImporter.imports);
+    }
+
+    @Test
+    void missingFileIsNotCached() {
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.empty());
+        Path missingFile = pdf.resolveSibling("missing.pdf");
+
+        importer.importAnnotations(missingFile);
+        importer.importAnnotations(missingFile);
+
+        assertEquals(2, countingImporter.imports);
+    }
+
+    @Test
+    void failedImportIsNotCached(@TempDir Path cacheDir) {
+        Path cacheFile = cacheDir.resolve("annotations.mv");
+        countingImporter.failures = 1;
+        try (CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.of(cacheFile))) {
+            assertEquals(Optional.empty(), importer.tryImportAnnotations(pdf));
+            assertEquals(List.of(HIGHLIGHT), importer.importAnnotations(pdf));
+        }
+
+        try (CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.of(cacheFile))) {
+            assertEquals(List.of(HIGHLIGHT), importer.importAnnotations(pdf));
+        }
+        assertEquals(2, countingImporter.imports);
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreRemovedWhenStoreOpens(@TempDir Path cacheDir) throws Exception {
+        Path cacheFile = cacheDir.resolve("annotations.mv");
+        Path otherPdf = pdf.resolveSibling("other.pdf");
+        Files.writeString(otherPdf, "other paper");
+        try (CachingAnnotationImporter importer = createPersistentImporter(cacheFile, 2, NOW)) {
+            importer.importAnnotations(pdf);
+        }
+        try (CachingAnnotationImporter importer = createPersistentImporter(cacheFile, 2, NOW.plusSeconds(1))) {
+            importer.importAnnotations(otherPdf);
+        }
+
+        try (CachingAnnotationImporter importer = createPersistentImporter(cacheFile, 1, NOW.plusSeconds(2))) {
+            importer.importAnnotations(otherPdf);
+            assertEquals(0, importer.getImportedFileCount());
+            importer.importAnnotations(pdf);
+            assertEquals(1, importer.getImportedFileCount());
+        }
+    }
+
+    @Test
+    void unusedEntriesAreRemovedWhenStoreOpens(@TempDir Path cacheDir) {
+        Path cacheFile = cacheDir.resolve("annotations.mv");
+        try (CachingAnnotationImporter importer = createPersistentImporter(cacheFile, 2, NOW)) {
+            importer.importAnnotations(pdf);
+        }
+
+        Instant later = NOW.plus(CachingAnnotationImporter.MAX_PERSISTENT_AGE).plus(Duration.ofDays(1));
+        try (CachingAnnotationImporter importer = createPersistentImporter(cacheFile, 2, later)) {
+            importer.importAnnotations(pdf);
+            assertEquals(1, importer.getImportedFileCount());
+        }
+    }
+
+    @Test
+    void failedImportReturnsEmptyList() {
+        countingImporter.failures = 1;
+        CachingAnnotationImporter importer = new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.empty());
+
+        assertEquals(List.of(), importer.importAnnotations(pdf));
+    }
+
+    private CachingAnnotationImporter createPersistentImporter(Path cacheFile, int maxPersistentEntries, Instant now) {
+        return new CachingAnnotationImporter(countingImporter, CachingAnnotationImporter.DEFAULT_MEMORY_SIZE_IN_BYTES, Optional.of(cacheFile),
+                maxPersistentEntries, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static class CountingImporter implements AnnotationImporter {
+
+        private int imports;
+        // the number of imports which fail before the file can be read
+        private int failures;
+
+        @Override
+        public List<FileAnnotation> importAnnotations(Path path) {
+            return tryImportAnnotations(path).orElse(List.of());
+        }
+
+        @Override
+        public Optional<List<FileAnnotation>> tryImportAnnotations(Path path) {
+            imports++;
+            if (failures > 0) {
+                failures--;
+                return Optional.empty();
+            }
+            return Optional.of(List.of(HIGHLIGHT));
+        }
+    }
+}
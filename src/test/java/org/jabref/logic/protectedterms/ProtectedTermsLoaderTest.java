@@ -17,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProtectedTermsLoaderTest {
@@ -215,4 +216,17 @@ class ProtectedTermsLoaderTest {
                 tempDir.toFile().getAbsolutePath());
         assertEquals("My new list", newList.getDescription());
     }
+
+    @Test
+    void protectedTermsMatcherIsReusedUntilListsChange() throws URISyntaxException {
+        ProtectedTermsMatcher matcher = loader.getProtectedTermsMatcher();
+        assertSame(matcher, loader.getProtectedTermsMatcher());
+
+        String filename = Path.of(
+                ProtectedTermsLoader.class.getResource("/org/jabref/logic/protectedterms/namedterms.terms").toURI())
+                              .toFile().getPath();
+        loader.addProtectedTermsListFromFile(filename, true);
+
+        assertEquals("{Einstein}", loader.getProtectedTermsMatcher().protectTerms("Einstein"));
+    }
 }
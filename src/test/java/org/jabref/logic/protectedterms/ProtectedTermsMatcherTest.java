@@ -0,0 +1,42 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtectedTermsMatcherTest {
+
+    private final ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("3G", "3GPP", "VLSI", "C++", "Long Term Evolution", "Term"));
+
+    @Test
+    void protectsLongestTerm() {
+        assertEquals("{3GPP} {3G}", matcher.protectTerms("3GPP 3G"));
+    }
+
+    @Test
+    void protectsRepeatedTerms() {
+        assertEquals("{VLSI} {VLSI}-{VLSI}", matcher.protectTerms("VLSI VLSI-VLSI"));
+    }
+
+    @Test
+    void doesNotProtectTermsWithinWords() {
+        assertEquals("AVLSI VLSIs", matcher.protectTerms("AVLSI VLSIs"));
+    }
+
+    @Test
+    void doesNotProtectTermsWithinProtectedTerms() {
+        assertEquals("{Long Term Evolution} and {Term}", matcher.protectTerms("Long Term Evolution and Term"));
+    }
+
+    @Test
+    void matchesTermsLiterally() {
+        assertEquals("{C++} and CXX", matcher.protectTerms("C++ and CXX"));
+    }
+
+    @Test
+    void keepsTextWithoutTerms() {
+        assertEquals("No terms here", matcher.protectTerms("No terms here"));
+    }
+}
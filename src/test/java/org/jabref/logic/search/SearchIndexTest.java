@@ -0,0 +1,149 @@
+package org.jabref.logic.search;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private BibDatabase database;
+    private SearchIndex searchIndex;
+    private BibEntry knuth;
+    private BibEntry lamport;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        knuth = new BibEntry()
+                .withField(StandardField.AUTHOR, "Donald E. Knuth")
+                .withField(StandardField.TITLE, "The {TeX}book");
+        lamport = new BibEntry()
+                .withField(StandardField.AUTHOR, "Leslie Lamport")
+                .withField(StandardField.TITLE, "{LaTeX}: A Document Preparation System");
+        database.insertEntries(knuth, lamport);
+        searchIndex = new SearchIndex(database);
+    }
+
+    @Test
+    void searchFindsSubstringOfWord() {
+        assertEquals(List.of(knuth), searchIndex.search(new SearchQuery("nut", false, false)));
+    }
+
+    @Test
+    void searchRequiresAllWords() {
+        assertEquals(List.of(lamport), searchIndex.search(new SearchQuery("lamport document", false, false)));
+        assertEquals(Collections.emptyList(), searchIndex.search(new SearchQuery("knuth document", false, false)));
+    }
+
+    @Test
+    void searchFindsPhraseSpanningWords() {
+        assertEquals(List.of(lamport), searchIndex.search(new SearchQuery("\"ment prep\"", false, false)));
+    }
+
+    @Test
+    void searchUsesLatexFreeContent() {
+        assertEquals(List.of(knuth), searchIndex.search(new SearchQuery("texbook", false, false)));
+    }
+
+    @Test
+    void caseSensitiveSearchChecksCandidates() {
+        assertEquals(List.of(knuth), searchIndex.search(new SearchQuery("Knuth", true, false)));
+        assertEquals(Collections.emptyList(), searchIndex.search(new SearchQuery("knuth", true, false)));
+    }
+
+    @Test
+    void candidatesAreRestrictedForSimpleQuery() {
+        Optional<Set<BibEntry>> candidates = searchIndex.getCandidates(new SearchQuery("knuth", false, false));
+
+        assertTrue(candidates.isPresent());
+        assertEquals(Set.of(knuth), candidates.get());
+    }
+
+    @Test
+    void grammarBasedSearchUsesIndex() {
+        SearchQuery query = new SearchQuery("author = knuth or title = latex", false, false);
+
+        assertEquals(Optional.of(Set.of(knuth, lamport)), searchIndex.getCandidates(query));
+        assertEquals(List.of(knuth, lamport), searchIndex.search(query));
+    }
+
+    @Test
+    void grammarBasedSearchChecksFieldOfCandidates() {
+        assertEquals(Collections.emptyList(), searchIndex.search(new SearchQuery("title = knuth", false, false)));
+    }
+
+    @Test
+    void negationIsAnsweredWithoutIndex() {
+        SearchQuery query = new SearchQuery("not author = knuth", false, false);
+
+        assertFalse(searchIndex.getCandidates(query).isPresent());
+        assertEquals(List.of(lamport), searchIndex.search(query));
+    }
+
+    @Test
+    void regularExpressionIsAnsweredWithoutIndex() {
+        SearchQuery query = new SearchQuery("author = kn.th", false, true);
+
+        assertFalse(searchIndex.getCandidates(query).isPresent());
+        assertEquals(List.of(knuth), searchIndex.search(query));
+    }
+
+    @Test
+    void searchFindsShortInfixOfWord() {
+        assertEquals(List.of(knuth), searchIndex.search(new SearchQuery("nu", false, false)));
+    }
+
+    @Test
+    void searchFindsLongInfixOfWord() {
+        assertEquals(List.of(lamport), searchIndex.search(new SearchQuery("ocumen", false, false)));
+    }
+
+    @Test
+    void searchDoesNotFindWordContainingOnlyTheGramsOfSearchWord() {
+        // "lamport" contains "amp" and "mpo", but not "ampmpo"
+        assertEquals(Collections.emptyList(), searchIndex.search(new SearchQuery("ampmpo", false, false)));
+    }
+
+    @Test
+    void indexForgetsInfixesOfRemovedWords() {
+        searchIndex.search(new SearchQuery("knuth", false, false));
+
+        knuth.setField(StandardField.AUTHOR, "Leslie Lamport");
+
+        assertEquals(Optional.of(Set.of()), searchIndex.getCandidates(new SearchQuery("nut", false, false)));
+    }
+
+    @Test
+    void indexFollowsChangedEntries() {
+        searchIndex.search(new SearchQuery("knuth", false, false));
+
+        knuth.setField(StandardField.AUTHOR, "Leslie Lamport");
+
+        assertEquals(Collections.emptyList(), searchIndex.search(new SearchQuery("knuth", false, false)));
+        assertEquals(List.of(knuth, lamport), searchIndex.search(new SearchQuery("lamport", false, false)));
+    }
+
+    @Test
+    void indexFollowsAddedAndRemovedEntries() {
+        searchIndex.search(new SearchQuery("knuth", false, false));
+        BibEntry dijkstra = new BibEntry().withField(StandardField.AUTHOR, "Edsger W. Dijkstra");
+
+        database.insertEntry(dijkstra);
+        database.removeEntry(knuth);
+
+        assertEquals(List.of(dijkstra), searchIndex.search(new SearchQuery("dijkstra", false, false)));
+        assertEquals(Collections.emptyList(), searchIndex.search(new SearchQuery("knuth", false, false)));
+    }
+}
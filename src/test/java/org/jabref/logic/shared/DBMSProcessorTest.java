@@ -153,6 +153,51 @@ class DBMSProcessorTest {
         assertEquals(Optional.of(expectedEntry), actualEntry);
     }
 
+    @Test
+    void testUpdateEntryNeedsConstantNumberOfStatements() throws Exception {
+        StatementCountingConnection countingConnection = new StatementCountingConnection(TestConnector.getTestDBMSConnection(dbmsType));
+        DBMSProcessor countingProcessor = DBMSProcessor.getProcessorInstance(countingConnection);
+
+        BibEntry expectedEntry = getBibEntryExample();
+        countingProcessor.insertEntry(expectedEntry);
+        expectedEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+        expectedEntry.setField(StandardField.NOTE, "some note");
+        expectedEntry.clearField(StandardField.YEAR);
+        countingProcessor.updateEntry(expectedEntry);
+        // simulate the pull of the new version
+        expectedEntry.getSharedBibEntryData().setVersion(2);
+
+        countingConnection.resetCounters();
+        expectedEntry.setField(StandardField.AUTHOR, "Hutchings, Brad L");
+        expectedEntry.setField(StandardField.TITLE, "The micro multiplexer");
+        expectedEntry.setField(new UnknownField("customField"), "custom value");
+        expectedEntry.clearField(StandardField.BOOKTITLE);
+        countingProcessor.updateEntry(expectedEntry);
+
+        // select of the stored entry, one batch each for deleted, updated and inserted fields, update of the entry type
+        assertEquals(5, countingConnection.getExecutedStatements());
+        // only the select is prepared again, all write statements are reused
+        assertEquals(1, countingConnection.getPreparedStatements());
+        assertEquals(Optional.of(expectedEntry), dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void testCloseCachedStatementsLeavesNoStatementOpen() throws Exception {
+        StatementCountingConnection countingConnection = new StatementCountingConnection(TestConnector.getTestDBMSConnection(dbmsType));
+        DBMSProcessor countingProcessor = DBMSProcessor.getProcessorInstance(countingConnection);
+
+        BibEntry expectedEntry = getBibEntryExample();
+        countingProcessor.insertEntry(expectedEntry);
+        expectedEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+        expectedEntry.clearField(StandardField.YEAR);
+        countingProcessor.updateEntry(expectedEntry);
+        countingProcessor.getSharedEntriesVersionMark();
+
+        countingProcessor.closeCachedStatements();
+
+        assertEquals(0, countingConnection.getOpenStatements());
+    }
+
     @Test
     void testGetEntriesByIdList() throws Exception {
         BibEntry firstEntry = getBibEntryExample();
@@ -302,6 +347,25 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void testGetSharedEntriesVersionMark() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+
+        SharedEntriesVersionMark expectedMark = new SharedEntriesVersionMark(2, 3, secondEntry.getSharedBibEntryData().getSharedID());
+
+        assertEquals(Optional.of(expectedMark), dbmsProcessor.getSharedEntriesVersionMark());
+    }
+
+    @Test
+    void testGetSharedEntriesVersionMarkOfEmptyDatabase() {
+        assertEquals(Optional.of(new SharedEntriesVersionMark(0, 0, 0)), dbmsProcessor.getSharedEntriesVersionMark());
+    }
+
     @Test
     void testGetSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
 import org.jabref.logic.cleanup.FieldFormatterCleanups;
@@ -61,7 +62,7 @@ public class DBMSSynchronizerTest {
         bibDatabase = new BibDatabase();
         BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
 
-        dbmsSynchronizer = new DBMSSynchronizer(context, ',', pattern, new DummyFileUpdateMonitor());
+        dbmsSynchronizer = new DBMSSynchronizer(context, ',', pattern, new DummyFileUpdateMonitor(), new AuxKeyCache());
         bibDatabase.registerListener(dbmsSynchronizer);
 
         dbmsSynchronizer.openSharedDatabase(dbmsConnection);
@@ -201,6 +202,24 @@ public class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void testSynchronizeLocalDatabaseWithMultipleEntryUpdates() throws Exception {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        bibDatabase.insertEntries(firstEntry, secondEntry);
+
+        BibEntry modifiedFirstEntry = createExampleBibEntry(1)
+                .withField(StandardField.TITLE, "The first modified title");
+        BibEntry modifiedSecondEntry = createExampleBibEntry(2)
+                .withField(StandardField.TITLE, "The second modified title");
+        dbmsProcessor.updateEntry(modifiedFirstEntry);
+        dbmsProcessor.updateEntry(modifiedSecondEntry);
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(modifiedFirstEntry, modifiedSecondEntry), bibDatabase.getEntries());
+    }
+
     @Test
     public void updateEntryDoesNotModifyLocalDatabase() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,92 @@
+package org.jabref.logic.shared;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps a {@link DatabaseConnection} and counts the round trips to the database, i.e., every execution of a statement
+ * and every executed batch. Used to measure the number of statements needed per edit. Also keeps track of the
+ * statements which were created, but not closed yet.
+ */
+public class StatementCountingConnection implements DatabaseConnection {
+
+    private final DatabaseConnection delegate;
+    private final Connection countingConnection;
+    private final AtomicInteger executedStatements = new AtomicInteger();
+    private final AtomicInteger preparedStatements = new AtomicInteger();
+    private final AtomicInteger openStatements = new AtomicInteger();
+
+    public StatementCountingConnection(DatabaseConnection delegate) {
+        this.delegate = delegate;
+        this.countingConnection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(delegate.getConnection(), method, args);
+                    if (result instanceof PreparedStatement) {
+                        preparedStatements.incrementAndGet();
+                        return countExecutions((Statement) result, PreparedStatement.class);
+                    } else if (result instanceof Statement) {
+                        return countExecutions((Statement) result, Statement.class);
+                    }
+                    return result;
+                });
+    }
+
+    private Object countExecutions(Statement statement, Class<? extends Statement> type) {
+        openStatements.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        executedStatements.incrementAndGet();
+                    } else if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        openStatements.decrementAndGet();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    public int getExecutedStatements() {
+        return executedStatements.get();
+    }
+
+    public int getPreparedStatements() {
+        return preparedStatements.get();
+    }
+
+    public int getOpenStatements() {
+        return openStatements.get();
+    }
+
+    public void resetCounters() {
+        executedStatements.set(0);
+        preparedStatements.set(0);
+    }
+
+    @Override
+    public DatabaseConnectionProperties getProperties() {
+        return delegate.getProperties();
+    }
+
+    @Override
+    public Connection getConnection() {
+        return countingConnection;
+    }
+}
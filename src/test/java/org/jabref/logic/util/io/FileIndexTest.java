@@ -0,0 +1,166 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FileIndexTest {
+
+    private static final List<String> PDF_EXTENSION = Collections.singletonList("pdf");
+
+    private Path rootDir;
+    private Path subDir;
+    private Path pdfFile;
+    private Path pdfInSubDir;
+    private RecordingFileUpdateMonitor monitor;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectories(rootDir.resolve("sub"));
+        pdfFile = Files.createFile(rootDir.resolve("HipKro03 - Hello.pdf"));
+        pdfInSubDir = Files.createFile(subDir.resolve("HipKro03-sub.pdf"));
+        Files.createFile(subDir.resolve("HipKro03-sub.png"));
+        Files.createFile(subDir.resolve("Other.pdf"));
+        monitor = new RecordingFileUpdateMonitor();
+    }
+
+    @Test
+    void findsFilesByNamePrefixAndExtension() {
+        FileIndex index = new FileIndex(rootDir, monitor);
+
+        assertEquals(List.of(pdfFile, pdfInSubDir), index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION));
+    }
+
+    @Test
+    void listsDirectoriesBelowRoot() {
+        FileIndex index = new FileIndex(rootDir, monitor);
+
+        assertEquals(Optional.of(List.of(subDir)), index.getSubdirectories(rootDir));
+        assertEquals(Optional.of(List.of(subDir)), index.getAllSubdirectories(rootDir));
+        assertEquals(Optional.of(List.of(pdfFile)), index.getFiles(rootDir));
+    }
+
+    @Test
+    void directoryOutsideRootIsNotIndexed() {
+        FileIndex index = new FileIndex(subDir, monitor);
+
+        assertEquals(Optional.empty(), index.getFiles(rootDir));
+    }
+
+    @Test
+    void changedDirectoryIsListedAgain() throws IOException {
+        FileIndex index = new FileIndex(rootDir, monitor);
+        index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION);
+
+        Path newFile = Files.createFile(subDir.resolve("HipKro03-new.pdf"));
+        Files.delete(pdfFile);
+        monitor.notifyAbout(subDir);
+        monitor.notifyAbout(rootDir);
+
+        assertEquals(List.of(newFile, pdfInSubDir), index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION));
+    }
+
+    @Test
+    void newSubdirectoryIsIndexed() throws IOException {
+        FileIndex index = new FileIndex(rootDir, monitor);
+        index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION);
+
+        Path newDir = Files.createDirectories(subDir.resolve("new"));
+        Path newFile = Files.createFile(newDir.resolve("HipKro03.pdf"));
+        monitor.notifyAbout(subDir);
+
+        assertEquals(List.of(newFile), index.findFilesByNamePrefix("HipKro03.", PDF_EXTENSION));
+        assertEquals(Optional.of(List.of(subDir, newDir)), index.getAllSubdirectories(rootDir));
+    }
+
+    @Test
+    void unwatchedDirectoriesAreRevalidated() throws IOException {
+        FileIndex index = new FileIndex(rootDir, new DummyFileUpdateMonitor(), Duration.ZERO);
+        index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION);
+
+        Files.delete(pdfInSubDir);
+        // Make sure the modification time changes even on file systems with a coarse resolution
+        Files.setLastModifiedTime(subDir, FileTime.fromMillis(0));
+
+        assertEquals(List.of(pdfFile), index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION));
+    }
+
+    @Test
+    void closedIndexNoLongerWatchesDirectories() throws IOException {
+        FileIndex index = new FileIndex(rootDir, monitor, Duration.ZERO);
+        index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION);
+        assertEquals(Set.of(rootDir, subDir), monitor.getWatchedDirectories());
+
+        index.close();
+        assertEquals(Set.of(), monitor.getWatchedDirectories());
+
+        // Changes are still found through the modification time
+        Files.delete(pdfInSubDir);
+        Files.setLastModifiedTime(subDir, FileTime.fromMillis(0));
+        assertEquals(List.of(pdfFile), index.findFilesByNamePrefix("HipKro03", PDF_EXTENSION));
+        assertEquals(Set.of(), monitor.getWatchedDirectories());
+    }
+
+    @Test
+    void indexOfUnusedDirectoryIsClosed() {
+        FileIndexes indexes = new FileIndexes(monitor);
+        FileIndex rootIndex = indexes.getIndex(rootDir);
+        FileIndex subIndex = indexes.getIndex(subDir);
+        rootIndex.findFilesByNamePrefix("HipKro03", PDF_EXTENSION);
+        subIndex.findFilesByNamePrefix("HipKro03", PDF_EXTENSION);
+
+        indexes.retainDirectories(List.of(subDir));
+
+        assertSame(subIndex, indexes.getIndex(subDir));
+        assertNotSame(rootIndex, indexes.getIndex(rootDir));
+        assertEquals(Set.of(subDir), monitor.getWatchedDirectories());
+    }
+
+    private static class RecordingFileUpdateMonitor extends DummyFileUpdateMonitor {
+
+        private final Map<Path, FileUpdateListener> directoryListeners = new HashMap<>();
+
+        @Override
+        public void addListenerForDirectory(Path directory, FileUpdateListener listener) {
+            directoryListeners.put(directory, listener);
+        }
+
+        @Override
+        public void removeListener(Path path, FileUpdateListener listener) {
+            directoryListeners.remove(path, listener);
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        Set<Path> getWatchedDirectories() {
+            return directoryListeners.keySet();
+        }
+
+        void notifyAbout(Path directory) {
+            directoryListeners.get(directory).fileUpdated();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -345,6 +347,68 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void correctKeyCountAfterClearingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearField(InternalField.KEY_FIELD);
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void keyChangeOfRemovedEntryDoesNotAffectKeyCount() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        database.insertEntries(first, second);
+        second.setCitationKey("CCC");
+        first.setCitationKey("CCC");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("CCC"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("CCC"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyReturnsEqualEntriesSeparately() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second);
+        List<BibEntry> entriesWithKey = database.getEntriesByCitationKey("AAA");
+        assertEquals(2, entriesWithKey.size());
+        assertSame(first, entriesWithKey.get(0));
+        assertSame(second, entriesWithKey.get(1));
+    }
+
+    @Test
+    void isDuplicateCitationKeyExistingAfterKeyChange() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        database.insertEntries(first, second);
+        assertFalse(database.isDuplicateCitationKeyExisting("AAA"));
+        second.setCitationKey("AAA");
+        assertTrue(database.isDuplicateCitationKeyExisting("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
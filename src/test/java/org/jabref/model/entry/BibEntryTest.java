@@ -9,6 +9,8 @@ import java.util.Optional;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldChangedListener;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.InternalField;
@@ -656,4 +658,53 @@ class BibEntryTest {
         entry = new BibEntry().withField(StandardField.AUTHOR, "value");
         assertFalse(entry.hasChanged());
     }
+
+    @Test
+    void fieldChangedListenerIsNotifiedAboutChange() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        entry.addFieldChangedListener(events::add);
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(1, events.size());
+        assertEquals(StandardField.AUTHOR, events.get(0).getField());
+        assertEquals("value", events.get(0).getNewValue());
+    }
+
+    @Test
+    void removedFieldChangedListenerIsNotNotified() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        FieldChangedListener listener = events::add;
+        entry.addFieldChangedListener(listener);
+        entry.removeFieldChangedListener(listener);
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(Collections.emptyList(), events);
+    }
+
+    @Test
+    void fieldChangedListenerAddedTwiceIsNotifiedOnce() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        FieldChangedListener listener = events::add;
+        entry.addFieldChangedListener(listener);
+        entry.addFieldChangedListener(listener);
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void failingFieldChangedListenerDoesNotPreventOtherListeners() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        entry.addFieldChangedListener(event -> {
+            throw new IllegalStateException();
+        });
+        entry.addFieldChangedListener(events::add);
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(1, events.size());
+    }
 }
@@ -3,8 +3,7 @@ package org.jabref.model.groups;
 import java.nio.file.Path;
 
 import org.jabref.architecture.AllowedToUseLogic;
-import org.jabref.logic.auxparser.DefaultAuxParser;
-import org.jabref.model.database.BibDatabase;
+import org.jabref.logic.auxparser.AuxKeyCache;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.DummyFileUpdateMonitor;
@@ -29,7 +28,7 @@ public class TexGroupTest {
     @Test
     public void containsReturnsTrueForEntryInAux() throws Exception {
         Path auxFile = Path.of(TexGroupTest.class.getResource("paper.aux").toURI());
-        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), metaData);
+        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new AuxKeyCache(), new DummyFileUpdateMonitor(), metaData);
         BibEntry inAux = new BibEntry();
         inAux.setCitationKey("Darwin1888");
 
@@ -39,7 +38,7 @@ public class TexGroupTest {
     @Test
     public void containsReturnsTrueForEntryNotInAux() throws Exception {
         Path auxFile = Path.of(TexGroupTest.class.getResource("paper.aux").toURI());
-        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), metaData);
+        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new AuxKeyCache(), new DummyFileUpdateMonitor(), metaData);
         BibEntry notInAux = new BibEntry();
         notInAux.setCitationKey("NotInAux2017");
 
@@ -51,7 +50,7 @@ public class TexGroupTest {
         Path auxFile = Path.of(TexGroupTest.class.getResource("paper.aux").toURI());
         String user = "Darwin";
         metaData.setLatexFileDirectory(user, auxFile.getParent());
-        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), metaData, user);
+        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new AuxKeyCache(), new DummyFileUpdateMonitor(), metaData, user);
 
         assertEquals("paper.aux", group.getFilePath().toString());
     }
@@ -32,6 +32,36 @@ public class GrammarBasedSearchRuleTest {
         assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
     }
 
+    @Test
+    void applyRuleIsReusableForDifferentEntries() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+
+        String query = "title = marine AND year == 2001";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry().withField(StandardField.YEAR, "2002")));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleWithNegatedFieldComparison() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+
+        String query = "(NOT author = shields) OR entrytype = article";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry().withField(StandardField.AUTHOR, "Someone Else")));
+    }
+
+    @Test
+    void applyRuleWithInvalidRegexDoesNotMatch() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(true, true);
+
+        String query = "title = \"M[a-z\"";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
     public BibEntry makeBibtexEntry() {
         return new BibEntry(StandardEntryType.InCollection)
                 .withCitationKey("shields01")